@@ -0,0 +1,253 @@
+package com.coing.domain.coin.common.service;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * destination별 최신 값만 전송하는 STOMP Publisher
+ * <p>
+ * destination마다 전송 간격을 두고, 간격이 지난 뒤 처음 들어온 값은 즉시 전송합니다 (leading edge).
+ * 간격 안에 들어온 값은 최신 값 하나만 보관했다가 간격이 끝나는 시점에 전송하므로 (trailing edge),
+ * 연속 갱신이 멈춘 뒤에도 마지막 상태는 항상 클라이언트에 전달됩니다.
+ * <p>
+ * 대기 중인 destination은 hashed timer wheel에 등록하고, 하나의 스레드가 tick마다 만료된 칸만 확인하여 전송합니다.
+ * 전송 간격은 `custom.stomp.coalescing.intervals`에서 destination prefix별로 지정합니다 (가장 긴 prefix 우선).
+ * <p>
+ * 직전 전송 값 기준의 변경분처럼 실제 전송 시점에 만들어야 하는 payload는 Deferred로 전달합니다.
+ */
+@Service
+@Slf4j
+public class CoalescingPublisher {
+	private static final int WHEEL_SIZE = 512;
+	private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+	private final SimpMessageSendingOperations messagingTemplate;
+	private final Map<String, Slot> slots = new ConcurrentHashMap<>();
+	@SuppressWarnings("unchecked")
+	private final Queue<Slot>[] wheel = new Queue[WHEEL_SIZE];
+	private final LongAdder sentCount = new LongAdder();
+	private final LongAdder coalescedCount = new LongAdder();
+	private final LongAdder trailingCount = new LongAdder();
+	private volatile long processedTick;
+	private volatile boolean running;
+	private Thread worker;
+
+	@Value("${custom.stomp.coalescing.default-interval-ms:200}")
+	private long defaultIntervalMs;
+	@Value("#{${custom.stomp.coalescing.intervals:{:}}}")
+	private Map<String, Long> intervals;
+	@Value("${custom.stomp.coalescing.tick-ms:10}")
+	private long tickMs;
+
+	@Autowired
+	public CoalescingPublisher(SimpMessageSendingOperations messagingTemplate) {
+		this.messagingTemplate = messagingTemplate;
+		for (int i = 0; i < WHEEL_SIZE; i++) {
+			wheel[i] = new ConcurrentLinkedQueue<>();
+		}
+	}
+
+	public CoalescingPublisher(SimpMessageSendingOperations messagingTemplate, long defaultIntervalMs,
+		Map<String, Long> intervals, long tickMs) {
+		this(messagingTemplate);
+		this.defaultIntervalMs = defaultIntervalMs;
+		this.intervals = intervals;
+		this.tickMs = tickMs;
+	}
+
+	@PostConstruct
+	public void start() {
+		tickMs = Math.max(1, tickMs);
+		processedTick = currentTick();
+		running = true;
+		worker = new Thread(this::runWheel, "stomp-coalescing");
+		worker.setDaemon(true);
+		worker.start();
+	}
+
+	@PreDestroy
+	public void stop() {
+		running = false;
+		if (worker != null) {
+			worker.interrupt();
+		}
+	}
+
+	/**
+	 * destination의 최신 값 전송 요청
+	 * <p>
+	 * 전송 간격이 지났으면 호출 스레드에서 바로 전송하고, 아니면 최신 값으로 교체한 뒤 간격이 끝날 때 전송합니다.
+	 */
+	public void publish(String destination, Object payload) {
+		Slot slot = slots.computeIfAbsent(destination, this::createSlot);
+		if (slot.pending.getAndSet(payload) != null) {
+			coalescedCount.increment();
+		}
+		if (slot.scheduled.get()) {
+			return;
+		}
+		long now = System.currentTimeMillis();
+		if (now - slot.lastSentAt >= slot.intervalMs) {
+			send(slot, now);
+			return;
+		}
+		schedule(slot);
+	}
+
+	/**
+	 * 전송 시점에 payload를 만드는 값
+	 * <p>
+	 * 간격 안에 들어온 값은 마지막 Deferred만 resolve되며, null을 반환하면 전송하지 않습니다.
+	 */
+	@FunctionalInterface
+	public interface Deferred {
+		Object resolve();
+	}
+
+	public long getIntervalMs(String destination) {
+		return intervalOf(destination);
+	}
+
+	public long getSentCount() {
+		return sentCount.sum();
+	}
+
+	public long getCoalescedCount() {
+		return coalescedCount.sum();
+	}
+
+	public long getTrailingCount() {
+		return trailingCount.sum();
+	}
+
+	@Scheduled(fixedRate = 60000)
+	public void logMetrics() {
+		log.info("[CoalescingPublisher] destinations: {}, sent: {}, coalesced: {}, trailing: {}",
+			slots.size(), getSentCount(), getCoalescedCount(), getTrailingCount());
+	}
+
+	private Slot createSlot(String destination) {
+		return new Slot(destination, intervalOf(destination));
+	}
+
+	private long intervalOf(String destination) {
+		if (intervals == null || intervals.isEmpty()) {
+			return defaultIntervalMs;
+		}
+		return intervals.entrySet().stream()
+			.filter(entry -> destination.startsWith(entry.getKey()))
+			.max(Comparator.comparingInt(entry -> entry.getKey().length()))
+			.map(Map.Entry::getValue)
+			.orElse(defaultIntervalMs);
+	}
+
+	/**
+	 * 다음 전송 가능 시각의 tick 칸에 등록
+	 * <p>
+	 * 이미 지나간 tick이면 다음 tick에 등록하며, 한 바퀴보다 먼 시각은 도래할 때까지 칸을 다시 돌게 됩니다.
+	 */
+	private void schedule(Slot slot) {
+		if (!slot.scheduled.compareAndSet(false, true)) {
+			return;
+		}
+		slot.deadline = slot.lastSentAt + slot.intervalMs;
+		long tick = Math.max(tickOf(slot.deadline), processedTick + 1);
+		wheel[(int)(tick & WHEEL_MASK)].add(slot);
+	}
+
+	private boolean send(Slot slot, long now) {
+		Object payload = slot.pending.getAndSet(null);
+		if (payload == null) {
+			return false;
+		}
+		slot.lastSentAt = now;
+		try {
+			Object message = (payload instanceof Deferred deferred) ? deferred.resolve() : payload;
+			if (message == null) {
+				return false;
+			}
+			messagingTemplate.convertAndSend(slot.destination, message);
+			sentCount.increment();
+			return true;
+		} catch (Exception e) {
+			log.error("[{}] Failed to publish: {}", slot.destination, e.getMessage(), e);
+			return false;
+		}
+	}
+
+	private void runWheel() {
+		while (running) {
+			long target = currentTick();
+			while (processedTick < target) {
+				long tick = processedTick + 1;
+				expire(wheel[(int)(tick & WHEEL_MASK)], tick);
+				processedTick = tick;
+			}
+			LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(tickMs));
+		}
+	}
+
+	private void expire(Queue<Slot> bucket, long tick) {
+		int count = bucket.size();
+		for (int i = 0; i < count; i++) {
+			Slot slot = bucket.poll();
+			if (slot == null) {
+				return;
+			}
+			if (tickOf(slot.deadline) > tick) {
+				// 한 바퀴 이후에 도래할 항목
+				bucket.add(slot);
+				continue;
+			}
+			if (send(slot, System.currentTimeMillis())) {
+				trailingCount.increment();
+			}
+			slot.scheduled.set(false);
+			// 전송과 scheduled 해제 사이에 들어온 값이 있으면 다시 등록
+			if (slot.pending.get() != null) {
+				schedule(slot);
+			}
+		}
+	}
+
+	private long currentTick() {
+		return System.currentTimeMillis() / tickMs;
+	}
+
+	// 시각이 속한 tick (올림), 해당 tick을 처리할 때는 항상 시각이 지난 상태
+	private long tickOf(long timeMillis) {
+		return (timeMillis + tickMs - 1) / tickMs;
+	}
+
+	private static final class Slot {
+		private final String destination;
+		private final long intervalMs;
+		private final AtomicReference<Object> pending = new AtomicReference<>();
+		private final AtomicBoolean scheduled = new AtomicBoolean();
+		private volatile long lastSentAt;
+		private volatile long deadline;
+
+		private Slot(String destination, long intervalMs) {
+			this.destination = destination;
+			this.intervalMs = intervalMs;
+		}
+	}
+}
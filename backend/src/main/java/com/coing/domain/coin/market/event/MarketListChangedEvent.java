@@ -0,0 +1,15 @@
+package com.coing.domain.coin.market.event;
+
+import java.util.List;
+
+/**
+ * 마켓 목록 갱신 결과 변경 이벤트
+ *
+ * @param added   새로 추가된(상장) 마켓 코드
+ * @param removed 목록에서 제외된(상장 폐지) 마켓 코드
+ */
+public record MarketListChangedEvent(
+	List<String> added,
+	List<String> removed
+) {
+}
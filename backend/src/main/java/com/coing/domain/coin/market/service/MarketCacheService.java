@@ -20,9 +20,14 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class MarketCacheService {
 
+	/**
+	 * 갱신(put)과 조회(get)가 같은 항목을 가리키도록 마켓 목록 캐시는 고정 키 하나만 사용합니다.
+	 */
+	private static final String MARKETS_KEY = "'all'";
+
 	private final MarketRepository marketRepository;
 
-	@CachePut(value = "markets")
+	@CachePut(value = "markets", key = MARKETS_KEY)
 	public Map<String, Market> updateMarketCache(List<Market> markets) {
 		log.info("[MarketCacheService] Updating cache with {} markets", markets.size());
 
@@ -30,7 +35,7 @@ public class MarketCacheService {
 			.collect(Collectors.toMap(Market::getCode, Function.identity()));
 	}
 
-	@Cacheable(value = "markets")
+	@Cacheable(value = "markets", key = MARKETS_KEY)
 	public Map<String, Market> getCachedMarketMap() {
 		return marketRepository.findAll().stream()
 			.collect(Collectors.toMap(Market::getCode, Function.identity()));
@@ -9,6 +9,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
@@ -23,6 +24,7 @@ import com.coing.domain.bookmark.repository.BookmarkRepository;
 import com.coing.domain.coin.market.dto.MarketDto;
 import com.coing.domain.coin.market.dto.MarketResponseDto;
 import com.coing.domain.coin.market.entity.Market;
+import com.coing.domain.coin.market.event.MarketListChangedEvent;
 import com.coing.domain.coin.market.repository.MarketRepository;
 import com.coing.domain.user.dto.CustomUserPrincipal;
 import com.coing.global.exception.BusinessException;
@@ -45,13 +47,34 @@ public class MarketService {
 	private final BookmarkRepository bookmarkRepository;
 	private final MarketRepository marketRepository;
 	private final RestTemplate restTemplate;
+	private final ApplicationEventPublisher eventPublisher;
 
 	// 업비트
 	@Transactional
 	@Scheduled(initialDelay = 0, fixedRate = 6 * 60 * 60 * 1000)
 	public void updateMarketList() {
 		List<Market> markets = fetchAndUpdateCoins();
+		updateCacheAndNotify(markets);
+	}
+
+	/**
+	 * 마켓 캐시 갱신 후 이전 목록과 달라진 마켓 코드가 있으면 MarketListChangedEvent 발행
+	 * <p>
+	 * WebSocket 구독은 연결 시점의 마켓 목록으로 고정되므로, 이벤트를 받은 infra 계층이 기존 연결에 구독 메시지를 다시 전송합니다.
+	 * 리스너는 @TransactionalEventListener(AFTER_COMMIT)로 마켓 저장이 커밋된 뒤 실행되어, 네트워크 I/O가 DB 연결을 점유하거나 리스너 예외가 저장을 롤백하지 않습니다.
+	 */
+	private void updateCacheAndNotify(List<Market> markets) {
+		Set<String> previous = new HashSet<>(marketCacheService.getCachedMarketMap().keySet());
 		marketCacheService.updateMarketCache(markets);
+		Set<String> current = markets.stream().map(Market::getCode).collect(Collectors.toSet());
+
+		List<String> added = current.stream().filter(code -> !previous.contains(code)).sorted().toList();
+		List<String> removed = previous.stream().filter(code -> !current.contains(code)).sorted().toList();
+		if (added.isEmpty() && removed.isEmpty()) {
+			return;
+		}
+		log.info("[Market] Market list changed. added: {}, removed: {}", added, removed);
+		eventPublisher.publishEvent(new MarketListChangedEvent(added, removed));
 	}
 
 	// 업비트
@@ -108,7 +131,7 @@ public class MarketService {
 	public void refreshMarketList() {
 		log.info("[Market] Refresh market list");
 		List<Market> markets = fetchAndUpdateCoins();
-		marketCacheService.updateMarketCache(markets);
+		updateCacheAndNotify(markets);
 	}
 
 	// 컨트롤러
@@ -0,0 +1,97 @@
+package com.coing.domain.coin.orderbook.controller;
+
+import java.util.List;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.coing.domain.coin.common.enums.AskBid;
+import com.coing.domain.coin.orderbook.dto.OrderbookDto;
+import com.coing.domain.coin.orderbook.dto.OrderbookHeatmapResponse;
+import com.coing.domain.coin.orderbook.dto.OrderbookResponse;
+import com.coing.domain.coin.orderbook.dto.OrderbookSlippageResponse;
+import com.coing.domain.coin.orderbook.dto.OrderbooksResponse;
+import com.coing.domain.coin.orderbook.service.OrderbookHistoryService;
+import com.coing.domain.coin.orderbook.service.OrderbookService;
+import com.coing.domain.coin.orderbook.service.OrderbookSlippageService;
+import com.coing.global.exception.doc.ApiErrorCodeExamples;
+import com.coing.global.exception.doc.ErrorCode;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/orderbook")
+@Tag(name = "Orderbook API", description = "호가 조회 관련 API 엔드포인트")
+public class OrderbookController {
+
+	private final OrderbookService orderbookService;
+	private final OrderbookHistoryService orderbookHistoryService;
+	private final OrderbookSlippageService orderbookSlippageService;
+
+	/**
+	 * 캐시된 최신 호가 조회
+	 * <p>
+	 * ETag는 마켓별 호가 버전과 timestamp로 만들며, If-None-Match가 일치하면 본문 없이 304를 반환합니다.
+	 */
+	@Operation(summary = "특정 마켓 호가 조회")
+	@GetMapping("/{market}")
+	@ApiErrorCodeExamples({ErrorCode.ORDERBOOK_NOT_FOUND})
+	public ResponseEntity<OrderbookResponse> getOrderbook(@PathVariable("market") String market) {
+		OrderbookDto orderbook = orderbookService.getOrderbook(market);
+		return ResponseEntity.ok()
+			.cacheControl(CacheControl.noCache())
+			.eTag(eTagOf(List.of(orderbook)))
+			.body(OrderbookResponse.from(orderbook));
+	}
+
+	@Operation(summary = "여러 마켓 호가 조회", description = "수신한 호가가 없는 마켓은 결과에서 제외")
+	@GetMapping
+	public ResponseEntity<OrderbooksResponse> getOrderbooks(@RequestParam("markets") List<String> markets) {
+		List<OrderbookDto> orderbooks = orderbookService.getOrderbooks(markets);
+		return ResponseEntity.ok()
+			.cacheControl(CacheControl.noCache())
+			.eTag(eTagOf(orderbooks))
+			.body(OrderbooksResponse.from(orderbooks));
+	}
+
+	@Operation(summary = "특정 마켓 호가 잔량 heatmap 조회", description = "from(ms) 이후 스냅샷의 시간 × 가격 구간 잔량 행렬")
+	@GetMapping("/{market}/heatmap")
+	@ApiErrorCodeExamples({ErrorCode.ORDERBOOK_NOT_FOUND})
+	public ResponseEntity<OrderbookHeatmapResponse> getHeatmap(@PathVariable("market") String market,
+		@RequestParam(name = "from", defaultValue = "0") long from,
+		@RequestParam(name = "priceBuckets", defaultValue = "50") int priceBuckets) {
+		OrderbookHeatmapResponse response = OrderbookHeatmapResponse.of(market,
+			orderbookHistoryService.getHeatmap(market, from, priceBuckets));
+		return ResponseEntity.ok(response);
+	}
+
+	@Operation(summary = "특정 마켓 시장가 주문 슬리피지 추정",
+		description = "side(BID: 매수, ASK: 매도)와 quantity(수량) 또는 amount(금액) 중 하나로 현재 호가 기준 평균 체결 가격 추정")
+	@GetMapping("/{market}/slippage")
+	@ApiErrorCodeExamples({ErrorCode.ORDERBOOK_NOT_FOUND, ErrorCode.INVALID_ORDER_SIZE})
+	public ResponseEntity<OrderbookSlippageResponse> getSlippage(@PathVariable("market") String market,
+		@RequestParam("side") AskBid side,
+		@RequestParam(name = "quantity", required = false) Double quantity,
+		@RequestParam(name = "amount", required = false) Double amount) {
+		return ResponseEntity.ok(orderbookSlippageService.estimate(market, side, quantity, amount));
+	}
+
+	// 마켓 코드, 버전, timestamp 조합의 해시 (버전은 캐시 제거 후 다시 1부터 시작하므로 timestamp도 포함)
+	private static String eTagOf(List<OrderbookDto> orderbooks) {
+		long hash = 17;
+		for (OrderbookDto orderbook : orderbooks) {
+			hash = hash * 31 + orderbook.code().hashCode();
+			hash = hash * 31 + orderbook.version();
+			hash = hash * 31 + orderbook.timestamp();
+		}
+		return "\"" + Long.toHexString(hash) + "\"";
+	}
+}
@@ -0,0 +1,27 @@
+package com.coing.domain.coin.orderbook.controller;
+
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
+import org.springframework.stereotype.Controller;
+
+import com.coing.domain.coin.orderbook.dto.OrderbookDto;
+import com.coing.domain.coin.orderbook.service.OrderbookService;
+
+import lombok.RequiredArgsConstructor;
+
+@Controller
+@RequiredArgsConstructor
+public class OrderbookWebSocketController {
+
+	private final OrderbookService orderbookService;
+
+	/**
+	 * 클라이언트는 /app/coin/orderbook/{market}/snapshot을 구독하여 변경분 적용 기준이 되는 전체 호가를 한 번 받습니다.
+	 * 응답은 broker를 거치지 않고 구독한 세션에만 전송됩니다.
+	 * 이후 /sub/coin/orderbook/{market}/delta의 baseVersion이 보유한 version과 다르면 다시 구독하여 스냅샷을 받습니다.
+	 */
+	@SubscribeMapping("/coin/orderbook/{market}/snapshot")
+	public OrderbookDto snapshot(@DestinationVariable("market") String market) {
+		return orderbookService.getSnapshot(market);
+	}
+}
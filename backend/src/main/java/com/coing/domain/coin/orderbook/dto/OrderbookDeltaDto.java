@@ -0,0 +1,92 @@
+package com.coing.domain.coin.orderbook.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.coing.domain.coin.orderbook.entity.OrderbookIndicators.LiquidityBand;
+import com.coing.domain.coin.orderbook.entity.OrderbookLevels;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.Builder;
+
+/**
+ * 호가 변경분 DTO
+ * <p>
+ * baseVersion 호가에서 바뀐 호가 단위만 담습니다. 클라이언트는 보유한 호가 버전이 baseVersion과 같을 때만 적용하고,
+ * 다르면 스냅샷을 다시 요청합니다. baseVersion이 0이면 전체 호가 단위를 담은 변경분입니다.
+ */
+@Builder
+public record OrderbookDeltaDto(
+	String type,                        // "orderbookDelta"
+	String code,                        // 마켓 코드 (ex. KRW-BTC)
+	long version,                        // 적용 후 호가 버전
+	long baseVersion,                    // 적용 기준 호가 버전
+	double totalAskSize,                // 호가 매도 총 잔량
+	double totalBidSize,                // 호가 매수 총 잔량
+	int size,                            // 적용 후 호가 단위 수 (초과 단위는 삭제)
+	List<LevelChange> changes,            // 바뀐 호가 단위 목록
+	long timestamp,                    // 타임스탬프 (millisecond)
+	double midPrice,                    // 중간 가격
+	double spread,                        // 매도/매수 호가 차이
+	double imbalance,                    // 잔량 불균형
+	double liquidityDepth,                // 중간 가격 기준 ±X% 유동성 비율
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	List<LiquidityBand> liquidityBands,    // 중간 가격 기준 구간별 유동성 비율
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	Double weightedMidPrice,            // 잔량 가중 중간 가격
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	Double microPrice                    // 최우선 호가 잔량 가중 가격
+) {
+	public static final String TYPE = "orderbookDelta";
+
+	/**
+	 * index 위치의 호가 단위 전체 값
+	 */
+	public record LevelChange(int index, double askPrice, double bidPrice, double askSize, double bidSize) {
+	}
+
+	/**
+	 * base 호가에서 current 호가로의 변경분 생성
+	 *
+	 * @param base 마지막으로 전송한 호가, 없으면 null (전체 호가 단위를 변경분으로 담음)
+	 */
+	public static OrderbookDeltaDto between(OrderbookDto base, OrderbookDto current) {
+		OrderbookLevels from = (base != null) ? base.orderbookUnits() : null;
+		OrderbookLevels to = current.orderbookUnits();
+		int size = (to != null) ? to.size() : 0;
+
+		List<LevelChange> changes = new ArrayList<>();
+		for (int i = 0; i < size; i++) {
+			if (from == null || i >= from.size() || !sameLevel(from, to, i)) {
+				changes.add(new LevelChange(i, to.getAskPrice(i), to.getBidPrice(i), to.getAskSize(i),
+					to.getBidSize(i)));
+			}
+		}
+
+		return OrderbookDeltaDto.builder()
+			.type(TYPE)
+			.code(current.code())
+			.version(current.version())
+			.baseVersion((base != null) ? base.version() : 0L)
+			.totalAskSize(current.totalAskSize())
+			.totalBidSize(current.totalBidSize())
+			.size(size)
+			.changes(changes)
+			.timestamp(current.timestamp())
+			.midPrice(current.midPrice())
+			.spread(current.spread())
+			.imbalance(current.imbalance())
+			.liquidityDepth(current.liquidityDepth())
+			.liquidityBands(current.liquidityBands())
+			.weightedMidPrice(current.weightedMidPrice())
+			.microPrice(current.microPrice())
+			.build();
+	}
+
+	private static boolean sameLevel(OrderbookLevels from, OrderbookLevels to, int i) {
+		return Double.compare(from.getAskPrice(i), to.getAskPrice(i)) == 0
+			&& Double.compare(from.getBidPrice(i), to.getBidPrice(i)) == 0
+			&& Double.compare(from.getAskSize(i), to.getAskSize(i)) == 0
+			&& Double.compare(from.getBidSize(i), to.getBidSize(i)) == 0;
+	}
+}
@@ -3,25 +3,52 @@ package com.coing.domain.coin.orderbook.dto;
 import java.util.List;
 
 import com.coing.domain.coin.orderbook.entity.Orderbook;
-import com.coing.domain.coin.orderbook.entity.OrderbookUnit;
+import com.coing.domain.coin.orderbook.entity.OrderbookIndicatorEngine;
+import com.coing.domain.coin.orderbook.entity.OrderbookIndicators;
+import com.coing.domain.coin.orderbook.entity.OrderbookIndicators.LiquidityBand;
+import com.coing.domain.coin.orderbook.entity.OrderbookLevels;
+import com.fasterxml.jackson.annotation.JsonInclude;
 
 import lombok.Builder;
 
-@Builder
+@Builder(toBuilder = true)
 public record OrderbookDto(
 	String type,                        // "orderbook"
 	String code,                        // 마켓 코드 (ex. KRW-BTC)
 	double totalAskSize,                // 호가 매도 총 잔량
 	double totalBidSize,                // 호가 매수 총 잔량
-	List<OrderbookUnit> orderbookUnits, // 상세 호가 정보 목록
+	OrderbookLevels orderbookUnits,     // 상세 호가 정보 목록
 	long timestamp,                    // 타임스탬프 (millisecond)
+	long version,                        // 마켓별 호가 버전 (갱신마다 1씩 증가)
 	double level,                        // 호가 모아보기 단위 (default:0)
 	double midPrice,                    // 중간 가격
 	double spread,                        // 매도/매수 호가 차이
 	double imbalance,                    // 잔량 불균형
-	double liquidityDepth                // 중간 가격 기준 ±X% 유동성 비율
+	double liquidityDepth,                // 중간 가격 기준 ±X% 유동성 비율
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	List<LiquidityBand> liquidityBands,    // 중간 가격 기준 구간별 유동성 비율
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	Double weightedMidPrice,            // 잔량 가중 중간 가격
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	Double microPrice                    // 최우선 호가 잔량 가중 가격
 ) {
 	public static OrderbookDto from(Orderbook orderbook) {
+		return of(orderbook, OrderbookIndicatorEngine.defaults().calculate(orderbook));
+	}
+
+	/**
+	 * 미리 계산한 지표로 DTO 생성
+	 * <p>
+	 * 선택하지 않은 추가 지표(null)는 JSON에 포함하지 않습니다.
+	 */
+	public static OrderbookDto of(Orderbook orderbook, OrderbookIndicators indicators) {
+		return of(orderbook, indicators, 0L);
+	}
+
+	/**
+	 * 미리 계산한 지표와 마켓별 호가 버전으로 DTO 생성
+	 */
+	public static OrderbookDto of(Orderbook orderbook, OrderbookIndicators indicators, long version) {
 		return OrderbookDto.builder()
 			.type(orderbook.getType())
 			.code(orderbook.getCode())
@@ -29,11 +56,15 @@ public record OrderbookDto(
 			.totalBidSize(orderbook.getTotalBidSize())
 			.orderbookUnits(orderbook.getOrderbookUnits())
 			.timestamp(orderbook.getTimestamp())
+			.version(version)
 			.level(orderbook.getLevel())
-			.midPrice(orderbook.getMidPrice())
-			.spread(orderbook.getSpread())
-			.imbalance(orderbook.getImbalance())
-			.liquidityDepth(orderbook.getLiquidityDepth())
+			.midPrice(indicators.midPrice())
+			.spread(indicators.spread())
+			.imbalance(indicators.imbalance())
+			.liquidityDepth(indicators.liquidityDepth())
+			.liquidityBands(indicators.liquidityBands())
+			.weightedMidPrice(indicators.weightedMidPrice())
+			.microPrice(indicators.microPrice())
 			.build();
 	}
 }
@@ -0,0 +1,29 @@
+package com.coing.domain.coin.orderbook.dto;
+
+import com.coing.domain.coin.orderbook.entity.OrderbookHeatmap;
+
+import lombok.Builder;
+
+@Builder
+public record OrderbookHeatmapResponse(
+	String code,            // 마켓 코드 (ex. KRW-BTC)
+	long[] timestamps,      // 행별 스냅샷 시각 (오래된 순)
+	double[] prices,        // 열별 가격 구간 하한
+	double priceStep,       // 가격 구간 폭
+	double[][] depth        // depth[행][열] = 구간 안의 매도 + 매수 잔량
+) {
+	public static OrderbookHeatmapResponse of(String code, OrderbookHeatmap heatmap) {
+		int buckets = (heatmap.depth().length > 0) ? heatmap.depth()[0].length : 0;
+		double[] prices = new double[buckets];
+		for (int i = 0; i < buckets; i++) {
+			prices[i] = heatmap.lowPrice() + heatmap.priceStep() * i;
+		}
+		return OrderbookHeatmapResponse.builder()
+			.code(code)
+			.timestamps(heatmap.timestamps())
+			.prices(prices)
+			.priceStep(heatmap.priceStep())
+			.depth(heatmap.depth())
+			.build();
+	}
+}
@@ -0,0 +1,12 @@
+package com.coing.domain.coin.orderbook.dto;
+
+import lombok.Builder;
+
+@Builder
+public record OrderbookResponse(
+	OrderbookDto orderbook
+) {
+	public static OrderbookResponse from(OrderbookDto orderbook) {
+		return OrderbookResponse.builder().orderbook(orderbook).build();
+	}
+}
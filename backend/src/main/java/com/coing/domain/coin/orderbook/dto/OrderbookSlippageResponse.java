@@ -0,0 +1,39 @@
+package com.coing.domain.coin.orderbook.dto;
+
+import com.coing.domain.coin.common.enums.AskBid;
+import com.coing.domain.coin.orderbook.entity.OrderbookDepthCurve;
+import com.coing.domain.coin.orderbook.entity.OrderbookSlippage;
+
+import lombok.Builder;
+
+@Builder
+public record OrderbookSlippageResponse(
+	String code,                // 마켓 코드 (ex. KRW-BTC)
+	AskBid side,                // 주문 방향 (BID: 매수, ASK: 매도)
+	long version,               // 추정에 사용한 호가 버전
+	double midPrice,            // 중간 가격
+	double filledQuantity,      // 체결 수량
+	double filledAmount,        // 체결 금액
+	double averagePrice,        // 평균 체결 가격
+	double worstPrice,          // 마지막으로 닿는 호가 가격
+	int worstLevel,             // 마지막으로 닿는 호가 단위 위치 (최우선 호가 = 0)
+	double slippagePercent,     // 중간 가격 대비 슬리피지 (%)
+	boolean fullyFilled         // 현재 잔량으로 전체 체결 가능 여부
+) {
+	public static OrderbookSlippageResponse of(String code, AskBid side, OrderbookDepthCurve curve,
+		OrderbookSlippage slippage) {
+		return OrderbookSlippageResponse.builder()
+			.code(code)
+			.side(side)
+			.version(curve.getVersion())
+			.midPrice(curve.getMidPrice())
+			.filledQuantity(slippage.filledQuantity())
+			.filledAmount(slippage.filledAmount())
+			.averagePrice(slippage.averagePrice())
+			.worstPrice(slippage.worstPrice())
+			.worstLevel(slippage.worstLevel())
+			.slippagePercent(slippage.slippagePercent())
+			.fullyFilled(slippage.fullyFilled())
+			.build();
+	}
+}
@@ -0,0 +1,36 @@
+package com.coing.domain.coin.orderbook.dto;
+
+import com.coing.domain.coin.common.enums.AskBid;
+import com.coing.domain.coin.orderbook.entity.OrderbookWallEvent;
+import com.coing.domain.coin.orderbook.enums.OrderbookWallEventType;
+
+import lombok.Builder;
+
+@Builder
+public record OrderbookWallEventDto(
+	String type,                        // "orderbookWall"
+	String code,                        // 마켓 코드 (ex. KRW-BTC)
+	OrderbookWallEventType event,        // APPEARED, REMOVED, SPOOF_SUSPECTED
+	AskBid side,                        // ASK: 매도 호가 벽, BID: 매수 호가 벽
+	double price,                        // 벽 가격
+	double size,                        // 벽 잔량
+	double zScore,                        // 마켓 잔량 분포 대비 z-score
+	long lifetimeMs,                    // 등장 후 경과 시간
+	long timestamp                        // 타임스탬프 (millisecond)
+) {
+	public static final String TYPE = "orderbookWall";
+
+	public static OrderbookWallEventDto of(String code, OrderbookWallEvent event) {
+		return OrderbookWallEventDto.builder()
+			.type(TYPE)
+			.code(code)
+			.event(event.type())
+			.side(event.side())
+			.price(event.price())
+			.size(event.size())
+			.zScore(event.zScore())
+			.lifetimeMs(event.lifetimeMs())
+			.timestamp(event.timestamp())
+			.build();
+	}
+}
@@ -0,0 +1,12 @@
+package com.coing.domain.coin.orderbook.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+
+@Builder
+public record OrderbooksResponse(List<OrderbookDto> orderbooks) {
+	public static OrderbooksResponse from(List<OrderbookDto> orderbooks) {
+		return OrderbooksResponse.builder().orderbooks(orderbooks).build();
+	}
+}
@@ -5,9 +5,12 @@ import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.experimental.Tolerate;
 
 /**
  * Orderbook Entity
+ * <p>
+ * 호가 단위 목록은 병렬 double 배열 기반의 OrderbookLevels로 보관합니다.
  */
 @Getter
 @AllArgsConstructor
@@ -17,7 +20,7 @@ public class Orderbook {
 	private String code;         // 마켓 코드 (ex. KRW-BTC)
 	private double totalAskSize; // 호가 매도 총 잔량
 	private double totalBidSize; // 호가 매수 총 잔량
-	private List<OrderbookUnit> orderbookUnits; // 상세 호가 정보 목록
+	private OrderbookLevels orderbookUnits; // 상세 호가 정보 목록
 	private long timestamp;      // 타임스탬프 (millisecond)
 	private double level;        // 호가 모아보기 단위 (default:0)
 
@@ -38,8 +41,8 @@ public class Orderbook {
 		if (orderbookUnits == null || orderbookUnits.isEmpty()) {
 			return new OrderbookBestPrices(0.0, 0.0);
 		}
-		double bestAsk = orderbookUnits.getFirst().getAskPrice();
-		double bestBid = orderbookUnits.getFirst().getBidPrice();
+		double bestAsk = orderbookUnits.getAskPrice(0);
+		double bestBid = orderbookUnits.getBidPrice(0);
 
 		return new OrderbookBestPrices(bestAsk, bestBid);
 	}
@@ -107,17 +110,29 @@ public class Orderbook {
 
 		double liquidityInRange = 0.0;
 		double totalLiquidity = 0.0;
-		for (OrderbookUnit unit : orderbookUnits) {
-			double askPrice = unit.getAskPrice();
-			double bidPrice = unit.getBidPrice();
+		for (int i = 0; i < orderbookUnits.size(); i++) {
+			double askPrice = orderbookUnits.getAskPrice(i);
+			double bidPrice = orderbookUnits.getBidPrice(i);
+			double askSize = orderbookUnits.getAskSize(i);
+			double bidSize = orderbookUnits.getBidSize(i);
 			if (askPrice >= lowerBound && askPrice <= upperBound) {
-				liquidityInRange += unit.getAskSize();
+				liquidityInRange += askSize;
 			}
 			if (bidPrice >= lowerBound && bidPrice <= upperBound) {
-				liquidityInRange += unit.getBidSize();
+				liquidityInRange += bidSize;
 			}
-			totalLiquidity += unit.getAskSize() + unit.getBidSize();
+			totalLiquidity += askSize + bidSize;
 		}
 		return (totalLiquidity > 0) ? (liquidityInRange / totalLiquidity) * 100.0 : 0.0;
 	}
-}
\ No newline at end of file
+
+	public static class OrderbookBuilder {
+		/**
+		 * OrderbookUnit 목록으로 호가 단위 지정
+		 */
+		@Tolerate
+		public OrderbookBuilder orderbookUnits(List<OrderbookUnit> units) {
+			return orderbookUnits(OrderbookLevels.from(units));
+		}
+	}
+}
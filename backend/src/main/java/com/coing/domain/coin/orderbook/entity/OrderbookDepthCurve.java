@@ -0,0 +1,122 @@
+package com.coing.domain.coin.orderbook.entity;
+
+import com.coing.domain.coin.common.enums.AskBid;
+
+/**
+ * 호가 누적 잔량 곡선
+ * <p>
+ * 매도/매수 호가별로 최우선 호가부터의 누적 수량과 누적 금액(가격 × 수량) prefix sum을 한 번 계산해 두고,
+ * 주문 크기별 체결 추정은 누적 배열의 이진 탐색으로 처리합니다.
+ * 슬리피지 기준 중간 가격은 선택 지표(MID_PRICE) 설정과 무관하도록 최우선 매도/매수 호가로 직접 계산합니다.
+ * 인스턴스는 생성 후 변경하지 않으므로 여러 요청 스레드에서 동시에 조회할 수 있습니다.
+ */
+public class OrderbookDepthCurve {
+	private final long version;
+	private final double midPrice;
+	private final double[] askPrices;
+	private final double[] bidPrices;
+	// 길이 n + 1, [k] = 최우선 호가부터 k개 호가 단위의 합 ([0] = 0)
+	private final double[] askCumSizes;
+	private final double[] askCumAmounts;
+	private final double[] bidCumSizes;
+	private final double[] bidCumAmounts;
+
+	public OrderbookDepthCurve(OrderbookLevels levels, long version) {
+		int size = levels.size();
+		this.version = version;
+		this.midPrice = (size > 0 && levels.getAskPrice(0) > 0 && levels.getBidPrice(0) > 0)
+			? (levels.getAskPrice(0) + levels.getBidPrice(0)) / 2.0
+			: 0.0;
+		this.askPrices = new double[size];
+		this.bidPrices = new double[size];
+		this.askCumSizes = new double[size + 1];
+		this.askCumAmounts = new double[size + 1];
+		this.bidCumSizes = new double[size + 1];
+		this.bidCumAmounts = new double[size + 1];
+		for (int i = 0; i < size; i++) {
+			askPrices[i] = levels.getAskPrice(i);
+			bidPrices[i] = levels.getBidPrice(i);
+			askCumSizes[i + 1] = askCumSizes[i] + levels.getAskSize(i);
+			askCumAmounts[i + 1] = askCumAmounts[i] + levels.getAskPrice(i) * levels.getAskSize(i);
+			bidCumSizes[i + 1] = bidCumSizes[i] + levels.getBidSize(i);
+			bidCumAmounts[i + 1] = bidCumAmounts[i] + levels.getBidPrice(i) * levels.getBidSize(i);
+		}
+	}
+
+	public long getVersion() {
+		return version;
+	}
+
+	public double getMidPrice() {
+		return midPrice;
+	}
+
+	/**
+	 * 수량 기준 시장가 주문 체결 추정
+	 *
+	 * @param side BID(매수)는 매도 호가를, ASK(매도)는 매수 호가를 소진
+	 */
+	public OrderbookSlippage estimateByQuantity(AskBid side, double quantity) {
+		double[] cumSizes = (side == AskBid.BID) ? askCumSizes : bidCumSizes;
+		double[] cumAmounts = (side == AskBid.BID) ? askCumAmounts : bidCumAmounts;
+		double[] prices = (side == AskBid.BID) ? askPrices : bidPrices;
+
+		int level = lowerBound(cumSizes, quantity);
+		if (level < 0) {
+			return fill(side, prices, cumSizes[prices.length], cumAmounts[prices.length], prices.length, false);
+		}
+		double amount = cumAmounts[level - 1] + (quantity - cumSizes[level - 1]) * prices[level - 1];
+		return fill(side, prices, quantity, amount, level, true);
+	}
+
+	/**
+	 * 금액(호가 통화 기준, ex. KRW) 기준 시장가 주문 체결 추정
+	 */
+	public OrderbookSlippage estimateByAmount(AskBid side, double amount) {
+		double[] cumSizes = (side == AskBid.BID) ? askCumSizes : bidCumSizes;
+		double[] cumAmounts = (side == AskBid.BID) ? askCumAmounts : bidCumAmounts;
+		double[] prices = (side == AskBid.BID) ? askPrices : bidPrices;
+
+		int level = lowerBound(cumAmounts, amount);
+		if (level < 0) {
+			return fill(side, prices, cumSizes[prices.length], cumAmounts[prices.length], prices.length, false);
+		}
+		double quantity = cumSizes[level - 1] + (amount - cumAmounts[level - 1]) / prices[level - 1];
+		return fill(side, prices, quantity, amount, level, true);
+	}
+
+	/**
+	 * cumulative[k] >= target인 가장 작은 k (1 이상)
+	 *
+	 * @return 전체 호가로도 부족하면 -1
+	 */
+	private static int lowerBound(double[] cumulative, double target) {
+		int low = 1;
+		int high = cumulative.length - 1;
+		if (high < 1 || cumulative[high] < target) {
+			return -1;
+		}
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (cumulative[mid] >= target) {
+				high = mid;
+			} else {
+				low = mid + 1;
+			}
+		}
+		return low;
+	}
+
+	private OrderbookSlippage fill(AskBid side, double[] prices, double quantity, double amount, int levels,
+		boolean fullyFilled) {
+		if (levels == 0 || quantity <= 0) {
+			return new OrderbookSlippage(0.0, 0.0, 0.0, 0.0, -1, 0.0, false);
+		}
+		double averagePrice = amount / quantity;
+		double slippage = (midPrice > 0)
+			? ((side == AskBid.BID) ? averagePrice - midPrice : midPrice - averagePrice) / midPrice * 100.0
+			: 0.0;
+		return new OrderbookSlippage(quantity, amount, averagePrice, prices[levels - 1], levels - 1, slippage,
+			fullyFilled);
+	}
+}
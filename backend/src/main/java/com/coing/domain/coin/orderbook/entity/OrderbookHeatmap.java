@@ -0,0 +1,17 @@
+package com.coing.domain.coin.orderbook.entity;
+
+/**
+ * 호가 잔량 heatmap
+ *
+ * @param timestamps 행별 스냅샷 시각 (오래된 순)
+ * @param lowPrice   첫 번째 가격 구간의 하한
+ * @param priceStep  가격 구간 폭
+ * @param depth      depth[행][가격 구간] = 구간 안의 매도 + 매수 잔량
+ */
+public record OrderbookHeatmap(
+	long[] timestamps,
+	double lowPrice,
+	double priceStep,
+	double[][] depth
+) {
+}
@@ -0,0 +1,125 @@
+package com.coing.domain.coin.orderbook.entity;
+
+/**
+ * 마켓별 호가 스냅샷 Ring Buffer
+ * <p>
+ * 스냅샷마다 객체를 만들지 않도록 `capacity × depth` 크기의 double 배열에 호가 단위를 순서대로 기록하고,
+ * 가득 차면 가장 오래된 스냅샷부터 덮어씁니다.
+ * 기록은 마켓별 처리 스레드에서, 조회는 API 요청 스레드에서 일어나므로 두 동작은 인스턴스 lock으로 직렬화합니다.
+ */
+public class OrderbookHistory {
+	private final int capacity;
+	private final int depth;
+	private final long[] timestamps;
+	private final int[] sizes;
+	private final double[] askPrices;
+	private final double[] bidPrices;
+	private final double[] askSizes;
+	private final double[] bidSizes;
+	private int head;   // 다음 기록 위치
+	private int count;
+	private volatile long lastTimestamp;
+
+	/**
+	 * @param capacity 보관할 스냅샷 수
+	 * @param depth    스냅샷마다 보관할 최대 호가 단위 수
+	 */
+	public OrderbookHistory(int capacity, int depth) {
+		this.capacity = Math.max(1, capacity);
+		this.depth = Math.max(1, depth);
+		this.timestamps = new long[this.capacity];
+		this.sizes = new int[this.capacity];
+		this.askPrices = new double[this.capacity * this.depth];
+		this.bidPrices = new double[this.capacity * this.depth];
+		this.askSizes = new double[this.capacity * this.depth];
+		this.bidSizes = new double[this.capacity * this.depth];
+	}
+
+	public synchronized void record(long timestamp, OrderbookLevels levels) {
+		int base = head * depth;
+		int size = Math.min(levels.size(), depth);
+		for (int i = 0; i < size; i++) {
+			askPrices[base + i] = levels.getAskPrice(i);
+			bidPrices[base + i] = levels.getBidPrice(i);
+			askSizes[base + i] = levels.getAskSize(i);
+			bidSizes[base + i] = levels.getBidSize(i);
+		}
+		sizes[head] = size;
+		timestamps[head] = timestamp;
+		head = (head + 1) % capacity;
+		if (count < capacity) {
+			count++;
+		}
+		lastTimestamp = timestamp;
+	}
+
+	/**
+	 * 마지막 기록 시각, 기록이 없으면 0
+	 */
+	public long getLastTimestamp() {
+		return lastTimestamp;
+	}
+
+	public synchronized int size() {
+		return count;
+	}
+
+	/**
+	 * from 이후 스냅샷의 시간 × 가격 구간 잔량 행렬
+	 * <p>
+	 * 가격 범위는 대상 스냅샷의 최저 매수 호가 ~ 최고 매도 호가이며, priceBuckets개의 같은 폭 구간으로 나눕니다.
+	 * 배열을 두 번 순회(가격 범위 → 잔량 합산)하여 계산합니다.
+	 */
+	public synchronized OrderbookHeatmap heatmap(long from, int priceBuckets) {
+		int oldest = (head - count + capacity) % capacity;
+		int skipped = 0;
+		while (skipped < count && timestamps[(oldest + skipped) % capacity] < from) {
+			skipped++;
+		}
+		int rows = count - skipped;
+		int start = (oldest + skipped) % capacity;
+
+		double low = Double.MAX_VALUE;
+		double high = -Double.MAX_VALUE;
+		for (int row = 0; row < rows; row++) {
+			int slot = (start + row) % capacity;
+			int base = slot * depth;
+			for (int i = 0; i < sizes[slot]; i++) {
+				if (bidPrices[base + i] > 0) {
+					low = Math.min(low, bidPrices[base + i]);
+					high = Math.max(high, bidPrices[base + i]);
+				}
+				if (askPrices[base + i] > 0) {
+					low = Math.min(low, askPrices[base + i]);
+					high = Math.max(high, askPrices[base + i]);
+				}
+			}
+		}
+		long[] times = new long[rows];
+		double[][] depthMatrix = new double[rows][priceBuckets];
+		if (low > high) {
+			return new OrderbookHeatmap(times, 0.0, 0.0, depthMatrix);
+		}
+
+		double step = (high > low) ? (high - low) / priceBuckets : 1.0;
+		for (int row = 0; row < rows; row++) {
+			int slot = (start + row) % capacity;
+			int base = slot * depth;
+			times[row] = timestamps[slot];
+			double[] buckets = depthMatrix[row];
+			for (int i = 0; i < sizes[slot]; i++) {
+				if (askPrices[base + i] > 0) {
+					buckets[bucketOf(askPrices[base + i], low, step, priceBuckets)] += askSizes[base + i];
+				}
+				if (bidPrices[base + i] > 0) {
+					buckets[bucketOf(bidPrices[base + i], low, step, priceBuckets)] += bidSizes[base + i];
+				}
+			}
+		}
+		return new OrderbookHeatmap(times, low, step, depthMatrix);
+	}
+
+	private static int bucketOf(double price, double low, double step, int priceBuckets) {
+		return Math.min((int)((price - low) / step), priceBuckets - 1);
+	}
+}
@@ -0,0 +1,214 @@
+package com.coing.domain.coin.orderbook.entity;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import com.coing.domain.coin.orderbook.entity.OrderbookIndicators.LiquidityBand;
+import com.coing.domain.coin.orderbook.enums.OrderbookIndicatorType;
+
+/**
+ * 호가 지표 계산기
+ * <p>
+ * 최우선 호가로 중간 가격/스프레드/마이크로 가격을 구한 뒤, 호가 단위를 한 번만 순회하면서
+ * 유동성 비율(±1%, 구간별)과 잔량 가중 가격을 함께 누적합니다.
+ * 선택한 지표만 계산하며, 호가 단위 순회가 필요한 지표가 없으면 순회 자체를 생략합니다.
+ */
+public class OrderbookIndicatorEngine {
+	private static final double DEFAULT_RANGE_PERCENT = 1.0; // Orderbook.getLiquidityDepth()와 같은 ±1%
+	private static final Set<OrderbookIndicatorType> DEFAULT_INDICATORS = EnumSet.of(
+		OrderbookIndicatorType.MID_PRICE, OrderbookIndicatorType.SPREAD,
+		OrderbookIndicatorType.IMBALANCE, OrderbookIndicatorType.LIQUIDITY_DEPTH);
+
+	private final Set<OrderbookIndicatorType> indicators;
+	private final double[] bandPercents;
+	private final boolean needsLevelPass;
+
+	/**
+	 * @param indicators   계산할 지표
+	 * @param bandPercents LIQUIDITY_BANDS 구간 (ex. 0.5, 1, 2, 5)
+	 */
+	public OrderbookIndicatorEngine(Collection<OrderbookIndicatorType> indicators, Collection<Double> bandPercents) {
+		this.indicators = indicators.isEmpty()
+			? EnumSet.noneOf(OrderbookIndicatorType.class)
+			: EnumSet.copyOf(indicators);
+		this.bandPercents = bandPercents.stream()
+			.mapToDouble(Double::doubleValue)
+			.filter(percent -> percent > 0)
+			.sorted()
+			.distinct()
+			.toArray();
+		this.needsLevelPass = this.indicators.contains(OrderbookIndicatorType.LIQUIDITY_DEPTH)
+			|| this.indicators.contains(OrderbookIndicatorType.LIQUIDITY_BANDS)
+			|| this.indicators.contains(OrderbookIndicatorType.WEIGHTED_MID_PRICE);
+	}
+
+	/**
+	 * 기존 OrderbookDto와 같은 지표(중간 가격, 스프레드, 불균형, ±1% 유동성)만 계산
+	 */
+	public static OrderbookIndicatorEngine defaults() {
+		return new OrderbookIndicatorEngine(DEFAULT_INDICATORS, List.of());
+	}
+
+	public boolean isSelected(OrderbookIndicatorType indicator) {
+		return indicators.contains(indicator);
+	}
+
+	public OrderbookIndicators calculate(Orderbook orderbook) {
+		double imbalance = isSelected(OrderbookIndicatorType.IMBALANCE)
+			? imbalance(orderbook.getTotalAskSize(), orderbook.getTotalBidSize())
+			: 0.0;
+
+		OrderbookLevels levels = orderbook.getOrderbookUnits();
+		if (levels == null || levels.isEmpty()) {
+			return new OrderbookIndicators(0.0, 0.0, imbalance, 0.0,
+				isSelected(OrderbookIndicatorType.LIQUIDITY_BANDS) ? toBands(new double[bandPercents.length], 0.0) : null,
+				isSelected(OrderbookIndicatorType.WEIGHTED_MID_PRICE) ? 0.0 : null,
+				isSelected(OrderbookIndicatorType.MICRO_PRICE) ? 0.0 : null);
+		}
+
+		double bestAsk = levels.getAskPrice(0);
+		double bestBid = levels.getBidPrice(0);
+		double midPrice = (bestAsk + bestBid) / 2.0;
+		double spread = bestAsk - bestBid;
+		Double microPrice = isSelected(OrderbookIndicatorType.MICRO_PRICE)
+			? microPrice(bestAsk, bestBid, levels.getAskSize(0), levels.getBidSize(0), midPrice)
+			: null;
+
+		double liquidityDepth = 0.0;
+		List<LiquidityBand> liquidityBands = null;
+		Double weightedMidPrice = null;
+		if (needsLevelPass) {
+			LevelPass pass = new LevelPass(midPrice);
+			pass.run(levels);
+			if (isSelected(OrderbookIndicatorType.LIQUIDITY_DEPTH)) {
+				liquidityDepth = pass.percentOfTotal(pass.depthInRange);
+			}
+			if (isSelected(OrderbookIndicatorType.LIQUIDITY_BANDS)) {
+				liquidityBands = toBands(pass.bandSizes, pass.totalSize);
+			}
+			if (isSelected(OrderbookIndicatorType.WEIGHTED_MID_PRICE)) {
+				weightedMidPrice = pass.weightedMidPrice(midPrice);
+			}
+		}
+
+		return new OrderbookIndicators(
+			isSelected(OrderbookIndicatorType.MID_PRICE) ? midPrice : 0.0,
+			isSelected(OrderbookIndicatorType.SPREAD) ? spread : 0.0,
+			imbalance, liquidityDepth, liquidityBands, weightedMidPrice, microPrice);
+	}
+
+	/**
+	 * (TotalBidSize - TotalAskSize) / (TotalAskSize + TotalBidSize)
+	 */
+	private static double imbalance(double totalAsk, double totalBid) {
+		double total = totalAsk + totalBid;
+		return total == 0.0 ? 0.0 : (totalBid - totalAsk) / total;
+	}
+
+	/**
+	 * 마이크로 가격 (MicroPrice)
+	 * <p>
+	 * MicroPrice = (BestAsk × BestBidSize + BestBid × BestAskSize) / (BestAskSize + BestBidSize)
+	 * 매수 잔량이 많을수록 최우선 매도 호가 쪽으로 치우치며, 다음 체결 가격 방향을 중간 가격보다 잘 반영합니다.
+	 */
+	private static double microPrice(double bestAsk, double bestBid, double askSize, double bidSize, double midPrice) {
+		double total = askSize + bidSize;
+		return total == 0.0 ? midPrice : (bestAsk * bidSize + bestBid * askSize) / total;
+	}
+
+	/**
+	 * 누적 구간 잔량을 구간별 비율로 변환
+	 * <p>
+	 * bandSizes[k]는 k번째 구간에 처음 포함되는 잔량이므로, 앞 구간부터 누적하면 ±percent% 전체 잔량이 됩니다.
+	 */
+	private List<LiquidityBand> toBands(double[] bandSizes, double totalSize) {
+		List<LiquidityBand> bands = new ArrayList<>(bandPercents.length);
+		double cumulative = 0.0;
+		for (int k = 0; k < bandPercents.length; k++) {
+			cumulative += bandSizes[k];
+			bands.add(new LiquidityBand(bandPercents[k], totalSize > 0 ? cumulative / totalSize * 100.0 : 0.0));
+		}
+		return bands;
+	}
+
+	/**
+	 * 호가 단위 1회 순회로 누적하는 값
+	 */
+	private final class LevelPass {
+		private final double depthLower;
+		private final double depthUpper;
+		private final double[] bandLower;
+		private final double[] bandUpper;
+		private final double[] bandSizes;
+		private double depthInRange;
+		private double totalSize;
+		private double askNotional;
+		private double askVolume;
+		private double bidNotional;
+		private double bidVolume;
+
+		private LevelPass(double midPrice) {
+			this.depthLower = midPrice * (1.0 - DEFAULT_RANGE_PERCENT / 100.0);
+			this.depthUpper = midPrice * (1.0 + DEFAULT_RANGE_PERCENT / 100.0);
+			this.bandLower = new double[bandPercents.length];
+			this.bandUpper = new double[bandPercents.length];
+			this.bandSizes = new double[bandPercents.length];
+			for (int k = 0; k < bandPercents.length; k++) {
+				bandLower[k] = midPrice * (1.0 - bandPercents[k] / 100.0);
+				bandUpper[k] = midPrice * (1.0 + bandPercents[k] / 100.0);
+			}
+		}
+
+		private void run(OrderbookLevels levels) {
+			for (int i = 0; i < levels.size(); i++) {
+				double askPrice = levels.getAskPrice(i);
+				double bidPrice = levels.getBidPrice(i);
+				double askSize = levels.getAskSize(i);
+				double bidSize = levels.getBidSize(i);
+
+				totalSize += askSize + bidSize;
+				if (askPrice >= depthLower && askPrice <= depthUpper) {
+					depthInRange += askSize;
+				}
+				if (bidPrice >= depthLower && bidPrice <= depthUpper) {
+					depthInRange += bidSize;
+				}
+				addToBand(askPrice, askSize);
+				addToBand(bidPrice, bidSize);
+				askNotional += askPrice * askSize;
+				askVolume += askSize;
+				bidNotional += bidPrice * bidSize;
+				bidVolume += bidSize;
+			}
+		}
+
+		// 구간은 좁은 순서로 정렬되어 있으므로 처음 포함되는 구간에만 더함
+		private void addToBand(double price, double size) {
+			for (int k = 0; k < bandSizes.length; k++) {
+				if (price >= bandLower[k] && price <= bandUpper[k]) {
+					bandSizes[k] += size;
+					return;
+				}
+			}
+		}
+
+		private double percentOfTotal(double size) {
+			return totalSize > 0 ? (size / totalSize) * 100.0 : 0.0;
+		}
+
+		/**
+		 * 잔량 가중 중간 가격 (WeightedMidPrice)
+		 * <p>
+		 * 전체 호가 단위의 잔량 가중 평균 매도 가격과 매수 가격의 중간값.
+		 */
+		private double weightedMidPrice(double midPrice) {
+			if (askVolume == 0.0 || bidVolume == 0.0) {
+				return midPrice;
+			}
+			return (askNotional / askVolume + bidNotional / bidVolume) / 2.0;
+		}
+	}
+}
@@ -0,0 +1,27 @@
+package com.coing.domain.coin.orderbook.entity;
+
+import java.util.List;
+
+/**
+ * 호가 지표 계산 결과
+ * <p>
+ * 선택하지 않은 지표는 0.0 또는 null 입니다.
+ */
+public record OrderbookIndicators(
+	double midPrice,
+	double spread,
+	double imbalance,
+	double liquidityDepth,
+	List<LiquidityBand> liquidityBands,
+	Double weightedMidPrice,
+	Double microPrice
+) {
+	/**
+	 * 중간 가격 기준 ±percent% 구간의 유동성 비율
+	 *
+	 * @param percent 구간 (ex. 0.5 → ±0.5%)
+	 * @param depth   구간 내 잔량 / 전체 잔량 (0~100%)
+	 */
+	public record LiquidityBand(double percent, double depth) {
+	}
+}
@@ -0,0 +1,121 @@
+package com.coing.domain.coin.orderbook.entity;
+
+import java.math.BigDecimal;
+
+/**
+ * 호가 모아보기 (가격 단위별 잔량 합산)
+ * <p>
+ * 모아보기 단위는 마켓의 호가 단위(tick)에 배수를 곱해 정합니다. 호가 단위는 업비트 가격 구간별 고정 호가 단위 표에서
+ * 최우선 매도 호가가 속한 구간으로 정하므로, 빈 호가가 있어도 가격 구간이 바뀌기 전까지 모아보기 단위가 유지됩니다.
+ * 매도 호가는 단위 올림, 매수 호가는 단위 내림 가격으로 묶어 묶인 가격이 실제 호가보다 유리해지지 않도록 합니다.
+ * 호가 단위는 최우선 호가부터 정렬되어 있으므로 한 번의 순회로 인접한 같은 구간끼리 합산합니다.
+ */
+public final class OrderbookLevelGrouper {
+	private static final double EPSILON = 1e-9;
+
+	private OrderbookLevelGrouper() {
+	}
+
+	/**
+	 * 업비트 가격 구간별 호가 단위 (KRW 마켓)
+	 * <p>
+	 * KRW_TICK_FLOORS[i] 이상인 가격의 호가 단위는 KRW_TICK_SIZES[i]이며, 가장 낮은 구간 미만은 KRW_MIN_TICK_SIZE입니다.
+	 */
+	private static final double[] KRW_TICK_FLOORS = {
+		2_000_000, 1_000_000, 500_000, 100_000, 10_000, 1_000, 100, 10, 1, 0.1, 0.01, 0.001, 0.0001
+	};
+	private static final double[] KRW_TICK_SIZES = {
+		1000, 500, 100, 50, 10, 1, 0.1, 0.01, 0.001, 0.0001, 0.00001, 0.000001, 0.0000001
+	};
+	private static final double KRW_MIN_TICK_SIZE = 0.00000001;
+	// BTC 마켓은 가격과 관계없이 소수점 8자리 단위
+	private static final double BTC_TICK_SIZE = 0.00000001;
+	// 고정 표가 없는 호가 통화(USDT 등)는 가격의 유효숫자 4자리 단위
+	private static final int SIGNIFICANT_DIGITS = 4;
+
+	/**
+	 * 마켓의 호가 단위(tick)
+	 * <p>
+	 * 최우선 매도 호가가 없으면 최우선 매수 호가를 기준 가격으로 사용합니다.
+	 *
+	 * @param market 마켓 코드 (ex. KRW-BTC)
+	 * @return 기준 가격이 없으면 0
+	 */
+	public static double tickSize(String market, OrderbookLevels levels) {
+		if (levels.size() == 0) {
+			return 0.0;
+		}
+		double price = (levels.getAskPrice(0) > 0) ? levels.getAskPrice(0) : levels.getBidPrice(0);
+		return tickSize(market, price);
+	}
+
+	/**
+	 * 가격 구간별 호가 단위
+	 *
+	 * @return 가격이 0 이하면 0
+	 */
+	public static double tickSize(String market, double price) {
+		if (price <= 0) {
+			return 0.0;
+		}
+		if (market == null || market.startsWith("KRW-")) {
+			for (int i = 0; i < KRW_TICK_FLOORS.length; i++) {
+				if (price >= KRW_TICK_FLOORS[i]) {
+					return KRW_TICK_SIZES[i];
+				}
+			}
+			return KRW_MIN_TICK_SIZE;
+		}
+		if (market.startsWith("BTC-")) {
+			return BTC_TICK_SIZE;
+		}
+		int exponent = (int)Math.floor(Math.log10(price) + EPSILON) - (SIGNIFICANT_DIGITS - 1);
+		return BigDecimal.ONE.scaleByPowerOfTen(exponent).doubleValue();
+	}
+
+	/**
+	 * unit 가격 단위로 묶은 호가 단위 목록
+	 * <p>
+	 * 매도/매수 구간 수가 다르면 짧은 쪽은 가격과 잔량을 0으로 채웁니다.
+	 */
+	public static OrderbookLevels group(OrderbookLevels levels, double unit) {
+		int size = levels.size();
+		double[] askPrices = new double[size];
+		double[] askSizes = new double[size];
+		double[] bidPrices = new double[size];
+		double[] bidSizes = new double[size];
+		int askCount = 0;
+		int bidCount = 0;
+		long lastAskBucket = Long.MIN_VALUE;
+		long lastBidBucket = Long.MIN_VALUE;
+
+		for (int i = 0; i < size; i++) {
+			long askBucket = (long)Math.ceil(levels.getAskPrice(i) / unit - EPSILON);
+			if (askCount == 0 || askBucket != lastAskBucket) {
+				askPrices[askCount] = priceOf(askBucket, unit);
+				askCount++;
+				lastAskBucket = askBucket;
+			}
+			askSizes[askCount - 1] += levels.getAskSize(i);
+
+			long bidBucket = (long)Math.floor(levels.getBidPrice(i) / unit + EPSILON);
+			if (bidCount == 0 || bidBucket != lastBidBucket) {
+				bidPrices[bidCount] = priceOf(bidBucket, unit);
+				bidCount++;
+				lastBidBucket = bidBucket;
+			}
+			bidSizes[bidCount - 1] += levels.getBidSize(i);
+		}
+
+		int count = Math.max(askCount, bidCount);
+		OrderbookLevels grouped = new OrderbookLevels(count);
+		for (int i = 0; i < count; i++) {
+			grouped.add(askPrices[i], bidPrices[i], askSizes[i], bidSizes[i]);
+		}
+		return grouped;
+	}
+
+	private static double priceOf(long bucket, double unit) {
+		return BigDecimal.valueOf(bucket).multiply(BigDecimal.valueOf(unit)).doubleValue();
+	}
+}
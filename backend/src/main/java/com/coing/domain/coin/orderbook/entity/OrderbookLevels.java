@@ -0,0 +1,93 @@
+package com.coing.domain.coin.orderbook.entity;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+/**
+ * 호가 단위 목록
+ * <p>
+ * 호가 단위마다 OrderbookUnit과 boxed Double을 생성하지 않도록 매도/매수 가격과 잔량을 병렬 double 배열로 보관합니다.
+ * 호가 단위 수와 관계없이 배열 4개만 할당하며, 수신 DTO → Entity → STOMP DTO까지 복사 없이 같은 인스턴스를 전달합니다.
+ * <p>
+ * JSON은 OrderbookLevelsSerializer가 기존 List&lt;OrderbookUnit&gt;과 같은 형태로 작성합니다.
+ * 인스턴스는 생성 후 값을 채우는 스레드에서만 변경하고, 캐시나 STOMP로 전달한 뒤에는 변경하지 않습니다.
+ */
+@JsonSerialize(using = OrderbookLevelsSerializer.class)
+public class OrderbookLevels {
+	private static final int DEFAULT_CAPACITY = 16; // Upbit 기본 호가 단위 수(15) 기준
+
+	private double[] askPrices;
+	private double[] bidPrices;
+	private double[] askSizes;
+	private double[] bidSizes;
+	private int size;
+
+	public OrderbookLevels() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	public OrderbookLevels(int capacity) {
+		int initial = Math.max(1, capacity);
+		this.askPrices = new double[initial];
+		this.bidPrices = new double[initial];
+		this.askSizes = new double[initial];
+		this.bidSizes = new double[initial];
+	}
+
+	public static OrderbookLevels from(List<OrderbookUnit> units) {
+		OrderbookLevels levels = new OrderbookLevels(units.size());
+		for (OrderbookUnit unit : units) {
+			levels.add(unit.getAskPrice(), unit.getBidPrice(), unit.getAskSize(), unit.getBidSize());
+		}
+		return levels;
+	}
+
+	/**
+	 * 호가 단위 추가 (최우선 호가부터 순서대로)
+	 */
+	public void add(double askPrice, double bidPrice, double askSize, double bidSize) {
+		if (size == askPrices.length) {
+			int capacity = size * 2;
+			askPrices = Arrays.copyOf(askPrices, capacity);
+			bidPrices = Arrays.copyOf(bidPrices, capacity);
+			askSizes = Arrays.copyOf(askSizes, capacity);
+			bidSizes = Arrays.copyOf(bidSizes, capacity);
+		}
+		askPrices[size] = askPrice;
+		bidPrices[size] = bidPrice;
+		askSizes[size] = askSize;
+		bidSizes[size] = bidSize;
+		size++;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public double getAskPrice(int index) {
+		return askPrices[checkIndex(index)];
+	}
+
+	public double getBidPrice(int index) {
+		return bidPrices[checkIndex(index)];
+	}
+
+	public double getAskSize(int index) {
+		return askSizes[checkIndex(index)];
+	}
+
+	public double getBidSize(int index) {
+		return bidSizes[checkIndex(index)];
+	}
+
+	private int checkIndex(int index) {
+		return Objects.checkIndex(index, size);
+	}
+}
@@ -0,0 +1,34 @@
+package com.coing.domain.coin.orderbook.entity;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * OrderbookLevels를 `[{"askPrice":..,"bidPrice":..,"askSize":..,"bidSize":..}, ...]` 형태로 직렬화
+ * <p>
+ * 기존 List&lt;OrderbookUnit&gt;과 같은 JSON을 작성하므로 클라이언트는 변경 없이 사용할 수 있습니다.
+ */
+public class OrderbookLevelsSerializer extends StdSerializer<OrderbookLevels> {
+
+	public OrderbookLevelsSerializer() {
+		super(OrderbookLevels.class);
+	}
+
+	@Override
+	public void serialize(OrderbookLevels levels, JsonGenerator gen, SerializerProvider provider) throws IOException {
+		int size = levels.size();
+		gen.writeStartArray(levels, size);
+		for (int i = 0; i < size; i++) {
+			gen.writeStartObject();
+			gen.writeNumberField("askPrice", levels.getAskPrice(i));
+			gen.writeNumberField("bidPrice", levels.getBidPrice(i));
+			gen.writeNumberField("askSize", levels.getAskSize(i));
+			gen.writeNumberField("bidSize", levels.getBidSize(i));
+			gen.writeEndObject();
+		}
+		gen.writeEndArray();
+	}
+}
@@ -0,0 +1,23 @@
+package com.coing.domain.coin.orderbook.entity;
+
+/**
+ * 시장가 주문 체결 추정 결과
+ *
+ * @param filledQuantity  체결 수량
+ * @param filledAmount    체결 금액 (가격 × 수량)
+ * @param averagePrice    평균 체결 가격
+ * @param worstPrice      마지막으로 닿는 호가 가격
+ * @param worstLevel      마지막으로 닿는 호가 단위 위치 (최우선 호가 = 0, 체결 불가 시 -1)
+ * @param slippagePercent 중간 가격 대비 평균 체결 가격의 불리한 차이 (%)
+ * @param fullyFilled     현재 호가 잔량으로 주문 전체가 체결되는지 여부
+ */
+public record OrderbookSlippage(
+	double filledQuantity,
+	double filledAmount,
+	double averagePrice,
+	double worstPrice,
+	int worstLevel,
+	double slippagePercent,
+	boolean fullyFilled
+) {
+}
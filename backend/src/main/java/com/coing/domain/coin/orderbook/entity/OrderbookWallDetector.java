@@ -0,0 +1,188 @@
+package com.coing.domain.coin.orderbook.entity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.coing.domain.coin.common.enums.AskBid;
+import com.coing.domain.coin.orderbook.enums.OrderbookWallEventType;
+
+/**
+ * 마켓별 호가 벽(대량 잔량) 감지기
+ * <p>
+ * 호가 잔량은 분포의 꼬리가 길기 때문에 log(1 + 잔량)의 지수 이동 평균/분산으로 마켓별 잔량 분포를 추적하고,
+ * z-score가 기준 이상인 호가 단위를 벽으로 판단합니다. 갱신마다 호가 단위를 한 번 순회하며, 메모리는 마켓당 고정 크기입니다.
+ * <p>
+ * 등장 기준(zThreshold)과 소멸 기준(exitZThreshold)을 따로 두어, 기준 근처에서 잔량이 흔들리는 호가가
+ * 갱신마다 등장/소멸 이벤트를 반복하지 않도록 합니다. 활성 벽은 z-score가 소멸 기준 아래로 내려갈 때까지 유지됩니다.
+ * <p>
+ * 벽이 사라질 때 가격이 아직 보이는 호가 범위 안에 있으면 체결이나 가격 이동이 아니라 취소된 것으로 보고,
+ * 등장 후 spoofWindowMs 안에 취소되었다면 SPOOF_SUSPECTED로 분류합니다. 체결 데이터는 보지 않으므로 부분 체결로
+ * 잔량이 기준 아래로 내려간 경우도 취소로 분류될 수 있습니다.
+ * <p>
+ * 마켓별 처리 스레드에서만 호출하므로 동기화하지 않습니다.
+ */
+public class OrderbookWallDetector {
+	private static final int MAX_WALLS = 32;
+
+	private final double zThreshold;
+	private final double exitZThreshold;
+	private final long spoofWindowMs;
+	private final double alpha;
+	private final long warmupSamples;
+
+	private double mean;
+	private double variance;
+	private long samples;
+
+	// 활성 벽 (병렬 배열)
+	private final AskBid[] wallSides = new AskBid[MAX_WALLS];
+	private final double[] wallPrices = new double[MAX_WALLS];
+	private final double[] wallSizes = new double[MAX_WALLS];
+	private final double[] wallScores = new double[MAX_WALLS];
+	private final long[] wallSince = new long[MAX_WALLS];
+	private final boolean[] wallSeen = new boolean[MAX_WALLS];
+	private int wallCount;
+
+	/**
+	 * @param zThreshold     새 벽으로 판단할 z-score
+	 * @param exitZThreshold 활성 벽을 유지할 최소 z-score (zThreshold보다 크면 zThreshold 사용)
+	 * @param spoofWindowMs  이 시간 안에 취소된 벽은 SPOOF_SUSPECTED
+	 * @param window         잔량 분포의 유효 표본 수 (지수 이동 평균 기간), 1/10 이상 관측 후 감지 시작
+	 */
+	public OrderbookWallDetector(double zThreshold, double exitZThreshold, long spoofWindowMs, int window) {
+		this.zThreshold = zThreshold;
+		this.exitZThreshold = Math.min(exitZThreshold, zThreshold);
+		this.spoofWindowMs = spoofWindowMs;
+		this.alpha = 2.0 / (Math.max(1, window) + 1);
+		this.warmupSamples = Math.max(1, window / 10);
+	}
+
+	/**
+	 * 호가 갱신 반영
+	 *
+	 * @return 감지한 이벤트, 없으면 빈 목록
+	 */
+	public List<OrderbookWallEvent> update(OrderbookLevels levels, long timestamp) {
+		List<OrderbookWallEvent> events = null;
+		boolean ready = samples >= warmupSamples && variance > 0;
+		double std = Math.sqrt(variance);
+
+		for (int i = 0; i < wallCount; i++) {
+			wallSeen[i] = false;
+		}
+		for (int i = 0; i < levels.size(); i++) {
+			double askLog = Math.log1p(levels.getAskSize(i));
+			double bidLog = Math.log1p(levels.getBidSize(i));
+			if (ready) {
+				events = detect(events, AskBid.ASK, levels.getAskPrice(i), levels.getAskSize(i),
+					(askLog - mean) / std, timestamp);
+				events = detect(events, AskBid.BID, levels.getBidPrice(i), levels.getBidSize(i),
+					(bidLog - mean) / std, timestamp);
+			}
+			observe(askLog);
+			observe(bidLog);
+		}
+		events = expire(events, levels, timestamp);
+		return (events != null) ? events : List.of();
+	}
+
+	public int getWallCount() {
+		return wallCount;
+	}
+
+	private List<OrderbookWallEvent> detect(List<OrderbookWallEvent> events, AskBid side, double price, double size,
+		double zScore, long timestamp) {
+		if (zScore < exitZThreshold) {
+			return events;
+		}
+		int index = indexOf(side, price);
+		if (index >= 0) {
+			wallSeen[index] = true;
+			wallSizes[index] = size;
+			wallScores[index] = zScore;
+			return events;
+		}
+		if (zScore < zThreshold || wallCount == MAX_WALLS) {
+			return events;
+		}
+		wallSides[wallCount] = side;
+		wallPrices[wallCount] = price;
+		wallSizes[wallCount] = size;
+		wallScores[wallCount] = zScore;
+		wallSince[wallCount] = timestamp;
+		wallSeen[wallCount] = true;
+		wallCount++;
+		return append(events, new OrderbookWallEvent(OrderbookWallEventType.APPEARED, side, price, size, zScore,
+			0L, timestamp));
+	}
+
+	/**
+	 * 이번 갱신에서 소멸 기준 이상으로 관측되지 않은 활성 벽 제거
+	 */
+	private List<OrderbookWallEvent> expire(List<OrderbookWallEvent> events, OrderbookLevels levels, long timestamp) {
+		int kept = 0;
+		for (int i = 0; i < wallCount; i++) {
+			if (wallSeen[i]) {
+				moveWall(i, kept++);
+				continue;
+			}
+			long lifetime = timestamp - wallSince[i];
+			boolean cancelled = isInRange(levels, wallSides[i], wallPrices[i]);
+			OrderbookWallEventType type = (cancelled && lifetime < spoofWindowMs)
+				? OrderbookWallEventType.SPOOF_SUSPECTED
+				: OrderbookWallEventType.REMOVED;
+			events = append(events, new OrderbookWallEvent(type, wallSides[i], wallPrices[i], wallSizes[i],
+				wallScores[i], lifetime, timestamp));
+		}
+		wallCount = kept;
+		return events;
+	}
+
+	// 가격이 현재 보이는 최우선 ~ 마지막 호가 범위 안에 있는지 여부
+	private static boolean isInRange(OrderbookLevels levels, AskBid side, double price) {
+		if (levels.isEmpty()) {
+			return false;
+		}
+		int last = levels.size() - 1;
+		if (side == AskBid.ASK) {
+			return price >= levels.getAskPrice(0) && price <= levels.getAskPrice(last);
+		}
+		return price <= levels.getBidPrice(0) && price >= levels.getBidPrice(last);
+	}
+
+	// 표본이 window보다 적을 때는 1/n 가중치로 전체 평균/분산을 구해 초기 분산이 작게 잡히지 않도록 함
+	private void observe(double value) {
+		samples++;
+		double weight = Math.max(alpha, 1.0 / samples);
+		double delta = value - mean;
+		mean += weight * delta;
+		variance = (1 - weight) * (variance + weight * delta * delta);
+	}
+
+	private int indexOf(AskBid side, double price) {
+		for (int i = 0; i < wallCount; i++) {
+			if (wallSides[i] == side && wallPrices[i] == price) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private void moveWall(int from, int to) {
+		if (from == to) {
+			return;
+		}
+		wallSides[to] = wallSides[from];
+		wallPrices[to] = wallPrices[from];
+		wallSizes[to] = wallSizes[from];
+		wallScores[to] = wallScores[from];
+		wallSince[to] = wallSince[from];
+		wallSeen[to] = wallSeen[from];
+	}
+
+	private static List<OrderbookWallEvent> append(List<OrderbookWallEvent> events, OrderbookWallEvent event) {
+		List<OrderbookWallEvent> result = (events != null) ? events : new ArrayList<>(2);
+		result.add(event);
+		return result;
+	}
+}
@@ -0,0 +1,26 @@
+package com.coing.domain.coin.orderbook.entity;
+
+import com.coing.domain.coin.common.enums.AskBid;
+import com.coing.domain.coin.orderbook.enums.OrderbookWallEventType;
+
+/**
+ * 호가 벽 감지 이벤트
+ *
+ * @param type       이벤트 종류
+ * @param side       ASK: 매도 호가 벽, BID: 매수 호가 벽
+ * @param price      벽 가격
+ * @param size       벽 잔량 (소멸 이벤트는 마지막으로 관측한 잔량)
+ * @param zScore     마켓 잔량 분포 대비 z-score (log 잔량 기준)
+ * @param lifetimeMs 등장 후 경과 시간 (등장 이벤트는 0)
+ * @param timestamp  감지한 호가의 timestamp
+ */
+public record OrderbookWallEvent(
+	OrderbookWallEventType type,
+	AskBid side,
+	double price,
+	double size,
+	double zScore,
+	long lifetimeMs,
+	long timestamp
+) {
+}
@@ -0,0 +1,11 @@
+package com.coing.domain.coin.orderbook.enums;
+
+public enum OrderbookIndicatorType {
+	MID_PRICE,          // 중간 가격
+	SPREAD,             // 최우선 매도/매수 호가 차이
+	IMBALANCE,          // 총 잔량 불균형
+	LIQUIDITY_DEPTH,    // 중간 가격 기준 ±1% 유동성 비율
+	LIQUIDITY_BANDS,    // 중간 가격 기준 여러 구간별 유동성 비율
+	WEIGHTED_MID_PRICE, // 잔량 가중 매도/매수 평균 가격의 중간값
+	MICRO_PRICE,        // 최우선 호가 잔량 가중 가격
+}
@@ -0,0 +1,7 @@
+package com.coing.domain.coin.orderbook.enums;
+
+public enum OrderbookWallEventType {
+	APPEARED,           // 대량 잔량(벽) 등장
+	REMOVED,            // 벽 소멸 (체결, 가격 이동, 오래 유지된 뒤 취소)
+	SPOOF_SUSPECTED     // 짧은 시간 안에 호가 범위 안에서 취소된 벽
+}
@@ -0,0 +1,15 @@
+package com.coing.domain.coin.orderbook.event;
+
+import java.util.List;
+
+/**
+ * 호가 구독 수요 변경 이벤트
+ *
+ * @param added   구독자가 새로 생긴 마켓 코드
+ * @param removed 유지 시간(linger) 동안 구독자가 없어 수신을 중단할 마켓 코드
+ */
+public record OrderbookDemandChangedEvent(
+	List<String> added,
+	List<String> removed
+) {
+}
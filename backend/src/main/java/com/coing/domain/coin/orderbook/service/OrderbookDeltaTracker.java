@@ -0,0 +1,51 @@
+package com.coing.domain.coin.orderbook.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.coing.domain.coin.common.service.CoalescingPublisher;
+import com.coing.domain.coin.orderbook.dto.OrderbookDeltaDto;
+import com.coing.domain.coin.orderbook.dto.OrderbookDto;
+
+/**
+ * 마켓별 호가 버전 및 변경분 관리
+ * <p>
+ * 호가가 갱신될 때마다 버전을 1씩 올리고, 변경분은 실제로 전송되는 시점에 마지막 전송 호가와 비교하여 만듭니다.
+ * CoalescingPublisher가 간격 안의 갱신을 합쳐 중간 변경분을 버리더라도 다음 변경분은 마지막 전송 버전 기준이므로
+ * 클라이언트 상태와 어긋나지 않습니다. 스냅샷도 마지막 전송 호가를 기준으로 제공합니다.
+ */
+public class OrderbookDeltaTracker {
+	private final AtomicLong version = new AtomicLong();
+	private OrderbookDto lastSent;
+
+	public long nextVersion() {
+		return version.incrementAndGet();
+	}
+
+	/**
+	 * 전송 시점에 current까지의 변경분을 만드는 payload
+	 */
+	public CoalescingPublisher.Deferred deferDelta(OrderbookDto current) {
+		return () -> resolve(current);
+	}
+
+	/**
+	 * 변경분 적용 기준이 되는 마지막 전송 호가, 전송 이력이 없으면 null
+	 */
+	public synchronized OrderbookDto getLastSent() {
+		return lastSent;
+	}
+
+	/**
+	 * 마지막 전송 호가에서 current까지의 변경분 생성
+	 *
+	 * @return 이미 같거나 더 최신 버전을 전송했으면 null
+	 */
+	synchronized OrderbookDeltaDto resolve(OrderbookDto current) {
+		if (lastSent != null && current.version() <= lastSent.version()) {
+			return null;
+		}
+		OrderbookDeltaDto delta = OrderbookDeltaDto.between(lastSent, current);
+		lastSent = current;
+		return delta;
+	}
+}
@@ -0,0 +1,82 @@
+package com.coing.domain.coin.orderbook.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.coing.domain.coin.orderbook.entity.Orderbook;
+import com.coing.domain.coin.orderbook.entity.OrderbookHeatmap;
+import com.coing.domain.coin.orderbook.entity.OrderbookHistory;
+import com.coing.global.exception.BusinessException;
+import com.coing.util.MessageUtil;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 호가 스냅샷 이력 관리
+ * <p>
+ * 마켓별 OrderbookHistory에 `upbit.orderbook.history.interval-ms`마다 최대 한 번 호가를 기록하므로,
+ * 보관 기간은 `capacity × interval-ms`입니다 (기본 300 × 1초 = 5분).
+ * 기록이 보관 기간보다 오래 멈춘 마켓(상장 폐지, 수신 제외 등)의 이력은 주기적으로 제거합니다.
+ * <p>
+ * 이력은 수신하는 모든 마켓에 대해 고정 크기로 할당되므로 기본값은 비활성이며, heatmap API를 사용할 때만 켭니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderbookHistoryService {
+	private static final int MAX_PRICE_BUCKETS = 500;
+
+	private final MessageUtil messageUtil;
+	private final Map<String, OrderbookHistory> histories = new ConcurrentHashMap<>();
+
+	@Value("${upbit.orderbook.history.enabled:false}")
+	private boolean enabled;
+	@Value("${upbit.orderbook.history.capacity:300}")
+	private int capacity;
+	@Value("${upbit.orderbook.history.interval-ms:1000}")
+	private long intervalMs;
+	@Value("${upbit.orderbook.history.depth:15}")
+	private int depth;
+
+	/**
+	 * 마지막 기록 후 interval-ms가 지났으면 호가 스냅샷 기록
+	 */
+	public void record(Orderbook orderbook) {
+		if (!enabled || orderbook.getOrderbookUnits() == null || orderbook.getOrderbookUnits().isEmpty()) {
+			return;
+		}
+		OrderbookHistory history = histories.computeIfAbsent(orderbook.getCode(),
+			code -> new OrderbookHistory(capacity, depth));
+		if (orderbook.getTimestamp() - history.getLastTimestamp() < intervalMs) {
+			return;
+		}
+		history.record(orderbook.getTimestamp(), orderbook.getOrderbookUnits());
+	}
+
+	/**
+	 * from 이후 호가 잔량 heatmap
+	 *
+	 * @param priceBuckets 가격 구간 수 (1 ~ 500)
+	 */
+	public OrderbookHeatmap getHeatmap(String market, long from, int priceBuckets) {
+		OrderbookHistory history = histories.get(market);
+		if (history == null || history.size() == 0) {
+			throw new BusinessException(
+				messageUtil.resolveMessage("orderbook.not.found"),
+				HttpStatus.NOT_FOUND
+			);
+		}
+		return history.heatmap(from, Math.clamp(priceBuckets, 1, MAX_PRICE_BUCKETS));
+	}
+
+	@Scheduled(fixedRate = 60000)
+	public void cleanUp() {
+		long expirationTime = System.currentTimeMillis() - capacity * intervalMs;
+
+		histories.entrySet().removeIf(entry -> entry.getValue().getLastTimestamp() < expirationTime);
+	}
+}
@@ -1,52 +1,402 @@
 package com.coing.domain.coin.orderbook.service;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
-import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
 
+import com.coing.domain.coin.common.service.CoalescingPublisher;
 import com.coing.domain.coin.orderbook.dto.OrderbookDto;
+import com.coing.domain.coin.orderbook.dto.OrderbookWallEventDto;
 import com.coing.domain.coin.orderbook.entity.Orderbook;
+import com.coing.domain.coin.orderbook.entity.OrderbookDepthCurve;
+import com.coing.domain.coin.orderbook.entity.OrderbookIndicatorEngine;
+import com.coing.domain.coin.orderbook.entity.OrderbookLevelGrouper;
+import com.coing.domain.coin.orderbook.entity.OrderbookLevels;
+import com.coing.domain.coin.orderbook.entity.OrderbookWallDetector;
+import com.coing.domain.coin.orderbook.entity.OrderbookWallEvent;
+import com.coing.domain.coin.orderbook.enums.OrderbookIndicatorType;
+import com.coing.domain.coin.orderbook.event.OrderbookDemandChangedEvent;
+import com.coing.global.exception.BusinessException;
+import com.coing.util.MessageUtil;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 호가 데이터 캐싱 및 STOMP 전송
+ * <p>
+ * `/sub/coin/orderbook/{market}` STOMP 구독을 추적하여 마켓별 구독자 수를 관리합니다.
+ * `upbit.orderbook.demand-driven`이 true이면 구독자가 있는 마켓과 고정 마켓(pinned)만 Upbit에서 수신하도록
+ * OrderbookDemandChangedEvent를 발행합니다. 구독자가 사라진 마켓은 `upbit.orderbook.linger-seconds` 동안 유지한 뒤 제외하여,
+ * 화면 전환처럼 잠깐 구독을 해제했다가 다시 구독하는 경우 Upbit 구독이 반복해서 바뀌지 않도록 합니다.
+ * <p>
+ * 호가 지표는 `upbit.orderbook.indicators`로 선택한 항목만 OrderbookIndicatorEngine으로 한 번에 계산합니다.
+ * <p>
+ * `upbit.orderbook.delta-enabled`가 true이면 `/sub/coin/orderbook/{market}/delta`로 바뀐 호가 단위만 담은 변경분을 함께 전송합니다.
+ * 클라이언트는 `/app/coin/orderbook/{market}/snapshot` 구독으로 기준 스냅샷을 받은 뒤 같은 버전부터 변경분을 적용합니다.
+ * <p>
+ * `upbit.orderbook.groupings`에 호가 단위 배수를 지정하면 배수별 모아보기 호가를 `/sub/coin/orderbook/{market}/group/{배수}`로 전송합니다.
+ * 모아보기 호가는 실제 전송 시점에 한 번만 계산하며, 지표는 원본 호가 기준 값을 그대로 사용합니다.
+ * <p>
+ * `upbit.orderbook.wall.enabled`가 true이면 마켓별 OrderbookWallDetector로 호가 벽 등장/소멸을 감지하여
+ * `/sub/coin/orderbook/{market}/walls`로 전송합니다. 벽 이벤트는 전송 간격 동안 모았다가 목록 하나로 전송하므로 누락되지 않습니다.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class OrderbookService {
 
-	private final SimpMessageSendingOperations messagingTemplate;
+	private final CoalescingPublisher coalescingPublisher;
+	private final ApplicationEventPublisher eventPublisher;
+	private final OrderbookHistoryService orderbookHistoryService;
+	private final MessageUtil messageUtil;
 	private final Map<String, OrderbookDto> orderbookCache = new ConcurrentHashMap<>();
-	private final Map<String, Long> lastSentTime = new ConcurrentHashMap<>();
-	private static final long THROTTLE_INTERVAL_MS = 500;
+	private final Map<String, OrderbookDeltaTracker> deltaTrackers = new ConcurrentHashMap<>();
+	private static final String ORDERBOOK_DESTINATION_PREFIX = "/sub/coin/orderbook/";
+	private static final String DELTA_DESTINATION_SUFFIX = "/delta";
+	private static final String GROUP_DESTINATION_SUFFIX = "/group/";
+	private static final String WALL_DESTINATION_SUFFIX = "/walls";
+	private final Map<String, WallTracker> wallTrackers = new ConcurrentHashMap<>();
+	private final Map<String, DepthCurveEntry> depthCurves = new ConcurrentHashMap<>();
+
+	@Value("${upbit.orderbook.demand-driven:false}")
+	private boolean demandDriven;
+	@Value("${upbit.orderbook.linger-seconds:60}")
+	private long lingerSeconds;
+	@Value("${upbit.orderbook.pinned-markets:KRW-BTC,KRW-ETH,KRW-XRP}")
+	private List<String> pinnedMarkets;
+	@Value("${upbit.orderbook.indicators:MID_PRICE,SPREAD,IMBALANCE,LIQUIDITY_DEPTH}")
+	private List<OrderbookIndicatorType> indicators;
+	@Value("${upbit.orderbook.liquidity-bands:0.5,1,2,5}")
+	private List<Double> liquidityBands;
+	@Value("${upbit.orderbook.delta-enabled:false}")
+	private boolean deltaEnabled;
+	@Value("${upbit.orderbook.groupings:}")
+	private List<Integer> groupings = List.of();
+	@Value("${upbit.orderbook.wall.enabled:false}")
+	private boolean wallEnabled;
+	@Value("${upbit.orderbook.wall.z-score:3.0}")
+	private double wallZScore;
+	@Value("${upbit.orderbook.wall.exit-z-score:2.0}")
+	private double wallExitZScore;
+	@Value("${upbit.orderbook.wall.spoof-window-ms:5000}")
+	private long wallSpoofWindowMs;
+	@Value("${upbit.orderbook.wall.window:3000}")
+	private int wallWindow;
+	private OrderbookIndicatorEngine indicatorEngine = OrderbookIndicatorEngine.defaults();
+
+	// 구독 상태는 STOMP inbound 스레드에서 동시에 변경되므로 subscriptionLock으로 보호
+	private final Object subscriptionLock = new Object();
+	private final Map<String, Map<String, String>> sessionSubscriptions = new HashMap<>();
+	private final Map<String, Integer> subscriberCounts = new HashMap<>();
+	private final Map<String, Long> idleSince = new HashMap<>();
+	private final Set<String> demandedMarkets = ConcurrentHashMap.newKeySet();
+
+	@PostConstruct
+	public void initIndicatorEngine() {
+		indicatorEngine = new OrderbookIndicatorEngine(indicators, liquidityBands);
+		log.info("[Orderbook] Publishing indicators: {}", indicators);
+	}
 
 	public void updateOrderbook(Orderbook orderbook) {
-		OrderbookDto dto = OrderbookDto.from(orderbook);
+		OrderbookDeltaTracker tracker = deltaTrackers.computeIfAbsent(orderbook.getCode(),
+			code -> new OrderbookDeltaTracker());
+		OrderbookDto dto = OrderbookDto.of(orderbook, indicatorEngine.calculate(orderbook), tracker.nextVersion());
 		orderbookCache.put(dto.code(), dto);
+		orderbookHistoryService.record(orderbook);
 		publish(dto);
+		if (deltaEnabled) {
+			coalescingPublisher.publish(ORDERBOOK_DESTINATION_PREFIX + dto.code() + DELTA_DESTINATION_SUFFIX,
+				tracker.deferDelta(dto));
+		}
+		for (int multiplier : groupings) {
+			String destination = ORDERBOOK_DESTINATION_PREFIX + dto.code() + GROUP_DESTINATION_SUFFIX + multiplier;
+			coalescingPublisher.publish(destination, (CoalescingPublisher.Deferred)() -> group(dto, multiplier));
+		}
+		if (wallEnabled) {
+			detectWalls(orderbook);
+		}
 	}
 
-	public void publish(OrderbookDto dto) {
-		String market = dto.code();
-		long now = System.currentTimeMillis();
-		long lastSent = lastSentTime.getOrDefault(market, 0L);
+	private void detectWalls(Orderbook orderbook) {
+		if (orderbook.getOrderbookUnits() == null) {
+			return;
+		}
+		WallTracker tracker = wallTrackers.computeIfAbsent(orderbook.getCode(), WallTracker::new);
+		List<OrderbookWallEvent> events = tracker.detector.update(orderbook.getOrderbookUnits(),
+			orderbook.getTimestamp());
+		if (events.isEmpty()) {
+			return;
+		}
+		for (OrderbookWallEvent event : events) {
+			tracker.pending.add(OrderbookWallEventDto.of(orderbook.getCode(), event));
+		}
+		coalescingPublisher.publish(tracker.destination, tracker.drain);
+	}
+
+	// 마지막 전송 이후 감지한 벽 이벤트를 감지 순서대로 꺼냄, 없으면 null (전송 생략)
+	private static List<OrderbookWallEventDto> drainWalls(WallTracker tracker) {
+		List<OrderbookWallEventDto> events = new ArrayList<>();
+		OrderbookWallEventDto event;
+		while ((event = tracker.pending.poll()) != null) {
+			events.add(event);
+		}
+		return events.isEmpty() ? null : events;
+	}
 
-		if (now - lastSent >= THROTTLE_INTERVAL_MS) {
-			messagingTemplate.convertAndSend("/sub/coin/orderbook/" + market, dto);
-			lastSentTime.put(market, now);
+	/**
+	 * 호가 단위의 multiplier배 가격 단위로 묶은 호가
+	 * <p>
+	 * level에는 모아보기 가격 단위를 담습니다.
+	 *
+	 * @return 호가 단위를 정할 수 없으면 null
+	 */
+	public static OrderbookDto group(OrderbookDto dto, int multiplier) {
+		OrderbookLevels levels = dto.orderbookUnits();
+		double tick = (levels != null) ? OrderbookLevelGrouper.tickSize(dto.code(), levels) : 0.0;
+		if (tick <= 0 || multiplier <= 0) {
+			return null;
 		}
+		double unit = BigDecimal.valueOf(tick).multiply(BigDecimal.valueOf(multiplier)).doubleValue();
+		return dto.toBuilder()
+			.orderbookUnits(OrderbookLevelGrouper.group(levels, unit))
+			.level(unit)
+			.build();
+	}
+
+	public OrderbookDto getOrderbook(String market) {
+		return Optional.ofNullable(orderbookCache.get(market)).orElseThrow(() -> new BusinessException(
+			messageUtil.resolveMessage("orderbook.not.found"),
+			HttpStatus.NOT_FOUND));
 	}
 
+	/**
+	 * 요청한 마켓 순서대로 캐시된 호가 조회 (수신한 호가가 없는 마켓은 제외)
+	 */
+	public List<OrderbookDto> getOrderbooks(List<String> markets) {
+		return markets.stream()
+			.map(orderbookCache::get)
+			.filter(Objects::nonNull)
+			.toList();
+	}
+
+	/**
+	 * 마켓의 최신 호가로 만든 누적 잔량 곡선
+	 * <p>
+	 * 곡선은 기준 호가 DTO와 함께 캐시하고 캐시된 호가 DTO가 바뀌었을 때만 다시 만듭니다.
+	 * 호가 버전은 cleanUp으로 마켓이 제거되면 1부터 다시 시작하므로 버전이 아니라 DTO 동일성으로 비교합니다.
+	 */
+	public OrderbookDepthCurve getDepthCurve(String market) {
+		OrderbookDto orderbook = getOrderbook(market);
+		DepthCurveEntry entry = depthCurves.get(market);
+		if (entry != null && entry.source() == orderbook) {
+			return entry.curve();
+		}
+		// 같은 호가를 여러 요청이 동시에 만들 수 있지만 결과가 같으므로 마지막 값으로 교체
+		OrderbookDepthCurve curve = new OrderbookDepthCurve(orderbook.orderbookUnits(), orderbook.version());
+		depthCurves.put(market, new DepthCurveEntry(orderbook, curve));
+		return curve;
+	}
+
+	/**
+	 * 변경분 적용 기준 스냅샷
+	 * <p>
+	 * 변경분을 전송한 적이 있으면 마지막으로 전송한 변경분의 결과 호가를, 없으면 캐시된 최신 호가를 반환합니다.
+	 *
+	 * @return 수신한 호가가 없으면 null
+	 */
+	public OrderbookDto getSnapshot(String market) {
+		OrderbookDeltaTracker tracker = deltaTrackers.get(market);
+		OrderbookDto lastSent = (tracker != null) ? tracker.getLastSent() : null;
+		return (lastSent != null) ? lastSent : orderbookCache.get(market);
+	}
+
+	/**
+	 * 전송 간격 안에 들어온 호가는 최신 값만 남겨 간격이 끝날 때 전송
+	 */
+	public void publish(OrderbookDto dto) {
+		coalescingPublisher.publish(ORDERBOOK_DESTINATION_PREFIX + dto.code(), dto);
+	}
+
+	/**
+	 * 1분 이상 갱신되지 않은 호가 제거
+	 * <p>
+	 * 전송 여부가 아니라 캐시된 호가의 timestamp 기준이므로, 전송 간격 때문에 합쳐진 갱신도 계속 갱신 중인 호가로 유지됩니다.
+	 */
 	@Scheduled(fixedRate = 60000)
 	public void cleanUp() {
 		long expirationTime = System.currentTimeMillis() - 60000;
 
-		orderbookCache.entrySet().removeIf(entry -> {
-			String market = entry.getKey();
-			return lastSentTime.getOrDefault(market, 0L) < expirationTime;
-		});
+		orderbookCache.entrySet().removeIf(entry -> entry.getValue().timestamp() < expirationTime);
+		deltaTrackers.keySet().retainAll(orderbookCache.keySet());
+		wallTrackers.keySet().retainAll(orderbookCache.keySet());
+		depthCurves.keySet().retainAll(orderbookCache.keySet());
+	}
+
+	@EventListener
+	public void onSessionSubscribe(SessionSubscribeEvent event) {
+		StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+		String market = marketOf(accessor.getDestination());
+		if (market == null || accessor.getSessionId() == null) {
+			return;
+		}
+		addSubscription(accessor.getSessionId(), accessor.getSubscriptionId(), market);
+	}
+
+	@EventListener
+	public void onSessionUnsubscribe(SessionUnsubscribeEvent event) {
+		StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+		if (accessor.getSessionId() == null) {
+			return;
+		}
+		removeSubscription(accessor.getSessionId(), accessor.getSubscriptionId());
+	}
+
+	@EventListener
+	public void onSessionDisconnect(SessionDisconnectEvent event) {
+		synchronized (subscriptionLock) {
+			Map<String, String> subscriptions = sessionSubscriptions.remove(event.getSessionId());
+			if (subscriptions == null) {
+				return;
+			}
+			long now = System.currentTimeMillis();
+			subscriptions.values().forEach(market -> release(market, now));
+		}
+	}
+
+	/**
+	 * 구독자가 없는 상태로 linger 시간이 지난 마켓을 수신 대상에서 제외
+	 */
+	@Scheduled(fixedDelay = 5000)
+	public void expireIdleMarkets() {
+		List<String> removed = new ArrayList<>();
+		synchronized (subscriptionLock) {
+			long expirationTime = System.currentTimeMillis() - lingerSeconds * 1000L;
+			Iterator<Map.Entry<String, Long>> it = idleSince.entrySet().iterator();
+			while (it.hasNext()) {
+				Map.Entry<String, Long> entry = it.next();
+				if (entry.getValue() <= expirationTime) {
+					it.remove();
+					demandedMarkets.remove(entry.getKey());
+					if (!pinnedMarkets.contains(entry.getKey())) {
+						removed.add(entry.getKey());
+					}
+				}
+			}
+		}
+		if (demandDriven && !removed.isEmpty()) {
+			log.info("[Orderbook] Releasing idle orderbook markets: {}", removed);
+			eventPublisher.publishEvent(new OrderbookDemandChangedEvent(List.of(), removed));
+		}
+	}
+
+	/**
+	 * Upbit에서 호가를 수신해야 하는 마켓 (고정 마켓 + 구독자가 있거나 linger 중인 마켓)
+	 */
+	public Set<String> getActiveMarkets() {
+		Set<String> active = new HashSet<>(pinnedMarkets);
+		active.addAll(demandedMarkets);
+		return active;
+	}
+
+	public boolean isDemandDriven() {
+		return demandDriven;
+	}
+
+	public int getSubscriberCount(String market) {
+		synchronized (subscriptionLock) {
+			return subscriberCounts.getOrDefault(market, 0);
+		}
+	}
+
+	private void addSubscription(String sessionId, String subscriptionId, String market) {
+		boolean added;
+		synchronized (subscriptionLock) {
+			sessionSubscriptions.computeIfAbsent(sessionId, id -> new HashMap<>()).put(subscriptionId, market);
+			subscriberCounts.merge(market, 1, Integer::sum);
+			idleSince.remove(market);
+			added = demandedMarkets.add(market) && !pinnedMarkets.contains(market);
+		}
+		if (demandDriven && added) {
+			log.info("[Orderbook] Requesting orderbook stream for {}", market);
+			eventPublisher.publishEvent(new OrderbookDemandChangedEvent(List.of(market), List.of()));
+		}
+	}
+
+	private void removeSubscription(String sessionId, String subscriptionId) {
+		synchronized (subscriptionLock) {
+			Map<String, String> subscriptions = sessionSubscriptions.get(sessionId);
+			String market = (subscriptions != null) ? subscriptions.remove(subscriptionId) : null;
+			if (market == null) {
+				return;
+			}
+			if (subscriptions.isEmpty()) {
+				sessionSubscriptions.remove(sessionId);
+			}
+			release(market, System.currentTimeMillis());
+		}
+	}
+
+	// subscriptionLock을 보유한 상태에서 호출
+	private void release(String market, long now) {
+		Integer remaining = subscriberCounts.computeIfPresent(market, (key, count) -> count > 1 ? count - 1 : null);
+		if (remaining == null) {
+			idleSince.put(market, now);
+		}
+	}
+
+	/**
+	 * `/sub/coin/orderbook/{market}` 형식의 destination에서 마켓 코드 추출
+	 */
+	private static String marketOf(String destination) {
+		if (destination == null || !destination.startsWith(ORDERBOOK_DESTINATION_PREFIX)) {
+			return null;
+		}
+		String rest = destination.substring(ORDERBOOK_DESTINATION_PREFIX.length());
+		int slash = rest.indexOf('/');
+		String market = (slash < 0) ? rest : rest.substring(0, slash);
+		return market.isEmpty() ? null : market;
+	}
+
+	private record DepthCurveEntry(OrderbookDto source, OrderbookDepthCurve curve) {
+	}
+
+	/**
+	 * 마켓별 호가 벽 감지기와 전송 대기 이벤트
+	 * <p>
+	 * 감지기는 마켓별 처리 스레드에서만 갱신하고, 대기 이벤트는 전송 시점에 CoalescingPublisher 스레드에서 꺼냅니다.
+	 */
+	private final class WallTracker {
+		private final OrderbookWallDetector detector;
+		private final String destination;
+		private final Queue<OrderbookWallEventDto> pending = new ConcurrentLinkedQueue<>();
+		private final CoalescingPublisher.Deferred drain = () -> drainWalls(this);
+
+		private WallTracker(String code) {
+			this.detector = new OrderbookWallDetector(wallZScore, wallExitZScore, wallSpoofWindowMs, wallWindow);
+			this.destination = ORDERBOOK_DESTINATION_PREFIX + code + WALL_DESTINATION_SUFFIX;
+		}
 	}
 }
@@ -0,0 +1,52 @@
+package com.coing.domain.coin.orderbook.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import com.coing.domain.coin.common.enums.AskBid;
+import com.coing.domain.coin.orderbook.dto.OrderbookSlippageResponse;
+import com.coing.domain.coin.orderbook.entity.OrderbookDepthCurve;
+import com.coing.domain.coin.orderbook.entity.OrderbookSlippage;
+import com.coing.global.exception.BusinessException;
+import com.coing.util.MessageUtil;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 호가 기반 시장가 주문 체결(슬리피지) 추정
+ * <p>
+ * 마켓별 누적 잔량 곡선(OrderbookDepthCurve)은 OrderbookService가 캐시된 호가마다 한 번만 만들고, 같은 호가의 요청은 이진 탐색으로만 처리합니다.
+ * 곡선은 조회 요청이 있을 때 만들기 때문에 조회되지 않는 마켓의 호가 갱신에는 추가 비용이 없습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderbookSlippageService {
+
+	private final OrderbookService orderbookService;
+	private final MessageUtil messageUtil;
+
+	/**
+	 * quantity(수량)와 amount(금액) 중 하나로 주문 크기를 지정
+	 * <p>
+	 * 둘 중 정확히 하나만 지정해야 하며, 지정한 값은 0보다 큰 유한한 수여야 합니다.
+	 */
+	public OrderbookSlippageResponse estimate(String market, AskBid side, Double quantity, Double amount) {
+		boolean byQuantity = quantity != null;
+		if (side == null || byQuantity == (amount != null) || !isPositive(byQuantity ? quantity : amount)) {
+			throw new BusinessException(
+				messageUtil.resolveMessage("invalid.order.size"),
+				HttpStatus.BAD_REQUEST
+			);
+		}
+
+		OrderbookDepthCurve curve = orderbookService.getDepthCurve(market);
+		OrderbookSlippage slippage = byQuantity
+			? curve.estimateByQuantity(side, quantity)
+			: curve.estimateByAmount(side, amount);
+		return OrderbookSlippageResponse.of(market, side, curve, slippage);
+	}
+
+	private static boolean isPositive(double value) {
+		return Double.isFinite(value) && value > 0;
+	}
+}
@@ -1,21 +1,33 @@
 package com.coing.domain.coin.ticker;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.coing.domain.coin.common.dto.PagedResponse;
+import com.coing.domain.coin.ticker.dto.TickerFragmentsResponse;
+import com.coing.domain.coin.ticker.dto.TickerRankingDto;
 import com.coing.domain.coin.ticker.dto.TickerResponse;
 import com.coing.domain.coin.ticker.dto.TickersRequest;
 import com.coing.domain.coin.ticker.dto.TickersResponse;
+import com.coing.domain.coin.ticker.entity.enums.TickerRankingType;
+import com.coing.domain.coin.ticker.service.TickerRankingService;
 import com.coing.domain.coin.ticker.service.TickerService;
 import com.coing.global.exception.doc.ApiErrorCodeExamples;
 import com.coing.global.exception.doc.ErrorCode;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 
@@ -26,6 +38,7 @@ import lombok.RequiredArgsConstructor;
 public class TickerController {
 
 	private final TickerService tickerService;
+	private final TickerRankingService tickerRankingService;
 
 	@Operation(summary = "특정 마켓 현재가 조회")
 	@GetMapping("/{market}")
@@ -35,10 +48,39 @@ public class TickerController {
 		return ResponseEntity.ok(response);
 	}
 
-	@Operation(summary = "여러 마켓 현재가 조회")
+	@Operation(summary = "기준 통화별 마켓 순위 조회",
+		description = "type: CHANGE_RATE(변동률) | TRADE_PRICE(24시간 거래대금) | TRADE_VOLUME(24시간 거래량), "
+			+ "direction: DESC(기본) | ASC, 상위 k개는 page=0&size=k")
+	@GetMapping("/rankings")
+	public ResponseEntity<PagedResponse<TickerRankingDto>> getRankings(
+		@RequestParam("quote") String quote,
+		@RequestParam("type") TickerRankingType type,
+		@RequestParam(name = "direction", defaultValue = "DESC") Sort.Direction direction,
+		@RequestParam(name = "page", defaultValue = "0") int page,
+		@RequestParam(name = "size", defaultValue = "20") int size) {
+		Page<TickerRankingDto> result = tickerRankingService.getRankings(quote, type, direction, page, size);
+
+		PagedResponse<TickerRankingDto> response = new PagedResponse<>(
+			result.getNumber(),
+			result.getSize(),
+			result.getTotalElements(),
+			result.getTotalPages(),
+			result.getContent()
+		);
+		return ResponseEntity.ok(response);
+	}
+
+	/**
+	 * 마켓별로 미리 직렬화한 JSON 조각을 이어 붙여 응답합니다.
+	 * view가 SUMMARY이면 목록 화면용 필드(TickerSummaryDto)만 포함합니다.
+	 */
+	@Operation(summary = "여러 마켓 현재가 조회", description = "요청한 마켓 순서대로 반환, view: FULL(기본) | SUMMARY",
+		responses = @ApiResponse(responseCode = "200",
+			content = @Content(schema = @Schema(implementation = TickersResponse.class))))
 	@PostMapping
-	public ResponseEntity<TickersResponse> getTickers(@RequestBody TickersRequest request) {
-		TickersResponse response = TickersResponse.from(tickerService.getTickers(request.markets()));
+	public ResponseEntity<TickerFragmentsResponse> getTickers(@RequestBody @Validated TickersRequest request) {
+		TickerFragmentsResponse response = TickerFragmentsResponse.from(
+			tickerService.getTickerFragments(request.markets(), request.viewOrDefault()));
 		return ResponseEntity.ok(response);
 	}
 }
@@ -0,0 +1,29 @@
+package com.coing.domain.coin.ticker.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.databind.util.RawValue;
+
+import lombok.Builder;
+
+/**
+ * 기준 통화별 Ticker 묶음 STOMP 메시지
+ */
+@Builder
+public record TickerBatchDto(
+	String type, // "tickerBatch"
+	String quote, // 기준 통화 (예: "KRW")
+	List<RawValue> tickers, // 마지막 전송 이후 바뀐 마켓의 TickerSummaryDto JSON
+	long timestamp // 타임스탬프 (millisecond)
+) {
+	public static final String TYPE = "tickerBatch";
+
+	public static TickerBatchDto of(String quote, List<RawValue> tickers) {
+		return TickerBatchDto.builder()
+			.type(TYPE)
+			.quote(quote)
+			.tickers(tickers)
+			.timestamp(System.currentTimeMillis())
+			.build();
+	}
+}
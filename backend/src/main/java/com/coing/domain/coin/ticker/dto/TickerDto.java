@@ -5,8 +5,6 @@ import java.time.LocalTime;
 
 import com.coing.domain.coin.common.enums.AskBid;
 import com.coing.domain.coin.common.enums.Change;
-import com.coing.domain.coin.market.entity.Market;
-import com.coing.domain.coin.ticker.entity.Ticker;
 import com.coing.domain.coin.ticker.entity.enums.MarketState;
 import com.coing.domain.coin.ticker.entity.enums.MarketWarning;
 
@@ -50,48 +48,11 @@ public record TickerDto(
 	// 계산된 지표
 	double accAskBidRate, // 매수/매도 누적 비율
 	boolean highBreakout, // 52주 최고가 갱신 여부
-	boolean lowBreakout // 52주 최저가 갱신 여부
-	// double oneMinuteRate // 단기 변동률(1분)
+	boolean lowBreakout, // 52주 최저가 갱신 여부
+	Double oneMinuteRate, // 단기 변동률(1분), 이력이 부족하면 null
+	Double fiveMinuteRate, // 단기 변동률(5분)
+	Double fifteenMinuteRate, // 단기 변동률(15분)
+	Double oneHourRate, // 단기 변동률(1시간)
+	Double fourHourRate // 단기 변동률(4시간)
 ) {
-
-	public static TickerDto from(Ticker ticker, Market market) {
-		return TickerDto.builder()
-			.type(ticker.getType())
-			.code(ticker.getCode())
-			.koreanName(market.getKoreanName())
-			.englishName(market.getEnglishName())
-			.openingPrice(ticker.getOpeningPrice())
-			.highPrice(ticker.getHighPrice())
-			.lowPrice(ticker.getLowPrice())
-			.tradePrice(ticker.getTradePrice())
-			.prevClosingPrice(ticker.getPrevClosingPrice())
-			.change(ticker.getChange())
-			.changePrice(ticker.getChangePrice())
-			.signedChangePrice(ticker.getSignedChangePrice())
-			.changeRate(ticker.getChangeRate())
-			.signedChangeRate(ticker.getSignedChangeRate())
-			.tradeVolume(ticker.getTradeVolume())
-			.accTradeVolume(ticker.getAccTradeVolume())
-			.accTradeVolume24h(ticker.getAccTradeVolume24h())
-			.accTradePrice(ticker.getAccTradePrice())
-			.accTradePrice24h(ticker.getAccTradePrice24h())
-			.tradeDate(ticker.getTradeDate())
-			.tradeTime(ticker.getTradeTime())
-			.tradeTimestamp(ticker.getTradeTimestamp())
-			.askBid(ticker.getAskBid())
-			.accAskVolume(ticker.getAccAskVolume())
-			.accBidVolume(ticker.getAccBidVolume())
-			.highest52WeekPrice(ticker.getHighest52WeekPrice())
-			.highest52WeekDate(ticker.getHighest52WeekDate())
-			.lowest52WeekPrice(ticker.getLowest52WeekPrice())
-			.lowest52WeekDate(ticker.getLowest52WeekDate())
-			.marketState(ticker.getMarketState())
-			.marketWarning(ticker.getMarketWarning())
-			.timestamp(ticker.getTimestamp())
-			.accAskBidRate(ticker.getAccAskBidRate())
-			.highBreakout(ticker.isHighBreakout())
-			.lowBreakout(ticker.isLowBreakout())
-			// .oneMinuteRate(ticker.getOneMinuteRate())
-			.build();
-	}
 }
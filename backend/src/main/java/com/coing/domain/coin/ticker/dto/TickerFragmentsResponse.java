@@ -0,0 +1,19 @@
+package com.coing.domain.coin.ticker.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.databind.util.RawValue;
+
+import lombok.Builder;
+
+/**
+ * 마켓별로 미리 직렬화한 Ticker JSON을 그대로 이어 붙이는 응답
+ * <p>
+ * JSON 형태는 TickersResponse(view = FULL) 또는 TickerSummaryDto 목록과 같습니다.
+ */
+@Builder
+public record TickerFragmentsResponse(List<RawValue> tickers) {
+	public static TickerFragmentsResponse from(List<RawValue> tickers) {
+		return TickerFragmentsResponse.builder().tickers(tickers).build();
+	}
+}
@@ -0,0 +1,20 @@
+package com.coing.domain.coin.ticker.dto;
+
+import lombok.Builder;
+
+@Builder
+public record TickerRankingDto(
+	int rank, // 순위 (1부터 시작)
+	String code, // 마켓 코드 (예: "KRW-BTC")
+	double value, // 정렬 기준 값
+	TickerSummaryDto ticker // 현재가 요약
+) {
+	public static TickerRankingDto of(int rank, double value, TickerDto ticker) {
+		return TickerRankingDto.builder()
+			.rank(rank)
+			.code(ticker.code())
+			.value(value)
+			.ticker(TickerSummaryDto.from(ticker))
+			.build();
+	}
+}
@@ -0,0 +1,32 @@
+package com.coing.domain.coin.ticker.dto;
+
+import java.util.List;
+
+import com.coing.domain.coin.ticker.entity.enums.TickerRankingType;
+
+import lombok.Builder;
+
+/**
+ * 상위 순위 변경 STOMP 메시지
+ */
+@Builder
+public record TickerRankingUpdateDto(
+	String type, // "tickerRanking"
+	String quote, // 기준 통화 (예: "KRW")
+	TickerRankingType rankingType, // 정렬 기준
+	List<TickerRankingDto> rankings, // 값이 큰 순서의 상위 순위
+	long timestamp // 타임스탬프 (millisecond)
+) {
+	public static final String TYPE = "tickerRanking";
+
+	public static TickerRankingUpdateDto of(String quote, TickerRankingType rankingType,
+		List<TickerRankingDto> rankings) {
+		return TickerRankingUpdateDto.builder()
+			.type(TYPE)
+			.quote(quote)
+			.rankingType(rankingType)
+			.rankings(rankings)
+			.timestamp(System.currentTimeMillis())
+			.build();
+	}
+}
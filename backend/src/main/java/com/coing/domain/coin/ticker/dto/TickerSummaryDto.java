@@ -0,0 +1,41 @@
+package com.coing.domain.coin.ticker.dto;
+
+import com.coing.domain.coin.common.enums.Change;
+
+import lombok.Builder;
+
+/**
+ * 목록 화면용 Ticker 요약
+ * <p>
+ * 여러 마켓을 한 번에 조회할 때 응답 크기를 줄이기 위해 TickerDto 중 시세 목록에 필요한 필드만 담습니다.
+ */
+@Builder
+public record TickerSummaryDto(
+	String type, // 데이터 타입 (예: "ticker")
+	String code, // 마켓 코드 (예: "KRW-BTC")
+	String koreanName, // 한글 이름
+	String englishName, // 영어 이름
+	double tradePrice, // 현재가
+	Change change, // 전일 대비
+	double signedChangePrice, // 전일 대비 값 (부호 포함)
+	double signedChangeRate, // 전일 대비 변동률 (부호 포함)
+	double accTradeVolume24h, // 24시간 누적 거래량
+	double accTradePrice24h, // 24시간 누적 거래대금
+	Long timestamp // 타임스탬프
+) {
+	public static TickerSummaryDto from(TickerDto ticker) {
+		return TickerSummaryDto.builder()
+			.type(ticker.type())
+			.code(ticker.code())
+			.koreanName(ticker.koreanName())
+			.englishName(ticker.englishName())
+			.tradePrice(ticker.tradePrice())
+			.change(ticker.change())
+			.signedChangePrice(ticker.signedChangePrice())
+			.signedChangeRate(ticker.signedChangeRate())
+			.accTradeVolume24h(ticker.accTradeVolume24h())
+			.accTradePrice24h(ticker.accTradePrice24h())
+			.timestamp(ticker.timestamp())
+			.build();
+	}
+}
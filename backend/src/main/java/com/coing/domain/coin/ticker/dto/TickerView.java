@@ -0,0 +1,6 @@
+package com.coing.domain.coin.ticker.dto;
+
+public enum TickerView {
+	FULL,       // TickerDto 전체 필드
+	SUMMARY     // 목록 화면용 주요 필드 (TickerSummaryDto)
+}
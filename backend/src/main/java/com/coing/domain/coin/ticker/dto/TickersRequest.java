@@ -4,5 +4,12 @@ import java.util.List;
 
 import jakarta.validation.constraints.NotNull;
 
-public record TickersRequest(@NotNull List<String> markets) {
+/**
+ * @param markets 조회할 마켓 코드 (응답은 요청 순서를 따름)
+ * @param view    응답 필드 구성, 지정하지 않으면 FULL
+ */
+public record TickersRequest(@NotNull(message = "{markets.required}") List<String> markets, TickerView view) {
+	public TickerView viewOrDefault() {
+		return (view != null) ? view : TickerView.FULL;
+	}
 }
@@ -53,6 +53,5 @@ public class Ticker {
 	private double accAskBidRate; // 매수/매도 누적 비율
 	private boolean highBreakout; // 52주 최고가 갱신 여부
 	private boolean lowBreakout; // 52주 최저가 갱신 여부
-	// private double oneMinuteRate; // 단기 변동률(1분)
 }
 
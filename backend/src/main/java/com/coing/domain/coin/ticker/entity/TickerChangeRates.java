@@ -0,0 +1,13 @@
+package com.coing.domain.coin.ticker.entity;
+
+/**
+ * 기간별 단기 변동률 (현재가 / 기간 전 가격 - 1, 이력이 기간보다 짧으면 null)
+ */
+public record TickerChangeRates(
+	Double oneMinute,
+	Double fiveMinute,
+	Double fifteenMinute,
+	Double oneHour,
+	Double fourHour
+) {
+}
@@ -0,0 +1,88 @@
+package com.coing.domain.coin.ticker.entity;
+
+import java.util.Arrays;
+
+/**
+ * 마켓별 가격 이력 (시간 구간 Ring)
+ * <p>
+ * bucketMs 단위 구간마다 마지막 가격 하나를 primitive 배열에 보관하고, Ticker가 없던 구간은 다음 기록 때 직전 가격으로
+ * 채웁니다. 따라서 기간 전 가격은 해당 구간 위치를 바로 읽어 O(1)에 찾으며, 기준 가격의 시간 오차는 bucketMs 이내입니다.
+ * 최장 기간(4시간)만큼만 보관하므로 메모리는 마켓당 고정 크기입니다 (기본 5초 구간 기준 약 46KB).
+ * <p>
+ * TickerSlot 잠금 안에서만 호출하므로 동기화하지 않습니다.
+ */
+public class TickerPriceHistory {
+	private static final long ONE_MINUTE_MS = 60_000L;
+	private static final long FIVE_MINUTE_MS = 5 * ONE_MINUTE_MS;
+	private static final long FIFTEEN_MINUTE_MS = 15 * ONE_MINUTE_MS;
+	private static final long ONE_HOUR_MS = 60 * ONE_MINUTE_MS;
+	private static final long FOUR_HOUR_MS = 4 * ONE_HOUR_MS;
+
+	private final long bucketMs;
+	private final long[] buckets; // 구간 번호 (timestamp / bucketMs), 비어 있으면 -1
+	private final double[] prices; // 구간의 마지막 가격
+	private long lastBucket = -1;
+
+	public TickerPriceHistory(long bucketMs) {
+		this.bucketMs = bucketMs;
+		int capacity = (int)(FOUR_HOUR_MS / bucketMs) + 2;
+		this.buckets = new long[capacity];
+		this.prices = new double[capacity];
+		Arrays.fill(buckets, -1L);
+	}
+
+	/**
+	 * 가격 기록 (직전 기록보다 이전 구간의 가격은 무시)
+	 */
+	public void record(long timestamp, double price) {
+		long bucket = timestamp / bucketMs;
+		if (bucket < lastBucket) {
+			return;
+		}
+		if (lastBucket >= 0 && bucket > lastBucket + 1) {
+			double last = prices[slotOf(lastBucket)];
+			for (long b = Math.max(lastBucket + 1, bucket - buckets.length + 1); b < bucket; b++) {
+				put(b, last);
+			}
+		}
+		put(bucket, price);
+		lastBucket = bucket;
+	}
+
+	/**
+	 * timestamp 기준 1분/5분/15분/1시간/4시간 변동률
+	 */
+	public TickerChangeRates changeRates(long timestamp, double price) {
+		return new TickerChangeRates(
+			changeRate(timestamp, price, ONE_MINUTE_MS),
+			changeRate(timestamp, price, FIVE_MINUTE_MS),
+			changeRate(timestamp, price, FIFTEEN_MINUTE_MS),
+			changeRate(timestamp, price, ONE_HOUR_MS),
+			changeRate(timestamp, price, FOUR_HOUR_MS));
+	}
+
+	/**
+	 * @return horizonMs 전 구간의 가격 대비 변동률, 해당 구간 기록이 없으면 null
+	 */
+	public Double changeRate(long timestamp, double price, long horizonMs) {
+		long bucket = (timestamp - horizonMs) / bucketMs;
+		if (bucket < 0) {
+			return null;
+		}
+		int slot = slotOf(bucket);
+		if (buckets[slot] != bucket || prices[slot] == 0) {
+			return null;
+		}
+		return (price - prices[slot]) / prices[slot];
+	}
+
+	private void put(long bucket, double price) {
+		int slot = slotOf(bucket);
+		buckets[slot] = bucket;
+		prices[slot] = price;
+	}
+
+	private int slotOf(long bucket) {
+		return (int)(bucket % buckets.length);
+	}
+}
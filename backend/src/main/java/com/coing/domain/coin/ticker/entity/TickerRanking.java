@@ -0,0 +1,92 @@
+package com.coing.domain.coin.ticker.entity;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 기준 통화 하나, 정렬 기준 하나에 대한 마켓 순위 인덱스
+ * <p>
+ * (값, 마켓 코드) 키를 skip list에 정렬된 상태로 유지하므로 갱신은 O(log n), 상위 k개 조회는 O(offset + k)입니다.
+ * 마켓별 갱신은 해당 마켓의 처리 스레드에서만 일어나고, 조회는 여러 요청 스레드에서 동시에 할 수 있습니다.
+ * 조회 중 갱신되는 마켓은 이전 키를 건너뛰므로 잠시 결과에서 빠질 수 있지만 중복되지는 않습니다.
+ * 조회 결과의 값은 순위를 정한 시점의 값이며, 현재가는 각 TickerSlot의 snapshot으로 읽습니다.
+ */
+public class TickerRanking {
+	private static final Comparator<Key> ORDER = Comparator.comparingDouble(Key::value).thenComparing(Key::code);
+
+	private final NavigableSet<Key> keys = new ConcurrentSkipListSet<>(ORDER);
+	private final Map<String, Ranked> current = new ConcurrentHashMap<>();
+
+	/**
+	 * 마켓 순위 값 갱신
+	 *
+	 * @return 순위 값이 바뀌었으면 true
+	 */
+	public boolean update(TickerSlot slot, double value) {
+		Ranked previous = current.get(slot.getCode());
+		if (previous != null && Double.compare(previous.key().value(), value) == 0) {
+			return false;
+		}
+		Key key = new Key(value, slot.getCode());
+		current.put(slot.getCode(), new Ranked(key, slot));
+		keys.add(key);
+		if (previous != null) {
+			keys.remove(previous.key());
+		}
+		return true;
+	}
+
+	public void remove(String code) {
+		Ranked previous = current.remove(code);
+		if (previous != null) {
+			keys.remove(previous.key());
+		}
+	}
+
+	/**
+	 * @param descending true: 값이 큰 순서, false: 값이 작은 순서
+	 * @param offset     건너뛸 순위 수
+	 * @param limit      최대 조회 수
+	 */
+	public List<Entry> page(boolean descending, int offset, int limit) {
+		List<Entry> result = new ArrayList<>(Math.min(limit, current.size()));
+		int skipped = 0;
+		for (Key key : descending ? keys.descendingSet() : keys) {
+			if (result.size() == limit) {
+				break;
+			}
+			Ranked ranked = current.get(key.code());
+			if (ranked == null || !ranked.key().equals(key)) {
+				continue;
+			}
+			if (skipped < offset) {
+				skipped++;
+				continue;
+			}
+			result.add(new Entry(key.value(), ranked.slot()));
+		}
+		return result;
+	}
+
+	public int size() {
+		return current.size();
+	}
+
+	/**
+	 * @param value 순위를 정한 값
+	 * @param slot  마켓 현재가 슬롯
+	 */
+	public record Entry(double value, TickerSlot slot) {
+	}
+
+	private record Key(double value, String code) {
+	}
+
+	private record Ranked(Key key, TickerSlot slot) {
+	}
+}
@@ -0,0 +1,227 @@
+package com.coing.domain.coin.ticker.entity;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.concurrent.locks.StampedLock;
+
+import com.coing.domain.coin.common.enums.AskBid;
+import com.coing.domain.coin.common.enums.Change;
+import com.coing.domain.coin.ticker.dto.TickerDto;
+import com.coing.domain.coin.ticker.entity.enums.MarketState;
+import com.coing.domain.coin.ticker.entity.enums.MarketWarning;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * 마켓별 현재가 슬롯
+ * <p>
+ * 수신한 Ticker를 새 객체로 만들지 않고 마켓마다 하나인 슬롯의 필드를 덮어쓰며, 한글/영어 이름은 슬롯을 만들 때 한 번만
+ * 조회합니다. TickerDto는 전송이나 조회 시점에만 snapshot()으로 복사하고, 슬롯이 바뀌지 않았으면 같은 인스턴스를 재사용합니다.
+ * <p>
+ * 쓰기는 마켓별 처리 스레드에서만 write()로 하며, 필드는 write()와 rename() 안에서만 쓰기 잠금을 잡고 대입합니다.
+ * getter는 쓰기 스레드에서만 사용하고, 다른 스레드는 snapshot()으로 읽습니다.
+ */
+@Getter
+public class TickerSlot {
+	@Getter(AccessLevel.NONE)
+	private final StampedLock lock = new StampedLock();
+	@Getter(AccessLevel.NONE)
+	private final TickerPriceHistory priceHistory;
+	@Getter(AccessLevel.NONE)
+	private long version;
+	@Getter(AccessLevel.NONE)
+	private volatile Snapshot cached;
+
+	private final String code; // 마켓 코드 (예: "KRW-BTC")
+	private volatile String koreanName; // 한글 이름
+	private volatile String englishName; // 영어 이름
+
+	private String type; // 데이터 타입 (예: "ticker")
+	private double openingPrice; // 시가
+	private double highPrice; // 고가
+	private double lowPrice; // 저가
+	private double tradePrice; // 현재가
+	private double prevClosingPrice; // 전일 종가
+	private Change change; // 전일 대비
+	private double changePrice; // 전일 대비 값
+	private double signedChangePrice; // 전일 대비 값 (부호 포함)
+	private double changeRate; // 전일 대비 변동률
+	private double signedChangeRate; // 전일 대비 변동률 (부호 포함)
+	private double tradeVolume; // 가장 최근 거래량
+	private double accTradeVolume; // 누적 거래량
+	private double accTradeVolume24h; // 24시간 누적 거래량
+	private double accTradePrice; // 누적 거래대금
+	private double accTradePrice24h; // 24시간 누적 거래대금
+	private LocalDate tradeDate; // 최근 거래 일자
+	private LocalTime tradeTime; // 최근 거래 시각
+	private Long tradeTimestamp; // 체결 타임스탬프
+	private AskBid askBid; // 매수/매도 구분
+	private double accAskVolume; // 누적 매도량
+	private double accBidVolume; // 누적 매수량
+	private double highest52WeekPrice; // 52주 최고가
+	private LocalDate highest52WeekDate; // 52주 최고가 달성일
+	private double lowest52WeekPrice; // 52주 최저가
+	private LocalDate lowest52WeekDate; // 52주 최저가 달성일
+	private MarketState marketState; // 거래 상태
+	private MarketWarning marketWarning; // 유의 종목 여부
+	private Long timestamp; // 타임스탬프
+
+	// 계산된 지표
+	private double accAskBidRate; // 매수/매도 누적 비율
+	private boolean highBreakout; // 52주 최고가 갱신 여부
+	private boolean lowBreakout; // 52주 최저가 갱신 여부
+
+	/**
+	 * @param changeRateBucketMs 단기 변동률 가격 이력 구간
+	 */
+	public TickerSlot(String code, String koreanName, String englishName, long changeRateBucketMs) {
+		this.code = code;
+		this.koreanName = koreanName;
+		this.englishName = englishName;
+		this.priceHistory = new TickerPriceHistory(changeRateBucketMs);
+	}
+
+	/**
+	 * 수신 데이터로 슬롯을 갱신하고 가격 이력에 현재가 기록
+	 */
+	public void write(TickerUpdate update) {
+		long stamp = lock.writeLock();
+		try {
+			apply(update);
+			priceHistory.record(timestampOrNow(), tradePrice);
+			version++;
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	// 쓰기 잠금 안에서 호출
+	private void apply(TickerUpdate update) {
+		type = update.getType();
+		openingPrice = update.getOpeningPrice();
+		highPrice = update.getHighPrice();
+		lowPrice = update.getLowPrice();
+		tradePrice = update.getTradePrice();
+		prevClosingPrice = update.getPrevClosingPrice();
+		change = update.getChange();
+		changePrice = update.getChangePrice();
+		signedChangePrice = update.getSignedChangePrice();
+		changeRate = update.getChangeRate();
+		signedChangeRate = update.getSignedChangeRate();
+		tradeVolume = update.getTradeVolume();
+		accTradeVolume = update.getAccTradeVolume();
+		accTradeVolume24h = update.getAccTradeVolume24h();
+		accTradePrice = update.getAccTradePrice();
+		accTradePrice24h = update.getAccTradePrice24h();
+		tradeDate = update.getTradeDate();
+		tradeTime = update.getTradeTime();
+		tradeTimestamp = update.getTradeTimestamp();
+		askBid = update.getAskBid();
+		accAskVolume = update.getAccAskVolume();
+		accBidVolume = update.getAccBidVolume();
+		highest52WeekPrice = update.getHighest52WeekPrice();
+		highest52WeekDate = update.getHighest52WeekDate();
+		lowest52WeekPrice = update.getLowest52WeekPrice();
+		lowest52WeekDate = update.getLowest52WeekDate();
+		marketState = update.getMarketState();
+		marketWarning = update.getMarketWarning();
+		timestamp = update.getTimestamp();
+
+		accAskBidRate = (accAskVolume - accBidVolume) / accTradeVolume;
+		highBreakout = tradePrice > highest52WeekPrice;
+		lowBreakout = tradePrice < lowest52WeekPrice;
+	}
+
+	/**
+	 * 마켓 이름 변경 반영 (다음 snapshot부터 적용)
+	 */
+	public void rename(String koreanName, String englishName) {
+		long stamp = lock.writeLock();
+		try {
+			this.koreanName = koreanName;
+			this.englishName = englishName;
+			version++;
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * 현재 슬롯 값의 TickerDto 복사본
+	 * <p>
+	 * 마지막 복사 이후 갱신이 없으면 잠금 없이 이전 복사본을 반환합니다.
+	 */
+	public TickerDto snapshot() {
+		long stamp = lock.tryOptimisticRead();
+		long currentVersion = version;
+		Snapshot snapshot = cached;
+		if (snapshot != null && snapshot.version() == currentVersion && lock.validate(stamp)) {
+			return snapshot.ticker();
+		}
+		stamp = lock.readLock();
+		try {
+			snapshot = cached;
+			if (snapshot == null || snapshot.version() != version) {
+				snapshot = new Snapshot(version, toDto());
+				cached = snapshot;
+			}
+			return snapshot.ticker();
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	private TickerDto toDto() {
+		TickerChangeRates rates = priceHistory.changeRates(timestampOrNow(), tradePrice);
+		return TickerDto.builder()
+			.type(type)
+			.code(code)
+			.koreanName(koreanName)
+			.englishName(englishName)
+			.openingPrice(openingPrice)
+			.highPrice(highPrice)
+			.lowPrice(lowPrice)
+			.tradePrice(tradePrice)
+			.prevClosingPrice(prevClosingPrice)
+			.change(change)
+			.changePrice(changePrice)
+			.signedChangePrice(signedChangePrice)
+			.changeRate(changeRate)
+			.signedChangeRate(signedChangeRate)
+			.tradeVolume(tradeVolume)
+			.accTradeVolume(accTradeVolume)
+			.accTradeVolume24h(accTradeVolume24h)
+			.accTradePrice(accTradePrice)
+			.accTradePrice24h(accTradePrice24h)
+			.tradeDate(tradeDate)
+			.tradeTime(tradeTime)
+			.tradeTimestamp(tradeTimestamp)
+			.askBid(askBid)
+			.accAskVolume(accAskVolume)
+			.accBidVolume(accBidVolume)
+			.highest52WeekPrice(highest52WeekPrice)
+			.highest52WeekDate(highest52WeekDate)
+			.lowest52WeekPrice(lowest52WeekPrice)
+			.lowest52WeekDate(lowest52WeekDate)
+			.marketState(marketState)
+			.marketWarning(marketWarning)
+			.timestamp(timestamp)
+			.accAskBidRate(accAskBidRate)
+			.highBreakout(highBreakout)
+			.lowBreakout(lowBreakout)
+			.oneMinuteRate(rates.oneMinute())
+			.fiveMinuteRate(rates.fiveMinute())
+			.fifteenMinuteRate(rates.fifteenMinute())
+			.oneHourRate(rates.oneHour())
+			.fourHourRate(rates.fourHour())
+			.build();
+	}
+
+	private long timestampOrNow() {
+		return (timestamp != null) ? timestamp : System.currentTimeMillis();
+	}
+
+	private record Snapshot(long version, TickerDto ticker) {
+	}
+}
@@ -0,0 +1,76 @@
+package com.coing.domain.coin.ticker.entity;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import com.coing.domain.coin.common.enums.AskBid;
+import com.coing.domain.coin.common.enums.Change;
+import com.coing.domain.coin.ticker.entity.enums.MarketState;
+import com.coing.domain.coin.ticker.entity.enums.MarketWarning;
+
+/**
+ * TickerSlot에 기록할 수신 현재가
+ * <p>
+ * 수신 DTO가 구현하며, TickerSlot.write()가 쓰기 잠금 안에서 값을 읽어 슬롯 필드에 직접 대입합니다.
+ */
+public interface TickerUpdate {
+	String getType();
+
+	String getCode();
+
+	Double getOpeningPrice();
+
+	Double getHighPrice();
+
+	Double getLowPrice();
+
+	Double getTradePrice();
+
+	Double getPrevClosingPrice();
+
+	Change getChange();
+
+	Double getChangePrice();
+
+	Double getSignedChangePrice();
+
+	Double getChangeRate();
+
+	Double getSignedChangeRate();
+
+	Double getTradeVolume();
+
+	Double getAccTradeVolume();
+
+	Double getAccTradeVolume24h();
+
+	Double getAccTradePrice();
+
+	Double getAccTradePrice24h();
+
+	LocalDate getTradeDate();
+
+	LocalTime getTradeTime();
+
+	Long getTradeTimestamp();
+
+	AskBid getAskBid();
+
+	Double getAccAskVolume();
+
+	Double getAccBidVolume();
+
+	Double getHighest52WeekPrice();
+
+	LocalDate getHighest52WeekDate();
+
+	Double getLowest52WeekPrice();
+
+	LocalDate getLowest52WeekDate();
+
+	MarketState getMarketState();
+
+	MarketWarning getMarketWarning();
+
+	Long getTimestamp();
+}
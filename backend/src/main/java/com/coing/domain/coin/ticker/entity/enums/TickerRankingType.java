@@ -0,0 +1,24 @@
+package com.coing.domain.coin.ticker.entity.enums;
+
+import java.util.function.ToDoubleFunction;
+
+import com.coing.domain.coin.ticker.entity.TickerSlot;
+
+public enum TickerRankingType {
+	CHANGE_RATE(TickerSlot::getSignedChangeRate),      // 전일 대비 변동률 (부호 포함)
+	TRADE_PRICE(TickerSlot::getAccTradePrice24h),      // 24시간 누적 거래대금
+	TRADE_VOLUME(TickerSlot::getAccTradeVolume24h);    // 24시간 누적 거래량
+
+	private final ToDoubleFunction<TickerSlot> extractor;
+
+	TickerRankingType(ToDoubleFunction<TickerSlot> extractor) {
+		this.extractor = extractor;
+	}
+
+	/**
+	 * 슬롯의 현재 순위 값 (슬롯 쓰기 스레드에서만 호출)
+	 */
+	public double valueOf(TickerSlot slot) {
+		return extractor.applyAsDouble(slot);
+	}
+}
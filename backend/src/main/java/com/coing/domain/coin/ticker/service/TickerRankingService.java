@@ -0,0 +1,127 @@
+package com.coing.domain.coin.ticker.service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.coing.domain.coin.common.service.CoalescingPublisher;
+import com.coing.domain.coin.market.event.MarketListChangedEvent;
+import com.coing.domain.coin.ticker.dto.TickerRankingDto;
+import com.coing.domain.coin.ticker.dto.TickerRankingUpdateDto;
+import com.coing.domain.coin.ticker.entity.TickerRanking;
+import com.coing.domain.coin.ticker.entity.TickerSlot;
+import com.coing.domain.coin.ticker.entity.enums.TickerRankingType;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 기준 통화별 마켓 순위 관리
+ * <p>
+ * Ticker가 들어올 때마다 기준 통화(마켓 코드의 '-' 앞부분)별, 정렬 기준별 TickerRanking을 갱신하므로
+ * 조회 시 전체 Ticker를 정렬하지 않습니다.
+ * 순위 값이 바뀐 기준은 /sub/coin/ranking/{quote}/{type}으로 상위 publish-size개를 전송하며,
+ * 전송 시점에 상위 마켓 순서가 마지막 전송과 같으면 보내지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TickerRankingService {
+	private static final int MAX_PAGE_SIZE = 100;
+
+	private final CoalescingPublisher coalescingPublisher;
+	private final Map<String, Map<TickerRankingType, TickerRanking>> rankings = new ConcurrentHashMap<>();
+	private final Map<String, List<String>> lastPublished = new ConcurrentHashMap<>();
+
+	@Value("${upbit.ticker.ranking.publish-size:20}")
+	private int publishSize;
+
+	/**
+	 * 슬롯의 순위 값 반영 (슬롯 쓰기 스레드에서 호출)
+	 */
+	public void update(TickerSlot slot) {
+		String quote = quoteOf(slot.getCode());
+		Map<TickerRankingType, TickerRanking> byType = rankings.computeIfAbsent(quote, q -> createRankings());
+		for (TickerRankingType type : TickerRankingType.values()) {
+			TickerRanking ranking = byType.get(type);
+			if (ranking.update(slot, type.valueOf(slot))) {
+				publish(quote, type, ranking);
+			}
+		}
+	}
+
+	/**
+	 * 순위 조회
+	 *
+	 * @param direction DESC: 값이 큰 순서, ASC: 값이 작은 순서
+	 * @param size      페이지 크기 (1 ~ 100)
+	 */
+	public Page<TickerRankingDto> getRankings(String quote, TickerRankingType type, Sort.Direction direction,
+		int page, int size) {
+		PageRequest pageable = PageRequest.of(Math.max(0, page), Math.clamp(size, 1, MAX_PAGE_SIZE));
+		Map<TickerRankingType, TickerRanking> byType = rankings.get(quote);
+		if (byType == null) {
+			return Page.empty(pageable);
+		}
+		TickerRanking ranking = byType.get(type);
+		int offset = (int)Math.min(pageable.getOffset(), Integer.MAX_VALUE);
+		List<TickerRanking.Entry> entries = ranking.page(direction.isDescending(), offset, pageable.getPageSize());
+		return new PageImpl<>(toRankings(entries, offset), pageable, ranking.size());
+	}
+
+	/**
+	 * 상장 폐지 등으로 목록에서 빠진 마켓을 순위에서 제거
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onMarketListChanged(MarketListChangedEvent event) {
+		for (String code : event.removed()) {
+			Map<TickerRankingType, TickerRanking> byType = rankings.get(quoteOf(code));
+			if (byType != null) {
+				byType.values().forEach(ranking -> ranking.remove(code));
+			}
+		}
+	}
+
+	private void publish(String quote, TickerRankingType type, TickerRanking ranking) {
+		String destination = "/sub/coin/ranking/" + quote + "/" + type;
+		coalescingPublisher.publish(destination, (CoalescingPublisher.Deferred)() -> {
+			List<TickerRanking.Entry> top = ranking.page(true, 0, publishSize);
+			List<String> codes = top.stream().map(entry -> entry.slot().getCode()).toList();
+			if (codes.equals(lastPublished.put(destination, codes))) {
+				return null;
+			}
+			return TickerRankingUpdateDto.of(quote, type, toRankings(top, 0));
+		});
+	}
+
+	private static List<TickerRankingDto> toRankings(List<TickerRanking.Entry> entries, int offset) {
+		List<TickerRankingDto> result = new ArrayList<>(entries.size());
+		for (int i = 0; i < entries.size(); i++) {
+			TickerRanking.Entry entry = entries.get(i);
+			result.add(TickerRankingDto.of(offset + i + 1, entry.value(), entry.slot().snapshot()));
+		}
+		return result;
+	}
+
+	private static Map<TickerRankingType, TickerRanking> createRankings() {
+		Map<TickerRankingType, TickerRanking> byType = new EnumMap<>(TickerRankingType.class);
+		for (TickerRankingType type : TickerRankingType.values()) {
+			byType.put(type, new TickerRanking());
+		}
+		return byType;
+	}
+
+	static String quoteOf(String code) {
+		int index = code.indexOf('-');
+		return (index > 0) ? code.substring(0, index) : code;
+	}
+}
@@ -1,113 +1,244 @@
 package com.coing.domain.coin.ticker.service;
 
-import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
-import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import com.coing.domain.coin.common.service.CoalescingPublisher;
 import com.coing.domain.coin.market.entity.Market;
+import com.coing.domain.coin.market.event.MarketListChangedEvent;
 import com.coing.domain.coin.market.service.MarketService;
+import com.coing.domain.coin.ticker.dto.TickerBatchDto;
 import com.coing.domain.coin.ticker.dto.TickerDto;
-import com.coing.domain.coin.ticker.entity.Ticker;
+import com.coing.domain.coin.ticker.dto.TickerSummaryDto;
+import com.coing.domain.coin.ticker.dto.TickerView;
+import com.coing.domain.coin.ticker.entity.TickerSlot;
+import com.coing.domain.coin.ticker.entity.TickerUpdate;
 import com.coing.global.exception.BusinessException;
-import com.coing.infra.upbit.dto.UpbitApiTradeDto;
 import com.coing.util.MessageUtil;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
 
 import lombok.RequiredArgsConstructor;
-
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 현재가(Ticker) 캐싱 및 STOMP 전송
+ * <p>
+ * 수신한 Ticker는 마켓별 TickerSlot에 그대로 덮어쓰고, TickerDto는 전송 시점(CoalescingPublisher.Deferred)이나
+ * 조회 시점에만 복사합니다. 마켓 이름은 슬롯을 만들 때 한 번 조회하고, 마켓 목록이 바뀌면 다시 조회합니다.
+ * <p>
+ * 단기 변동률은 마켓별 가격 이력(TickerPriceHistory)에서 Ticker마다 O(1)로 계산합니다.
+ * <p>
+ * 여러 마켓 조회는 요청한 마켓 코드로 캐시를 바로 조회하며, 마켓별 JSON 조각은 Ticker가 갱신된 뒤 처음 조회될 때
+ * 한 번만 직렬화하여 같은 Ticker를 조회하는 동안 재사용합니다.
+ */
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class TickerService {
+	private static final String TICKER_DESTINATION_PREFIX = "/sub/coin/ticker/";
 
-	@Value("${upbit.trade.uri}")
-	private String UPBIT_TRADE_URI;
+	@Value("${upbit.ticker.change-rate.bucket-ms:5000}")
+	private long changeRateBucketMs;
 
 	private final MessageUtil messageUtil;
 	private final MarketService marketService;
-	private final SimpMessageSendingOperations messagingTemplate;
-	private final RestTemplate restTemplate;
-	private final Map<String, TickerDto> tickerCache = new ConcurrentHashMap<>();
-	private final Map<String, Long> lastSentTime = new ConcurrentHashMap<>();
-	private static final long THROTTLE_INTERVAL_MS = 200;
+	private final CoalescingPublisher coalescingPublisher;
+	private final TickerRankingService tickerRankingService;
+	private final ObjectMapper objectMapper;
+	private final Map<String, MarketTicker> marketTickers = new ConcurrentHashMap<>();
+	private final Map<String, QuoteBatch> quoteBatches = new ConcurrentHashMap<>();
+	private final Map<TickerView, Map<String, TickerFragment>> fragmentCache = Map.of(
+		TickerView.FULL, new ConcurrentHashMap<>(),
+		TickerView.SUMMARY, new ConcurrentHashMap<>());
 
 	public TickerDto getTicker(String market) {
-		return Optional.ofNullable(tickerCache.get(market)).orElseThrow(() -> new BusinessException(
-			messageUtil.resolveMessage("ticker.not.found"),
-			HttpStatus.NOT_FOUND));
+		return Optional.ofNullable(marketTickers.get(market))
+			.map(marketTicker -> marketTicker.slot.snapshot())
+			.orElseThrow(() -> new BusinessException(
+				messageUtil.resolveMessage("ticker.not.found"),
+				HttpStatus.NOT_FOUND));
 	}
 
+	/**
+	 * 요청한 마켓 순서대로 Ticker 조회 (중복 마켓과 수신한 Ticker가 없는 마켓은 제외)
+	 */
 	public List<TickerDto> getTickers(List<String> markets) {
-		return tickerCache.entrySet()
-			.stream()
-			.filter(e -> markets.contains(e.getKey()))
-			.map(Map.Entry::getValue)
-			.collect(Collectors.toList());
+		return markets.stream()
+			.distinct()
+			.map(marketTickers::get)
+			.filter(Objects::nonNull)
+			.map(marketTicker -> marketTicker.slot.snapshot())
+			.toList();
 	}
 
-	public void updateTicker(Ticker ticker) {
-		Market market = marketService.getCachedMarketByCode(ticker.getCode());
-		TickerDto dto = TickerDto.from(ticker, market);
-		tickerCache.put(ticker.getCode(), dto);
-		publish(dto);
+	/**
+	 * 요청한 마켓 순서대로 직렬화된 Ticker JSON 조각 조회
+	 * <p>
+	 * 캐시된 조각이 현재 Ticker 인스턴스로 만든 것이면 그대로 사용하고, 아니면 다시 직렬화하여 교체합니다.
+	 */
+	public List<RawValue> getTickerFragments(List<String> markets, TickerView view) {
+		List<RawValue> result = new ArrayList<>(markets.size());
+		for (String market : new LinkedHashSet<>(markets)) {
+			MarketTicker marketTicker = marketTickers.get(market);
+			if (marketTicker != null) {
+				result.add(fragmentOf(marketTicker.slot.snapshot(), view));
+			}
+		}
+		return result;
+	}
+
+	private RawValue fragmentOf(TickerDto ticker, TickerView view) {
+		Map<String, TickerFragment> fragments = fragmentCache.get(view);
+		TickerFragment fragment = fragments.get(ticker.code());
+		if (fragment == null || fragment.source() != ticker) {
+			fragment = new TickerFragment(ticker, serialize(ticker, view));
+			fragments.put(ticker.code(), fragment);
+		}
+		return fragment.json();
 	}
 
 	/**
-	 * 단기 변동률(1분) 계산
+	 * 마켓별 슬롯에 수신한 Ticker 기록 후 순위 갱신 및 전송
+	 * <p>
+	 * 마켓별 처리 스레드에서만 호출합니다.
 	 */
-	public double calculateOneMinuteRate(String code, double currentTradePrice) {
-		double pastPrice = fetchPastTradePrice(code, 1, 1);
-		return (currentTradePrice - pastPrice) / pastPrice;
+	public void updateTicker(TickerUpdate update) {
+		MarketTicker marketTicker = marketTickers.get(update.getCode());
+		if (marketTicker == null) {
+			marketTicker = marketTickers.computeIfAbsent(update.getCode(), this::createMarketTicker);
+		}
+		marketTicker.slot.write(update);
+		tickerRankingService.update(marketTicker.slot);
+		publish(marketTicker);
 	}
 
 	/**
-	 * n분전 시간 계산
+	 * 마켓 목록 변경 반영
+	 * <p>
+	 * 목록에서 빠진 마켓의 슬롯(가격 이력 포함)은 제거하고, 추가된 마켓에 이미 슬롯이 있으면 이름을 새로 조회합니다.
+	 * 마켓 목록 갱신 트랜잭션이 커밋된 뒤 호출되며, 이름을 조회하지 못한 마켓은 건너뜁니다.
 	 */
-	private LocalTime getPastTime(int minute) {
-		return LocalTime.now().minusMinutes(minute);
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onMarketListChanged(MarketListChangedEvent event) {
+		for (String code : event.removed()) {
+			marketTickers.remove(code);
+			fragmentCache.values().forEach(fragments -> fragments.remove(code));
+		}
+		for (String code : event.added()) {
+			MarketTicker marketTicker = marketTickers.get(code);
+			Market market = (marketTicker != null) ? findCachedMarket(code) : null;
+			if (market != null) {
+				marketTicker.slot.rename(market.getKoreanName(), market.getEnglishName());
+			}
+		}
 	}
 
 	/**
-	 * 체결가 조회 API 활용하여 n분 전 가격 조회
+	 * 마켓 슬롯 생성
+	 * <p>
+	 * 마켓 목록 갱신 전에 수신한 신규 상장 마켓처럼 캐시에 없는 마켓은 이름 없이 만들고, 이후 목록 변경 이벤트에서 이름을 채웁니다.
 	 */
-	private Double fetchPastTradePrice(String code, int minute, int count) {
-		String pastTime = getPastTime(minute).format(DateTimeFormatter.ofPattern("HH:mm:ss"));
-		String url = String.format("%s?market=%s&to=%s&count=%d", UPBIT_TRADE_URI, code, pastTime, count);
-
-		ResponseEntity<UpbitApiTradeDto[]> response = restTemplate.getForEntity(url,
-			UpbitApiTradeDto[].class);
+	private MarketTicker createMarketTicker(String code) {
+		Market market = findCachedMarket(code);
+		TickerSlot slot = (market != null)
+			? new TickerSlot(code, market.getKoreanName(), market.getEnglishName(), changeRateBucketMs)
+			: new TickerSlot(code, null, null, changeRateBucketMs);
+		String quote = TickerRankingService.quoteOf(code);
+		return new MarketTicker(slot, TICKER_DESTINATION_PREFIX + code,
+			quoteBatches.computeIfAbsent(quote, QuoteBatch::new));
+	}
 
-		if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
-			throw new BusinessException(messageUtil.resolveMessage("trade.fetch.failed"),
-				HttpStatus.INTERNAL_SERVER_ERROR);
+	// 캐시에 없는 마켓이면 null
+	private Market findCachedMarket(String code) {
+		try {
+			return marketService.getCachedMarketByCode(code);
+		} catch (BusinessException e) {
+			log.warn("[{}] Market not found in cache: {}", code, e.getMessage());
+			return null;
 		}
+	}
 
-		List<UpbitApiTradeDto> trades = Arrays.asList(response.getBody());
+	private RawValue serialize(TickerDto ticker, TickerView view) {
+		Object value = (view == TickerView.SUMMARY) ? TickerSummaryDto.from(ticker) : ticker;
+		try {
+			return new RawValue(objectMapper.writeValueAsString(value));
+		} catch (JsonProcessingException e) {
+			throw new RuntimeException(e);
+		}
+	}
 
-		return trades.getFirst().getTradePrice();
+	private record TickerFragment(TickerDto source, RawValue json) {
 	}
 
 	/**
 	 * WebSocket을 통해 실시간 Ticker 데이터 publish
+	 * <p>
+	 * 전송 간격 안에 들어온 Ticker는 최신 값만 남겨 간격이 끝날 때 전송합니다.
+	 * 마켓별 destination과 함께 기준 통화별 destination(/sub/coin/ticker/{quote})에도 변경된 마켓을 모아 보내며,
+	 * 전송 시점에 마지막 전송 이후 바뀐 마켓의 요약(TickerSummaryDto) JSON 조각만 한 메시지로 묶습니다.
+	 */
+	private void publish(MarketTicker marketTicker) {
+		coalescingPublisher.publish(marketTicker.destination, marketTicker.snapshot);
+
+		QuoteBatch batch = marketTicker.batch;
+		batch.pending.put(marketTicker.slot.getCode(), marketTicker.slot);
+		coalescingPublisher.publish(batch.destination, batch.drain);
+	}
+
+	// 마지막 전송 이후 바뀐 마켓을 꺼내 묶음 메시지 생성, 바뀐 마켓이 없으면 null (전송 생략)
+	private TickerBatchDto drainBatch(QuoteBatch batch) {
+		List<RawValue> tickers = new ArrayList<>(batch.pending.size());
+		for (String market : batch.pending.keySet()) {
+			TickerSlot slot = batch.pending.remove(market);
+			if (slot != null) {
+				tickers.add(fragmentOf(slot.snapshot(), TickerView.SUMMARY));
+			}
+		}
+		return tickers.isEmpty() ? null : TickerBatchDto.of(batch.quote, tickers);
+	}
+
+	/**
+	 * 마켓별 슬롯과 매 Ticker마다 다시 만들지 않도록 미리 만든 destination, 전송 시점 snapshot
+	 */
+	private static final class MarketTicker {
+		private final TickerSlot slot;
+		private final String destination;
+		private final CoalescingPublisher.Deferred snapshot;
+		private final QuoteBatch batch;
+
+		private MarketTicker(TickerSlot slot, String destination, QuoteBatch batch) {
+			this.slot = slot;
+			this.destination = destination;
+			this.snapshot = slot::snapshot;
+			this.batch = batch;
+		}
+	}
+
+	/**
+	 * 기준 통화별 묶음 전송 대기 마켓
 	 */
-	public void publish(TickerDto dto) {
-		String market = dto.code();
-		long now = System.currentTimeMillis();
-		long lastSent = lastSentTime.getOrDefault(market, 0L);
-
-		if (now - lastSent >= THROTTLE_INTERVAL_MS) {
-			messagingTemplate.convertAndSend("/sub/coin/ticker/" + market, dto);
-			lastSentTime.put(market, now);
+	private final class QuoteBatch {
+		private final String quote;
+		private final String destination;
+		private final Map<String, TickerSlot> pending = new ConcurrentHashMap<>();
+		private final CoalescingPublisher.Deferred drain = () -> drainBatch(this);
+
+		private QuoteBatch(String quote) {
+			this.quote = quote;
+			this.destination = TICKER_DESTINATION_PREFIX + quote;
 		}
 	}
 }
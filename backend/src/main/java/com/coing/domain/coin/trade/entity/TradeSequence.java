@@ -0,0 +1,39 @@
+package com.coing.domain.coin.trade.entity;
+
+import lombok.Getter;
+
+/**
+ * 마켓별 체결 번호 추적
+ * <p>
+ * Upbit의 sequential_id는 유일하지만 순서를 보장하지 않으므로, 최근 체결 번호를 고정 크기 배열에 보관하여 중복 여부를 판단합니다.
+ * {@link TradeStatistics}와 마찬가지로 마켓별 처리 Shard 스레드에서만 갱신합니다.
+ */
+@Getter
+public class TradeSequence {
+	private static final int RECENT_SIZE = 128;
+
+	private final long[] recentIds = new long[RECENT_SIZE];
+	private int recentCount;
+	private int recentCursor;
+	private long lastTradeTimestamp;    // 마지막으로 반영한 체결 타임스탬프(millisecond)
+	private long lastSequentialId;        // 가장 최근 체결 시각의 체결 번호
+
+	public boolean isDuplicate(long sequentialId) {
+		for (int i = 0; i < recentCount; i++) {
+			if (recentIds[i] == sequentialId) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	public void accept(long sequentialId, long tradeTimestamp) {
+		recentIds[recentCursor] = sequentialId;
+		recentCursor = (recentCursor + 1) % RECENT_SIZE;
+		recentCount = Math.min(recentCount + 1, RECENT_SIZE);
+		if (tradeTimestamp >= lastTradeTimestamp) {
+			lastTradeTimestamp = tradeTimestamp;
+			lastSequentialId = sequentialId;
+		}
+	}
+}
@@ -0,0 +1,70 @@
+package com.coing.domain.coin.trade.entity;
+
+import lombok.Getter;
+
+/**
+ * 마켓별 체결 누적 지표
+ * <p>
+ * 하나의 마켓은 항상 같은 처리 Shard 스레드에서만 갱신되므로 동기화 없이 일반 필드로 상태를 유지합니다.
+ * 일일 초기화는 다른 스레드에서 epoch만 증가시키고, 실제 초기화는 다음 체결 처리 시 소유 스레드가 수행합니다.
+ */
+@Getter
+public class TradeStatistics {
+	private long epoch;
+	private double totalTradeVolume;    // 누적 체결량
+	private double totalTradeValue;     // 누적 체결대금 (가격 * 체결량)
+	private long totalTradeNumber;      // 누적 체결 건수
+	private double prevTradePrice;      // 직전 체결 가격
+
+	private double vwap;
+	private double averageTradeSize;
+	private double tradeImpact;
+
+	public TradeStatistics(long epoch) {
+		this.epoch = epoch;
+	}
+
+	/**
+	 * 체결 1건 반영 후 지표 재계산
+	 *
+	 * @param currentEpoch 현재 초기화 epoch. 보관 중인 epoch과 다르면 누적값을 먼저 초기화
+	 */
+	public void apply(double price, double volume, long currentEpoch) {
+		if (epoch != currentEpoch) {
+			reset(currentEpoch);
+		}
+		totalTradeVolume += volume;
+		totalTradeValue += price * volume;
+		totalTradeNumber++;
+
+		vwap = totalTradeVolume == 0 ? 0 : totalTradeValue / totalTradeVolume;
+		averageTradeSize = totalTradeVolume / totalTradeNumber;
+		tradeImpact = prevTradePrice == 0 ? 0 : (price - prevTradePrice) / prevTradePrice * 100;
+		prevTradePrice = price;
+	}
+
+	/**
+	 * 보정(backfill)으로 수신한 과거 체결 반영
+	 * <p>
+	 * 누적값만 갱신하고 직전 체결 가격과 체결가격 충격은 실시간 체결 기준으로 유지합니다.
+	 */
+	public void applyBackfill(double price, double volume, long currentEpoch) {
+		if (epoch != currentEpoch) {
+			reset(currentEpoch);
+		}
+		totalTradeVolume += volume;
+		totalTradeValue += price * volume;
+		totalTradeNumber++;
+
+		vwap = totalTradeVolume == 0 ? 0 : totalTradeValue / totalTradeVolume;
+		averageTradeSize = totalTradeVolume / totalTradeNumber;
+	}
+
+	private void reset(long currentEpoch) {
+		epoch = currentEpoch;
+		totalTradeVolume = 0;
+		totalTradeValue = 0;
+		totalTradeNumber = 0;
+		prevTradePrice = 0;
+	}
+}
@@ -0,0 +1,15 @@
+package com.coing.domain.coin.trade.event;
+
+/**
+ * 재연결 후 체결 누락 가능 구간 발생 이벤트
+ *
+ * @param market              마켓 코드
+ * @param afterTradeTimestamp 재연결 전 마지막으로 반영한 체결 타임스탬프(millisecond)
+ * @param beforeSequentialId  재연결 후 처음 수신한 체결 번호. 이 체결 이전 구간을 보정 대상으로 합니다.
+ */
+public record TradeResyncRequiredEvent(
+	String market,
+	long afterTradeTimestamp,
+	long beforeSequentialId
+) {
+}
@@ -1,41 +1,66 @@
 package com.coing.domain.coin.trade.service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import com.coing.domain.coin.common.service.CoalescingPublisher;
 import com.coing.domain.coin.trade.dto.TradeDto;
+import com.coing.domain.coin.trade.dto.TradeResponse;
 import com.coing.domain.coin.trade.entity.Trade;
+import com.coing.domain.coin.trade.entity.TradeSequence;
+import com.coing.domain.coin.trade.entity.TradeStatistics;
+import com.coing.domain.coin.trade.event.TradeResyncRequiredEvent;
 import com.coing.global.exception.BusinessException;
 import com.coing.util.MessageUtil;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 체결 데이터 처리 서비스
+ * <p>
+ * {@link #updateTrade(Trade)}는 마켓별로 하나의 처리 Shard 스레드에서만 호출되므로,
+ * 마켓별 누적 지표({@link TradeStatistics})는 lock이나 원자 연산 없이 갱신합니다.
+ * <p>
+ * 체결 번호({@link TradeSequence})로 중복 체결을 제거하고, 재연결 후에는 마지막 반영 시점 이후 구간에 대해
+ * {@link TradeResyncRequiredEvent}를 발행하여 누락된 체결을 보정(backfill)합니다.
+ * 구독 직후 스냅샷으로 받은 최신 체결이 마지막으로 반영한 체결과 같으면 끊긴 동안 체결이 없었으므로 보정하지 않습니다.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class TradeService {
 
 	private final SimpMessageSendingOperations simpMessageSendingOperations;
+	private final ApplicationEventPublisher eventPublisher;
+	private final CoalescingPublisher coalescingPublisher;
 
 	private final Map<String, Queue<TradeDto>> tradeListCache = new ConcurrentHashMap<>();
 
-	private final Map<String, Double> vwapCache = new ConcurrentHashMap<>();
-	private final Map<String, Double> totalTradeVolumeCache = new ConcurrentHashMap<>();
-	private final Map<String, Double> totalTradeNumberCache = new ConcurrentHashMap<>();
-	private final Map<String, Double> prevTradePriceCache = new ConcurrentHashMap<>();
+	private final Map<String, TradeStatistics> statisticsCache = new ConcurrentHashMap<>();
+	private volatile long statisticsEpoch;
+	private final Map<String, TradeSequence> sequenceCache = new ConcurrentHashMap<>();
+	private final Set<String> resyncPending = ConcurrentHashMap.newKeySet();
+	private final LongAdder duplicateCount = new LongAdder();
+	private final LongAdder resyncCount = new LongAdder();    // 재연결 후 누락 여부를 확인한 마켓 수
+	private final LongAdder gapCount = new LongAdder();        // 그중 보정이 필요했던 마켓 수
+	private final LongAdder backfilledCount = new LongAdder();
 	private final MessageUtil messageUtil;
 
-	private final Map<String, Long> lastSentTime = new ConcurrentHashMap<>();
-	private static final long THROTTLE_INTERVAL_MS = 200;
 	private static final int maxListSize = 20;
 
 	public List<TradeDto> getTrades(String market) {
@@ -56,83 +81,158 @@ public class TradeService {
 		double price = trade.getTradePrice();
 		double volume = trade.getTradeVolume();
 
-		// 부가 지표 캐시 업데이트
-		cacheValues(market, volume);
+		// 중복 체결 제거 및 재연결 후 누락 구간 확인
+		TradeSequence sequence = getSequence(market);
+		if (sequence.isDuplicate(trade.getSequentialId())) {
+			duplicateCount.increment();
+			// 재연결 후 최신 체결이 마지막으로 반영한 체결과 같으면 누락 구간 없음
+			if (!resyncPending.isEmpty() && trade.getSequentialId() == sequence.getLastSequentialId()
+				&& resyncPending.remove(market)) {
+				resyncCount.increment();
+			}
+			return;
+		}
+		if (!resyncPending.isEmpty() && resyncPending.remove(market)) {
+			resyncCount.increment();
+			if (sequence.getLastTradeTimestamp() > 0 && trade.getTradeTimeStamp() > sequence.getLastTradeTimestamp()) {
+				gapCount.increment();
+				eventPublisher.publishEvent(new TradeResyncRequiredEvent(
+					market, sequence.getLastTradeTimestamp(), trade.getSequentialId()));
+			}
+		}
+		sequence.accept(trade.getSequentialId(), trade.getTradeTimeStamp());
 
-		double vwap = calculateVWAP(market, price, volume);
-		double averageTradeSize = calculateAverageTradeSize(market);
-		double tradeImpact = calculateTradeImpact(market, price);
+		// 부가 지표 업데이트 (마켓별 단일 스레드에서만 갱신)
+		TradeStatistics statistics = getStatistics(market);
+		statistics.apply(price, volume, statisticsEpoch);
 
-		TradeDto dto = TradeDto.of(trade, vwap, averageTradeSize, tradeImpact);
+		TradeDto dto = TradeDto.of(trade, statistics.getVwap(), statistics.getAverageTradeSize(),
+			statistics.getTradeImpact());
 
 		publish(dto);
 
-		// 원자적으로 처리하여 race condition 방지
-		tradeListCache.compute(market, (key, queue) -> {
-			if (queue == null) {
-				queue = new ConcurrentLinkedQueue<>();
-			}
-			queue.add(dto);
+		Queue<TradeDto> queue = tradeListCache.get(market);
+		if (queue == null) {
+			queue = new ConcurrentLinkedQueue<>();
+			tradeListCache.put(market, queue);
+		}
+		queue.add(dto);
+		while (queue.size() > maxListSize) {
+			queue.poll();
+		}
+	}
 
-			while (queue.size() > maxListSize) {
-				queue.poll();
+	/**
+	 * 재연결된 마켓 등록
+	 * <p>
+	 * 등록된 마켓은 다음 체결 수신 시 마지막 반영 시점 이후 누락 여부를 확인합니다.
+	 */
+	public void requestResync(Collection<String> markets) {
+		resyncPending.addAll(markets);
+	}
+
+	/**
+	 * 보정(backfill)으로 조회한 누락 체결 반영
+	 * <p>
+	 * 해당 마켓의 처리 Shard 스레드에서 호출되어야 하며, 이미 반영한 체결은 제외합니다.
+	 * 반영된 체결은 체결 시각 순으로 목록에 병합하고 `/sub/coin/trade/{market}/backfill`로 한 번에 전송합니다.
+	 */
+	public void applyBackfill(String market, List<Trade> trades) {
+		TradeSequence sequence = getSequence(market);
+		TradeStatistics statistics = getStatistics(market);
+		long epoch = statisticsEpoch;
+
+		List<Trade> sorted = new ArrayList<>(trades);
+		sorted.sort(Comparator.comparingLong(Trade::getTradeTimeStamp));
+
+		List<TradeDto> backfilled = new ArrayList<>();
+		for (Trade trade : sorted) {
+			if (sequence.isDuplicate(trade.getSequentialId())) {
+				continue;
 			}
+			sequence.accept(trade.getSequentialId(), trade.getTradeTimeStamp());
+			statistics.applyBackfill(trade.getTradePrice(), trade.getTradeVolume(), epoch);
+			backfilled.add(TradeDto.of(trade, statistics.getVwap(), statistics.getAverageTradeSize(), 0));
+		}
+		if (backfilled.isEmpty()) {
+			return;
+		}
+		backfilledCount.add(backfilled.size());
+
+		List<TradeDto> merged = new ArrayList<>(backfilled);
+		Queue<TradeDto> queue = tradeListCache.get(market);
+		if (queue != null) {
+			merged.addAll(queue);
+		}
+		merged.sort(Comparator.comparingLong(TradeDto::tradeTimeStamp));
+		tradeListCache.put(market,
+			new ConcurrentLinkedQueue<>(merged.subList(Math.max(0, merged.size() - maxListSize), merged.size())));
 
-			return queue;
-		});
+		simpMessageSendingOperations.convertAndSend("/sub/coin/trade/%s/backfill".formatted(market),
+			TradeResponse.from(backfilled));
+		log.info("[{}] Backfilled {} missing trades", market, backfilled.size());
 	}
 
+	/**
+	 * 최신 체결 전송
+	 * <p>
+	 * 전송 간격 안에 들어온 체결은 최신 체결만 남겨 간격이 끝날 때 전송합니다.
+	 */
 	public void publish(TradeDto dto) {
-		String market = dto.code();
-		long now = System.currentTimeMillis();
-		long lastSent = lastSentTime.getOrDefault(market, 0L);
-
-		if (now - lastSent >= THROTTLE_INTERVAL_MS) {
-			simpMessageSendingOperations.convertAndSend("/sub/coin/trade/%s".formatted(market), dto);
-			lastSentTime.put(market, now);
-		}
+		coalescingPublisher.publish("/sub/coin/trade/%s".formatted(dto.code()), dto);
 	}
 
+	/**
+	 * 일일 누적 지표 초기화
+	 * <p>
+	 * 스케줄러 스레드에서 마켓 상태를 직접 변경하지 않고 epoch만 증가시킵니다.
+	 * 각 마켓은 다음 체결 처리 시 소유 스레드에서 초기화됩니다.
+	 */
 	@Scheduled(cron = "0 0 0 * * *")
 	public void resetCaches() {
-		vwapCache.clear();
-		totalTradeVolumeCache.clear();
-		totalTradeNumberCache.clear();
-		prevTradePriceCache.clear();
+		statisticsEpoch++;
 	}
 
-	private void cacheValues(String market, double volume) {
-		vwapCache.putIfAbsent(market, 0.0);
-		totalTradeVolumeCache.putIfAbsent(market, 0.0);
-		totalTradeNumberCache.putIfAbsent(market, 0.0);
-		prevTradePriceCache.putIfAbsent(market, 0.0);
-
-		double totalTradeVolume = totalTradeVolumeCache.get(market);
-		double totalTradeNumber = totalTradeNumberCache.get(market);
+	/**
+	 * 체결 번호 추적 지표 로그
+	 */
+	@Scheduled(fixedRate = 60000)
+	public void logSequenceMetrics() {
+		log.info("[Trade] duplicates: {}, resyncs: {}, gaps: {}, backfilled: {}",
+			getDuplicateCount(), getResyncCount(), getGapCount(), getBackfilledCount());
+	}
 
-		totalTradeVolumeCache.put(market, totalTradeVolume + volume);
-		totalTradeNumberCache.put(market, totalTradeNumber + 1);
+	public long getDuplicateCount() {
+		return duplicateCount.sum();
 	}
 
-	private double calculateVWAP(String market, double price, double volume) {
-		double prevVWAP = vwapCache.get(market);
-		double totalTradeVolume = totalTradeVolumeCache.get(market);
+	public long getResyncCount() {
+		return resyncCount.sum();
+	}
 
-		if (totalTradeVolume == 0)
-			return 0;
+	public long getGapCount() {
+		return gapCount.sum();
+	}
 
-		return ((prevVWAP * totalTradeVolume) + (price * volume)) / (totalTradeVolume + volume);
+	public long getBackfilledCount() {
+		return backfilledCount.sum();
 	}
 
-	private double calculateAverageTradeSize(String market) {
-		double totalTradeVolume = totalTradeVolumeCache.get(market);
-		double totalTradeNumber = totalTradeNumberCache.get(market);
-		return totalTradeNumber == 0 ? 0 : totalTradeVolume / totalTradeNumber;
+	private TradeSequence getSequence(String market) {
+		TradeSequence sequence = sequenceCache.get(market);
+		if (sequence == null) {
+			sequence = new TradeSequence();
+			sequenceCache.put(market, sequence);
+		}
+		return sequence;
 	}
 
-	private double calculateTradeImpact(String market, double price) {
-		double prevTradePrice = prevTradePriceCache.get(market);
-		prevTradePriceCache.put(market, price);
-		return prevTradePrice == 0 ? 0 : (price - prevTradePrice) / prevTradePrice * 100;
+	private TradeStatistics getStatistics(String market) {
+		TradeStatistics statistics = statisticsCache.get(market);
+		if (statistics == null) {
+			statistics = new TradeStatistics(statisticsEpoch);
+			statisticsCache.put(market, statistics);
+		}
+		return statistics;
 	}
 }
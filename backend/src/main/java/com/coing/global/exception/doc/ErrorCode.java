@@ -53,7 +53,11 @@ public enum ErrorCode {
 	TRADE_NOT_FOUND(HttpStatus.NOT_FOUND, "trade.not.found"),
 
 	// Ticker
-	TICKER_NOT_FOUND(HttpStatus.NOT_FOUND, "ticker.not.found");
+	TICKER_NOT_FOUND(HttpStatus.NOT_FOUND, "ticker.not.found"),
+
+	// Orderbook
+	ORDERBOOK_NOT_FOUND(HttpStatus.NOT_FOUND, "orderbook.not.found"),
+	INVALID_ORDER_SIZE(HttpStatus.BAD_REQUEST, "invalid.order.size");
 
 	private final HttpStatus status;
 	private final String messageKey;
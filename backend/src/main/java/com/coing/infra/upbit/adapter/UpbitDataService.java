@@ -1,17 +1,29 @@
 package com.coing.infra.upbit.adapter;
 
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import com.coing.domain.coin.orderbook.entity.Orderbook;
 import com.coing.domain.coin.orderbook.service.OrderbookService;
-import com.coing.domain.coin.ticker.entity.Ticker;
 import com.coing.domain.coin.ticker.service.TickerService;
 import com.coing.domain.coin.trade.entity.Trade;
 import com.coing.domain.coin.trade.service.TradeService;
 import com.coing.infra.upbit.dto.UpbitWebSocketOrderbookDto;
 import com.coing.infra.upbit.dto.UpbitWebSocketTickerDto;
 import com.coing.infra.upbit.dto.UpbitWebSocketTradeDto;
+import com.coing.infra.upbit.enums.EnumUpbitRequestType;
+import com.coing.infra.upbit.enums.EnumUpbitWaitStrategy;
+import com.coing.infra.upbit.pipeline.UpbitEvent;
+import com.coing.infra.upbit.pipeline.UpbitEventRingBuffer;
+import com.coing.infra.upbit.pipeline.UpbitEventShards;
+import com.coing.infra.upbit.pipeline.UpbitStreamDeduplicator;
+import com.coing.infra.upbit.subscription.UpbitMarketRateTracker;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -19,6 +31,14 @@ import lombok.extern.slf4j.Slf4j;
  *  Upbit WebSocket 수신 데이터를 처리하고 관리하는 서비스 계층
  * <p>
  *  데이터를 가공 및 캐싱하여 데이터베이스에 저장하기 위한 비즈니스 로직 담당
+ * <p>
+ *  `upbit.pipeline.enabled`가 true인 경우 수신 스레드는 디코딩된 DTO를 Ring Buffer에 발행만 하고,
+ *  DTO 매핑, 지표 계산, STOMP 전송은 별도 consumer 스레드에서 처리합니다.
+ *  이벤트는 마켓 코드 기준으로 `upbit.pipeline.shards`개의 단일 스레드 Shard에 분배되어,
+ *  하나의 마켓 상태는 항상 하나의 스레드에서만 갱신됩니다.
+ * <p>
+ *  파이프라인을 끄면 수신 스레드가 직접 처리하므로 같은 마켓을 두 연결이 함께 수신하는
+ *  `upbit.websocket.standby`와는 함께 사용할 수 없으며, 이 조합이면 시작 시 실패합니다.
  */
 @Service
 @RequiredArgsConstructor
@@ -27,24 +47,155 @@ public class UpbitDataService {
 	private final OrderbookService orderbookService;
 	private final TickerService tickerService;
 	private final TradeService tradeService;
+	private final UpbitMarketRateTracker upbitMarketRateTracker;
+	private final UpbitStreamDeduplicator upbitStreamDeduplicator;
+
+	@Value("${upbit.pipeline.enabled:true}")
+	private boolean pipelineEnabled;
+	@Value("${upbit.pipeline.shards:4}")
+	private int shardCount;
+	@Value("${upbit.pipeline.ring-size:8192}")
+	private int ringSize;
+	@Value("${upbit.pipeline.wait-strategy:SLEEPING}")
+	private EnumUpbitWaitStrategy waitStrategy;
+	@Value("${upbit.websocket.standby:false}")
+	private boolean standby;
+
+	private UpbitEventShards shards;
+
+	@PostConstruct
+	public void startPipeline() {
+		if (!pipelineEnabled) {
+			if (standby) {
+				throw new IllegalStateException(
+					"upbit.websocket.standby requires upbit.pipeline.enabled=true to keep a single writer per market");
+			}
+			return;
+		}
+		shards = new UpbitEventShards("upbit-pipeline", shardCount, ringSize, waitStrategy, this::handleEvent);
+		shards.start();
+	}
+
+	@PreDestroy
+	public void stopPipeline() {
+		if (shards != null) {
+			shards.stop();
+		}
+	}
 
 	public void processOrderbookData(UpbitWebSocketOrderbookDto dto) {
+		if (!upbitStreamDeduplicator.isFresh(EnumUpbitRequestType.ORDERBOOK, dto.getCode(), dto.getTimestamp())) {
+			return;
+		}
+		if (!dispatch(EnumUpbitRequestType.ORDERBOOK, dto.getCode(), dto)) {
+			handleOrderbookData(dto);
+		}
+	}
+
+	public void processTickerData(UpbitWebSocketTickerDto dto) {
+		if (!upbitStreamDeduplicator.isFresh(EnumUpbitRequestType.TICKER, dto.getCode(), dto.getTimestamp())) {
+			return;
+		}
+		if (!dispatch(EnumUpbitRequestType.TICKER, dto.getCode(), dto)) {
+			handleTickerData(dto);
+		}
+	}
+
+	public void processTradeData(UpbitWebSocketTradeDto dto) {
+		if (!dispatch(EnumUpbitRequestType.TRADE, dto.getCode(), dto)) {
+			handleTradeData(dto);
+		}
+	}
+
+	/**
+	 * 재연결된 마켓의 누락 체결 확인 요청
+	 */
+	public void requestTradeResync(List<String> codes) {
+		tradeService.requestResync(codes);
+	}
+
+	/**
+	 * REST로 조회한 누락 체결을 해당 마켓의 처리 Shard로 전달
+	 * <p>
+	 * 실시간 체결과 같은 스레드에서 반영되므로 마켓별 체결 상태는 계속 단일 스레드에서만 갱신됩니다.
+	 */
+	public void processTradeBackfill(String code, List<Trade> trades) {
+		TradeBackfill backfill = new TradeBackfill(code, trades);
+		if (!dispatch(EnumUpbitRequestType.TRADE, code, backfill)) {
+			tradeService.applyBackfill(code, trades);
+		}
+	}
+
+	/**
+	 * Shard별 Ring Buffer 상태 로그
+	 */
+	@Scheduled(fixedRate = 60000)
+	public void logPipelineMetrics() {
+		if (shards == null) {
+			return;
+		}
+		for (UpbitEventRingBuffer ringBuffer : shards.getShards()) {
+			log.info("[{}] occupancy: {}/{}, maxOccupancy: {}, published: {}, dropped: {}",
+				ringBuffer.getName(), ringBuffer.getOccupancy(), ringBuffer.getCapacity(),
+				ringBuffer.getAndResetMaxOccupancy(), ringBuffer.getPublishedCount(), ringBuffer.getDroppedCount());
+		}
+	}
+
+	public UpbitEventShards getShards() {
+		return shards;
+	}
+
+	/**
+	 * 마켓 코드에 해당하는 Shard로 이벤트 전달
+	 * <p>
+	 * sharded 모드이면 구독 Shard 재분배를 위해 마켓별 수신 메시지 수도 함께 집계합니다.
+	 *
+	 * @return 파이프라인이 비활성화되어 호출 스레드에서 직접 처리해야 하면 false
+	 */
+	private boolean dispatch(EnumUpbitRequestType type, String code, Object dto) {
+		upbitMarketRateTracker.record(type, code);
+		if (shards == null) {
+			return false;
+		}
+		if (!shards.publish(type, code, dto)) {
+			log.debug("[{}] Ring buffer full. Dropped {} event", code, type);
+		}
+		return true;
+	}
+
+	private void handleEvent(UpbitEvent event) {
+		switch (event.getType()) {
+			case ORDERBOOK -> handleOrderbookData((UpbitWebSocketOrderbookDto)event.getPayload());
+			case TICKER -> handleTickerData((UpbitWebSocketTickerDto)event.getPayload());
+			case TRADE -> {
+				if (event.getPayload() instanceof TradeBackfill backfill) {
+					tradeService.applyBackfill(backfill.code(), backfill.trades());
+				} else {
+					handleTradeData((UpbitWebSocketTradeDto)event.getPayload());
+				}
+			}
+			default -> log.warn("Unsupported event type: {}", event.getType());
+		}
+	}
+
+	private void handleOrderbookData(UpbitWebSocketOrderbookDto dto) {
 		Orderbook orderbook = dto.toEntity();
 		orderbookService.updateOrderbook(orderbook);
 	}
 
-	public void processTickerData(UpbitWebSocketTickerDto dto) {
+	private void handleTickerData(UpbitWebSocketTickerDto dto) {
 		try {
-			// double oneMinuteRate = tickerService.calculateOneMinuteRate(dto.getCode(), dto.getTradePrice());
-			Ticker ticker = dto.toEntity();
-			tickerService.updateTicker(ticker);
+			tickerService.updateTicker(dto);
 		} catch (RuntimeException e) {
 			log.error("failed to fetch ticker data : {}", e.getMessage());
 		}
 	}
 
-	public void processTradeData(UpbitWebSocketTradeDto dto) {
+	private void handleTradeData(UpbitWebSocketTradeDto dto) {
 		Trade trade = dto.toEntity();
 		tradeService.updateTrade(trade);
 	}
+
+	private record TradeBackfill(String code, List<Trade> trades) {
+	}
 }
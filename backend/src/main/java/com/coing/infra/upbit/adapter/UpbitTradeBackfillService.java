@@ -0,0 +1,159 @@
+package com.coing.infra.upbit.adapter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import com.coing.domain.coin.trade.entity.Trade;
+import com.coing.domain.coin.trade.event.TradeResyncRequiredEvent;
+import com.coing.infra.upbit.dto.UpbitApiTradeDto;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 재연결 후 누락된 체결을 Upbit 체결 조회 API로 보정하는 서비스
+ * <p>
+ * 재연결 후 처음 수신한 체결 번호를 cursor로 하여 이전 체결을 페이지 단위로 조회하고,
+ * 재연결 전 마지막 반영 시점에 도달하면 조회를 멈춥니다.
+ * REST 호출은 전용 단일 스레드에서 순차적으로 처리하고 `upbit.trade.backfill.requests-per-second` 간격을 두어,
+ * 많은 마켓이 한 번에 재연결되어도 Upbit 요청 수 제한을 넘지 않도록 합니다.
+ * 대기 중인 보정 요청이 `upbit.trade.backfill.max-pending`개를 넘으면 이후 요청은 버리고 로그만 남깁니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UpbitTradeBackfillService {
+	private final RestTemplate restTemplate;
+	private final UpbitDataService upbitDataService;
+	private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "upbit-trade-backfill");
+		thread.setDaemon(true);
+		return thread;
+	});
+	private final AtomicInteger pendingCount = new AtomicInteger();
+	private final LongAdder failedCount = new LongAdder();
+	private final LongAdder skippedCount = new LongAdder();
+	// 다음 REST 요청을 보낼 수 있는 시각 (nanoTime), 전용 스레드에서만 사용
+	private long nextRequestAt;
+
+	@Value("${upbit.trade.uri}")
+	private String UPBIT_TRADE_URI;
+	@Value("${upbit.trade.backfill.page-size:200}")
+	private int pageSize;
+	@Value("${upbit.trade.backfill.max-pages:5}")
+	private int maxPages;
+	@Value("${upbit.trade.backfill.requests-per-second:5}")
+	private double requestsPerSecond;
+	@Value("${upbit.trade.backfill.max-pending:100}")
+	private int maxPending;
+
+	@EventListener
+	public void onTradeResyncRequired(TradeResyncRequiredEvent event) {
+		if (pendingCount.incrementAndGet() > maxPending) {
+			pendingCount.decrementAndGet();
+			skippedCount.increment();
+			log.warn("[{}] Too many pending trade backfills. Skipped.", event.market());
+			return;
+		}
+		executor.execute(() -> {
+			try {
+				backfill(event);
+			} finally {
+				pendingCount.decrementAndGet();
+			}
+		});
+	}
+
+	/**
+	 * 누락 구간의 체결을 조회하여 처리 Shard로 전달
+	 */
+	public void backfill(TradeResyncRequiredEvent event) {
+		List<Trade> missing = new ArrayList<>();
+		long cursor = event.beforeSequentialId();
+		try {
+			for (int page = 0; page < maxPages; page++) {
+				if (!throttle()) {
+					break;
+				}
+				String url = String.format("%s?market=%s&count=%d&cursor=%d",
+					UPBIT_TRADE_URI, event.market(), pageSize, cursor);
+				ResponseEntity<UpbitApiTradeDto[]> response = restTemplate.getForEntity(url, UpbitApiTradeDto[].class);
+				UpbitApiTradeDto[] trades = response.getBody();
+				if (!response.getStatusCode().is2xxSuccessful() || trades == null || trades.length == 0) {
+					break;
+				}
+
+				boolean reached = false;
+				for (UpbitApiTradeDto trade : trades) {
+					// 최신순으로 응답하므로 마지막 반영 시점 이전 체결이 나오면 종료
+					if (trade.getTimestamp() < event.afterTradeTimestamp()) {
+						reached = true;
+						break;
+					}
+					missing.add(trade.toEntity());
+				}
+				if (reached || trades.length < pageSize) {
+					break;
+				}
+				cursor = trades[trades.length - 1].getSequentialId();
+			}
+		} catch (RestClientException e) {
+			failedCount.increment();
+			log.warn("[{}] Failed to backfill trades: {}", event.market(), e.getMessage());
+		}
+
+		if (!missing.isEmpty()) {
+			upbitDataService.processTradeBackfill(event.market(), missing);
+		}
+	}
+
+	public long getFailedCount() {
+		return failedCount.sum();
+	}
+
+	public long getSkippedCount() {
+		return skippedCount.sum();
+	}
+
+	/**
+	 * 직전 요청 후 1 / requests-per-second초가 지날 때까지 대기
+	 *
+	 * @return 대기 중 종료 요청(interrupt)을 받으면 false
+	 */
+	private boolean throttle() {
+		if (requestsPerSecond <= 0) {
+			return true;
+		}
+		long now = System.nanoTime();
+		long waitNanos = nextRequestAt - now;
+		if (waitNanos > 0) {
+			try {
+				TimeUnit.NANOSECONDS.sleep(waitNanos);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+			now = System.nanoTime();
+		}
+		nextRequestAt = now + (long)(TimeUnit.SECONDS.toNanos(1) / requestsPerSecond);
+		return true;
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+}
@@ -31,6 +31,7 @@ public class UpbitWebSocketConnection {
 	private volatile boolean isConnected = false;
 	private volatile WebSocketSession session;
 	private long reconnectAttempts = 0;
+	private volatile long connectedAt;
 
 	public UpbitWebSocketConnection(WebSocketClient webSocketClient,
 		UpbitWebSocketHandler handler,
@@ -56,6 +57,7 @@ public class UpbitWebSocketConnection {
 				if (throwable == null) {
 					this.session = webSocketSession;
 					this.isConnected = true;
+					this.connectedAt = System.currentTimeMillis();
 					this.reconnectAttempts = 0;
 					log.info("[{}] WebSocket connected", name);
 				} else {
@@ -123,6 +125,65 @@ public class UpbitWebSocketConnection {
 		isConnected = false;
 	}
 
+	/**
+	 * 기존 세션을 종료하고 즉시 다시 연결
+	 * <p>
+	 * 구독 대상이 바뀌어 새 구독 메시지를 보내야 할 때 사용합니다.
+	 */
+	public synchronized void reconnect() {
+		disconnect();
+		connect();
+	}
+
+	/**
+	 * 연결을 유지한 채 현재 구독 대상으로 구독 메시지 재전송
+	 * <p>
+	 * 연결되어 있지 않으면 다음 연결 시 최신 구독 대상으로 요청하므로 별도로 처리하지 않습니다.
+	 *
+	 * @return 구독 메시지를 전송했으면 true
+	 */
+	public synchronized boolean resubscribe() {
+		if (!isConnected || session == null || !session.isOpen()) {
+			return false;
+		}
+		try {
+			handler.resubscribe(session);
+			return true;
+		} catch (Exception e) {
+			log.error("[{}] Failed to resubscribe: {}", name, e.getMessage(), e);
+			return false;
+		}
+	}
+
+	/**
+	 * 연결은 유지되어 있지만 일정 시간 동안 메시지를 수신하지 못한 상태인지 확인
+	 * <p>
+	 * Upbit는 구독 중인 연결에 주기적으로 keepalive를 전송하므로, keepalive조차 없으면 연결이 끊긴 것으로 판단합니다.
+	 * 구독하지 않은 idle 연결은 수신할 메시지가 없으므로 stall로 판단하지 않습니다.
+	 */
+	public boolean isStalled(long now, long timeoutMillis) {
+		if (!isConnected || handler.isIdle()) {
+			return false;
+		}
+		long lastActivity = Math.max(Math.max(connectedAt, handler.getSubscribedAt()), handler.getLastMessageAt());
+		return now - lastActivity > timeoutMillis;
+	}
+
+	/**
+	 * 응답 없는 연결을 즉시 재연결
+	 * <p>
+	 * 지수 백오프를 초기화하고 대기 없이 연결을 다시 시도합니다.
+	 */
+	public synchronized void forceReconnect() {
+		log.warn("[{}] Stream stalled. Forcing reconnect", name);
+		reconnectAttempts = 0;
+		reconnect();
+	}
+
+	public String getName() {
+		return name;
+	}
+
 	/**
 	 * 현재 WebSocket 연결 상태를 반환합니다.
 	 */
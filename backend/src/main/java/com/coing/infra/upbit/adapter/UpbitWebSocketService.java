@@ -1,28 +1,51 @@
 package com.coing.infra.upbit.adapter;
 
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.web.socket.client.WebSocketClient;
 
+import com.coing.domain.coin.market.event.MarketListChangedEvent;
+import com.coing.domain.coin.orderbook.event.OrderbookDemandChangedEvent;
+import com.coing.infra.upbit.codec.UpbitMessageCodec;
+import com.coing.infra.upbit.enums.EnumUpbitRequestType;
 import com.coing.infra.upbit.enums.EnumUpbitWebSocketType;
+import com.coing.infra.upbit.handler.UpbitMessageProcessor;
 import com.coing.infra.upbit.handler.UpbitWebSocketHandler;
 import com.coing.infra.upbit.handler.UpbitWebSocketOrderbookHandler;
 import com.coing.infra.upbit.handler.UpbitWebSocketTickerHandler;
 import com.coing.infra.upbit.handler.UpbitWebSocketTradeHandler;
+import com.coing.infra.upbit.recorder.UpbitFrameRecorder;
+import com.coing.infra.upbit.subscription.UpbitMarketRateTracker;
+import com.coing.infra.upbit.subscription.UpbitSubscriptionPlanner;
+import com.coing.infra.upbit.util.UpbitRequestBuilder;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * 여러 WebSocket Type별로 UpbitWebSocketConnection을 생성하고 관리하는 서비스
+ * <p>
+ * `upbit.websocket.multiplexed`가 true인 경우 ORDERBOOK, TICKER, TRADE를 하나의 연결로 구독합니다.
+ * <p>
+ * `upbit.websocket.shards`가 2 이상인 경우 타입별로 K개의 연결을 만들고 마켓 코드를 나누어 구독합니다.
+ * 하나의 연결이 끊기거나 느려져도 해당 Shard의 마켓만 영향을 받으며, 수신/디코딩도 연결별 스레드에서 병렬로 처리됩니다.
+ * 마켓 분배는 관측된 마켓별 메시지 수 기준으로 주기적으로 재계산하고, 불균형이 임계값을 넘으면 변경된 Shard에만 구독 메시지를 다시 전송합니다.
+ * <p>
+ * 마켓 목록이나 호가 구독 수요가 바뀌면 재연결 없이 기존 연결에 구독 메시지를 다시 전송하며, sharded 모드에서는 변경된 Shard에만 전송합니다.
+ * <p>
+ * watchdog이 메시지가 끊긴 연결을 감지하여 즉시 재연결하며, `upbit.websocket.standby`가 true이면 연결마다 hot standby를 함께 유지합니다.
  */
 @Service
 @RequiredArgsConstructor
@@ -32,42 +55,236 @@ public class UpbitWebSocketService {
 	private final UpbitWebSocketOrderbookHandler orderbookHandler;
 	private final UpbitWebSocketTickerHandler tickerHandler;
 	private final UpbitWebSocketTradeHandler tradeHandler;
-	private final Map<EnumUpbitWebSocketType, UpbitWebSocketConnection> connections = new HashMap<>();
+	private final UpbitMessageCodec upbitMessageCodec;
+	private final UpbitRequestBuilder upbitRequestBuilder;
+	private final UpbitMarketRateTracker upbitMarketRateTracker;
+	private final UpbitFrameRecorder upbitFrameRecorder;
+	private final Map<String, UpbitWebSocketConnection> connections = new ConcurrentHashMap<>();
+	private final Map<EnumUpbitRequestType, List<List<String>>> subscriptionPlans = new ConcurrentHashMap<>();
 	@Value("${upbit.websocket.uri}")
 	private String UPBIT_WEBSOCKET_URI;
+	@Value("${upbit.websocket.multiplexed:false}")
+	private boolean multiplexed;
+	@Value("${upbit.websocket.shards:1}")
+	private int connectionShards;
+	@Value("${upbit.websocket.rebalance-threshold:1.5}")
+	private double rebalanceThreshold;
+	@Value("${upbit.websocket.standby:false}")
+	private boolean standby;
+	@Value("${upbit.websocket.stall-timeout-seconds:15}")
+	private long stallTimeoutSeconds;
+	private final LongAdder stallCount = new LongAdder();
+	private static final String MULTIPLEXED_CONNECTION_NAME = "MULTIPLEXED";
+	private static final String STANDBY_SUFFIX = "-STANDBY";
 
 	/**
 	 * 애플리케이션 시작 후 연결
 	 */
 	@EventListener(ApplicationReadyEvent.class)
 	public void init() {
+		if (multiplexed) {
+			initMultiplexed();
+			return;
+		}
+		if (connectionShards > 1) {
+			initSharded();
+			return;
+		}
+
 		// ORDERBOOK
-		UpbitWebSocketHandler orderbookComposite = new UpbitWebSocketHandler(
-			Arrays.asList(orderbookHandler)
-		);
-		UpbitWebSocketConnection orderbookConn = new UpbitWebSocketConnection(
-			webSocketClient, orderbookComposite, UPBIT_WEBSOCKET_URI, "ORDERBOOK");
-		connections.put(EnumUpbitWebSocketType.ORDERBOOK, orderbookConn);
-		orderbookConn.connect();
+		register(EnumUpbitWebSocketType.ORDERBOOK.name(),
+			() -> new UpbitWebSocketHandler(Arrays.asList(orderbookHandler)));
 
 		// TICKER
-		UpbitWebSocketHandler tickerComposite = new UpbitWebSocketHandler(
-			List.of(tickerHandler)
-		);
-		UpbitWebSocketConnection tickerConn = new UpbitWebSocketConnection(
-			webSocketClient, tickerComposite, UPBIT_WEBSOCKET_URI, "TICKER"
-		);
-		connections.put(EnumUpbitWebSocketType.TICKER, tickerConn);
-		tickerConn.connect();
+		register(EnumUpbitWebSocketType.TICKER.name(),
+			() -> new UpbitWebSocketHandler(List.of(tickerHandler)));
 
 		// TRADE
-		UpbitWebSocketHandler tradeComposite = new UpbitWebSocketHandler(
-			List.of(tradeHandler)
-		);
-		UpbitWebSocketConnection tradeConn = new UpbitWebSocketConnection(
-			webSocketClient, tradeComposite, UPBIT_WEBSOCKET_URI, "TRADE");
-		connections.put(EnumUpbitWebSocketType.TRADE, tradeConn);
-		tradeConn.connect();
+		register(EnumUpbitWebSocketType.TRADE.name(),
+			() -> new UpbitWebSocketHandler(List.of(tradeHandler)));
+	}
+
+	/**
+	 * 하나의 연결로 ORDERBOOK, TICKER, TRADE를 모두 구독
+	 */
+	private void initMultiplexed() {
+		register(MULTIPLEXED_CONNECTION_NAME, () -> new UpbitWebSocketHandler(
+			List.of(orderbookHandler, tickerHandler, tradeHandler), upbitMessageCodec, upbitRequestBuilder
+		));
+	}
+
+	/**
+	 * 타입별로 K개의 연결을 생성하여 마켓 코드를 나누어 구독
+	 */
+	private void initSharded() {
+		initShardedType(EnumUpbitRequestType.ORDERBOOK, orderbookHandler);
+		initShardedType(EnumUpbitRequestType.TICKER, tickerHandler);
+		initShardedType(EnumUpbitRequestType.TRADE, tradeHandler);
+	}
+
+	private void initShardedType(EnumUpbitRequestType type, UpbitMessageProcessor processor) {
+		subscriptionPlans.put(type,
+			UpbitSubscriptionPlanner.partition(upbitRequestBuilder.getMarketCodes(), Map.of(), connectionShards));
+
+		for (int i = 0; i < connectionShards; i++) {
+			int index = i;
+			register(shardName(type, i), () -> new UpbitWebSocketHandler(
+				List.of(processor), upbitMessageCodec, upbitRequestBuilder,
+				() -> subscriptionPlans.get(type).get(index)
+			));
+		}
+	}
+
+	/**
+	 * 연결 생성 및 등록
+	 * <p>
+	 * `upbit.websocket.standby`가 true이면 같은 구독의 hot standby 연결을 함께 생성합니다.
+	 * 두 연결이 동시에 수신하므로 한쪽이 끊겨도 다른 연결이 즉시 데이터를 전달하며, 중복 메시지는 처리 단계에서 제거합니다.
+	 */
+	private void register(String name, Supplier<UpbitWebSocketHandler> handlerFactory) {
+		UpbitWebSocketConnection conn = new UpbitWebSocketConnection(
+			webSocketClient, createHandler(handlerFactory), UPBIT_WEBSOCKET_URI, name);
+		connections.put(name, conn);
+		conn.connect();
+
+		if (standby) {
+			String standbyName = name + STANDBY_SUFFIX;
+			UpbitWebSocketConnection standbyConn = new UpbitWebSocketConnection(
+				webSocketClient, handlerFactory.get(), UPBIT_WEBSOCKET_URI, standbyName);
+			connections.put(standbyName, standbyConn);
+			standbyConn.connect();
+		}
+	}
+
+	/**
+	 * `upbit.recorder.enabled`가 true이면 주 연결의 수신 프레임을 녹화하도록 설정
+	 * <p>
+	 * standby 연결은 같은 프레임을 중복 수신하므로 녹화하지 않습니다.
+	 */
+	private UpbitWebSocketHandler createHandler(Supplier<UpbitWebSocketHandler> handlerFactory) {
+		UpbitWebSocketHandler handler = handlerFactory.get();
+		if (upbitFrameRecorder != null && upbitFrameRecorder.isEnabled()) {
+			handler.setFrameRecorder(upbitFrameRecorder);
+		}
+		return handler;
+	}
+
+	/**
+	 * 일정 시간 동안 keepalive를 포함한 어떤 메시지도 수신하지 못한 연결을 즉시 재연결
+	 * <p>
+	 * 60초 PING 주기를 기다리지 않고 `upbit.websocket.stall-timeout-seconds` 이내에 끊긴 스트림을 감지합니다.
+	 * 배정된 마켓이 없어 구독하지 않은 Shard 연결은 메시지를 받지 않으므로 검사에서 제외됩니다.
+	 */
+	@Scheduled(fixedDelayString = "${upbit.websocket.watchdog-interval-ms:1000}")
+	public void checkStalledConnections() {
+		long now = System.currentTimeMillis();
+		long timeoutMillis = stallTimeoutSeconds * 1000L;
+		for (UpbitWebSocketConnection conn : connections.values()) {
+			if (conn.isStalled(now, timeoutMillis)) {
+				stallCount.increment();
+				conn.forceReconnect();
+			}
+		}
+	}
+
+	public long getStallCount() {
+		return stallCount.sum();
+	}
+
+	/**
+	 * 관측된 마켓별 메시지 수로 구독 Shard 재분배
+	 * <p>
+	 * 현재 분배의 불균형(최대 부하 / 평균 부하)이 `upbit.websocket.rebalance-threshold` 이상인 타입만 재계산하며,
+	 * 배정된 마켓이 바뀐 Shard에만 연결을 유지한 채 새 구독 메시지를 전송하므로, 재분배 중에도 수신이 끊기지 않습니다.
+	 */
+	@Scheduled(fixedRateString = "${upbit.websocket.rebalance-interval-ms:600000}",
+		initialDelayString = "${upbit.websocket.rebalance-interval-ms:600000}")
+	public void rebalanceShards() {
+		for (Map.Entry<EnumUpbitRequestType, List<List<String>>> entry : subscriptionPlans.entrySet()) {
+			EnumUpbitRequestType type = entry.getKey();
+			List<List<String>> current = entry.getValue();
+			Map<String, Long> counts = upbitMarketRateTracker.drainCounts(type);
+
+			double imbalance = UpbitSubscriptionPlanner.imbalance(current, counts);
+			if (imbalance < rebalanceThreshold) {
+				continue;
+			}
+
+			List<List<String>> next = UpbitSubscriptionPlanner.partition(
+				upbitRequestBuilder.getMarketCodes(), counts, connectionShards);
+			subscriptionPlans.put(type, next);
+			log.info("[{}] Rebalancing subscription shards. imbalance: {}", type,
+				String.format("%.2f", imbalance));
+
+			for (int i = 0; i < next.size(); i++) {
+				if (!UpbitSubscriptionPlanner.sameMarkets(next.get(i), current.get(i))) {
+					resubscribe(shardName(type, i));
+				}
+			}
+		}
+	}
+
+	/**
+	 * 마켓 목록 변경 시 기존 연결에 구독 메시지 재전송
+	 * <p>
+	 * 새로 상장된 마켓은 즉시 수신을 시작하고 상장 폐지된 마켓은 구독에서 제외됩니다.
+	 * sharded 모드에서는 기존 분배를 유지한 채 변경분만 반영하여, 배정 마켓이 바뀐 Shard에만 전송합니다.
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onMarketListChanged(MarketListChangedEvent event) {
+		if (subscriptionPlans.isEmpty()) {
+			connections.values().forEach(UpbitWebSocketConnection::resubscribe);
+			return;
+		}
+		for (Map.Entry<EnumUpbitRequestType, List<List<String>>> entry : subscriptionPlans.entrySet()) {
+			EnumUpbitRequestType type = entry.getKey();
+			List<List<String>> current = entry.getValue();
+			List<List<String>> next = UpbitSubscriptionPlanner.applyChanges(current, event.added(), event.removed());
+			subscriptionPlans.put(type, next);
+
+			for (int i = 0; i < next.size(); i++) {
+				if (!UpbitSubscriptionPlanner.sameMarkets(next.get(i), current.get(i))) {
+					resubscribe(shardName(type, i));
+				}
+			}
+		}
+	}
+
+	/**
+	 * 호가 구독 수요 변경 시 ORDERBOOK을 구독하는 연결에만 구독 메시지 재전송
+	 * <p>
+	 * 실제 구독 마켓은 UpbitRequestBuilder가 구독 요청을 만들 때 수요 기준으로 걸러냅니다.
+	 * sharded 모드에서는 변경된 마켓이 배정된 Shard에만 전송합니다.
+	 */
+	@EventListener
+	public void onOrderbookDemandChanged(OrderbookDemandChangedEvent event) {
+		List<List<String>> plan = subscriptionPlans.get(EnumUpbitRequestType.ORDERBOOK);
+		if (plan == null) {
+			resubscribe(EnumUpbitWebSocketType.ORDERBOOK.name());
+			resubscribe(MULTIPLEXED_CONNECTION_NAME);
+			return;
+		}
+		for (int i = 0; i < plan.size(); i++) {
+			List<String> shard = plan.get(i);
+			if (event.added().stream().anyMatch(shard::contains) || event.removed().stream().anyMatch(shard::contains)) {
+				resubscribe(shardName(EnumUpbitRequestType.ORDERBOOK, i));
+			}
+		}
+	}
+
+	/**
+	 * 연결과 해당 standby 연결에 구독 메시지 재전송
+	 */
+	private void resubscribe(String name) {
+		UpbitWebSocketConnection conn = connections.get(name);
+		if (conn == null) {
+			return;
+		}
+		conn.resubscribe();
+		UpbitWebSocketConnection standbyConn = connections.get(name + STANDBY_SUFFIX);
+		if (standbyConn != null) {
+			standbyConn.resubscribe();
+		}
 	}
 
 	/**
@@ -76,7 +293,7 @@ public class UpbitWebSocketService {
 	 */
 	@Scheduled(fixedRate = 60000)
 	public void sendPingMessages() {
-		for (Map.Entry<EnumUpbitWebSocketType, UpbitWebSocketConnection> entry : connections.entrySet()) {
+		for (Map.Entry<String, UpbitWebSocketConnection> entry : connections.entrySet()) {
 			UpbitWebSocketConnection conn = entry.getValue();
 			conn.sendPing();
 		}
@@ -89,7 +306,15 @@ public class UpbitWebSocketService {
 	}
 
 	public UpbitWebSocketConnection getConnection(EnumUpbitWebSocketType type) {
-		return connections.get(type);
+		UpbitWebSocketConnection connection = connections.get(type.name());
+		if (connection == null) {
+			connection = connections.get(type.name() + "-0");
+		}
+		return connection != null ? connection : connections.get(MULTIPLEXED_CONNECTION_NAME);
+	}
+
+	private static String shardName(EnumUpbitRequestType type, int index) {
+		return type.name() + "-" + index;
 	}
 
 }
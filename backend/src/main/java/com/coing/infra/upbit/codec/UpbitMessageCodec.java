@@ -0,0 +1,135 @@
+package com.coing.infra.upbit.codec;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.stereotype.Component;
+
+import com.coing.infra.upbit.dto.UpbitWebSocketOrderbookDto;
+import com.coing.infra.upbit.dto.UpbitWebSocketTickerDto;
+import com.coing.infra.upbit.dto.UpbitWebSocketTradeDto;
+import com.coing.infra.upbit.enums.EnumUpbitRequestType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+
+/**
+ * Upbit WebSocket Binary Frame Codec
+ * <p>
+ * 수신한 ByteBuffer를 String으로 복사하지 않고 DTO 타입별로 미리 생성한 ObjectReader로 바로 파싱합니다.
+ * keepalive 메시지(`{"status":"UP"}`) 역시 바이트 비교로 판별하여 프레임마다 String을 생성하지 않습니다.
+ */
+@Component
+public class UpbitMessageCodec {
+	private static final ByteBuffer KEEPALIVE = ByteBuffer.wrap(
+		"{\"status\":\"UP\"}".getBytes(StandardCharsets.UTF_8)).asReadOnlyBuffer();
+	private static final byte[] TYPE_KEY = "\"ty\"".getBytes(StandardCharsets.UTF_8);
+	private static final EnumUpbitRequestType[] ROUTABLE_TYPES = {
+		EnumUpbitRequestType.TICKER, EnumUpbitRequestType.TRADE, EnumUpbitRequestType.ORDERBOOK
+	};
+	private static final byte[][] ROUTABLE_TYPE_VALUES = {
+		"ticker".getBytes(StandardCharsets.US_ASCII),
+		"trade".getBytes(StandardCharsets.US_ASCII),
+		"orderbook".getBytes(StandardCharsets.US_ASCII)
+	};
+
+	private final ObjectReader orderbookReader;
+	private final ObjectReader tickerReader;
+	private final ObjectReader tradeReader;
+
+	public UpbitMessageCodec(ObjectMapper objectMapper) {
+		this.orderbookReader = objectMapper.readerFor(UpbitWebSocketOrderbookDto.class);
+		this.tickerReader = objectMapper.readerFor(UpbitWebSocketTickerDto.class);
+		this.tradeReader = objectMapper.readerFor(UpbitWebSocketTradeDto.class);
+	}
+
+	/**
+	 * keepalive 메시지 여부 확인
+	 * <p>
+	 * payload의 position/limit은 변경하지 않습니다.
+	 */
+	public boolean isKeepalive(ByteBuffer payload) {
+		return payload.remaining() == KEEPALIVE.remaining() && payload.equals(KEEPALIVE);
+	}
+
+	public UpbitWebSocketOrderbookDto decodeOrderbook(ByteBuffer payload) throws IOException {
+		return decode(orderbookReader, payload);
+	}
+
+	public UpbitWebSocketTickerDto decodeTicker(ByteBuffer payload) throws IOException {
+		return decode(tickerReader, payload);
+	}
+
+	public UpbitWebSocketTradeDto decodeTrade(ByteBuffer payload) throws IOException {
+		return decode(tradeReader, payload);
+	}
+
+	/**
+	 * `ty` 필드 값으로 메시지 타입 판별
+	 * <p>
+	 * 전체 JSON을 파싱하지 않고 바이트를 스캔하여 `"ty":"..."` 값을 비교합니다.
+	 * SIMPLE 포맷에서는 `ty`가 첫 필드로 오기 때문에 대부분 앞쪽 몇 바이트만 확인합니다.
+	 *
+	 * @return 판별된 타입, 알 수 없는 경우 null
+	 */
+	public EnumUpbitRequestType peekType(ByteBuffer payload) {
+		int keyEnd = indexAfter(payload, TYPE_KEY, payload.position());
+		if (keyEnd < 0) {
+			return null;
+		}
+		// : 와 공백을 건너뛰고 여는 따옴표 위치 탐색
+		int limit = payload.limit();
+		int i = keyEnd;
+		while (i < limit && (payload.get(i) == ':' || payload.get(i) == ' ')) {
+			i++;
+		}
+		if (i >= limit || payload.get(i) != '"') {
+			return null;
+		}
+		int valueStart = i + 1;
+		for (int t = 0; t < ROUTABLE_TYPE_VALUES.length; t++) {
+			byte[] value = ROUTABLE_TYPE_VALUES[t];
+			int valueEnd = valueStart + value.length;
+			if (valueEnd < limit && payload.get(valueEnd) == '"' && regionMatches(payload, valueStart, value)) {
+				return ROUTABLE_TYPES[t];
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * 로그 출력용 payload 문자열 변환
+	 * <p>
+	 * 오류 로그 등 예외 경로에서만 사용합니다.
+	 */
+	public String toString(ByteBuffer payload) {
+		return StandardCharsets.UTF_8.decode(payload.duplicate()).toString();
+	}
+
+	private <T> T decode(ObjectReader reader, ByteBuffer payload) throws IOException {
+		if (payload.hasArray()) {
+			return reader.readValue(payload.array(), payload.arrayOffset() + payload.position(), payload.remaining());
+		}
+		return reader.readValue(new ByteBufferBackedInputStream(payload.duplicate()));
+	}
+
+	private static int indexAfter(ByteBuffer payload, byte[] key, int from) {
+		int last = payload.limit() - key.length;
+		for (int i = from; i <= last; i++) {
+			if (regionMatches(payload, i, key)) {
+				return i + key.length;
+			}
+		}
+		return -1;
+	}
+
+	private static boolean regionMatches(ByteBuffer payload, int offset, byte[] expected) {
+		for (int j = 0; j < expected.length; j++) {
+			if (payload.get(offset + j) != expected[j]) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,49 @@
+package com.coing.infra.upbit.codec;
+
+import java.io.IOException;
+
+import com.coing.domain.coin.orderbook.entity.OrderbookLevels;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+
+/**
+ * Upbit SIMPLE 포맷 호가 단위(`obu`) 배열을 OrderbookLevels로 직접 파싱
+ * <p>
+ * 호가 단위별 DTO와 boxed Double을 만들지 않고 토큰 스트림에서 double 값을 바로 배열에 채웁니다.
+ */
+public class UpbitOrderbookUnitsDeserializer extends JsonDeserializer<OrderbookLevels> {
+
+	@Override
+	public OrderbookLevels deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+		if (!p.isExpectedStartArrayToken()) {
+			return (OrderbookLevels)ctxt.handleUnexpectedToken(OrderbookLevels.class, p);
+		}
+		OrderbookLevels levels = new OrderbookLevels();
+		while (p.nextToken() == JsonToken.START_OBJECT) {
+			double askPrice = 0.0;
+			double bidPrice = 0.0;
+			double askSize = 0.0;
+			double bidSize = 0.0;
+			String field;
+			while ((field = p.nextFieldName()) != null) {
+				JsonToken token = p.nextToken();
+				if (!token.isNumeric()) {
+					p.skipChildren();
+					continue;
+				}
+				switch (field) {
+					case "ap" -> askPrice = p.getDoubleValue();
+					case "bp" -> bidPrice = p.getDoubleValue();
+					case "as" -> askSize = p.getDoubleValue();
+					case "bs" -> bidSize = p.getDoubleValue();
+					default -> {
+					}
+				}
+			}
+			levels.add(askPrice, bidPrice, askSize, bidSize);
+		}
+		return levels;
+	}
+}
@@ -4,6 +4,7 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 
 import com.coing.domain.coin.common.enums.AskBid;
+import com.coing.domain.coin.trade.entity.Trade;
 import com.coing.util.LocalDateDeserializer;
 import com.coing.util.LocalTimeDeserializer;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -45,4 +46,21 @@ public class UpbitApiTradeDto {
 
 	@JsonProperty("sequential_id")
 	private long sequentialId;  // 체결 번호 (Unique)
+
+	public Trade toEntity() {
+		return Trade.builder()
+			.type("trade")
+			.code(market)
+			.tradePrice(tradePrice)
+			.tradeVolume(tradeVolume)
+			.askBid(askBid)
+			.prevClosingPrice(prevClosingPrice)
+			.changePrice(changePrice)
+			.tradeDate(tradeDateUtc)
+			.tradeTime(tradeTimeUtc)
+			.tradeTimeStamp(timestamp)
+			.timestamp(timestamp)
+			.sequentialId(sequentialId)
+			.build();
+	}
 }
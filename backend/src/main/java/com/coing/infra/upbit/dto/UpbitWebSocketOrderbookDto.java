@@ -1,11 +1,10 @@
 package com.coing.infra.upbit.dto;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 import com.coing.domain.coin.orderbook.entity.Orderbook;
-import com.coing.domain.coin.orderbook.entity.OrderbookUnit;
+import com.coing.domain.coin.orderbook.entity.OrderbookLevels;
+import com.coing.infra.upbit.codec.UpbitOrderbookUnitsDeserializer;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -15,6 +14,7 @@ import lombok.NoArgsConstructor;
 /**
  * Upbit WebSocket Orderbook(호가) Response Dto
  * format field : "SIMPLE"로 지정하여 응답의 필드명이 모두 간소화함
+ * 호가 단위(`obu`)는 단위별 객체를 만들지 않고 OrderbookLevels로 바로 파싱함
  */
 @Getter
 @NoArgsConstructor
@@ -34,7 +34,8 @@ public class UpbitWebSocketOrderbookDto {
 	private Double totalBidSize;
 
 	@JsonProperty("obu")
-	private List<OrderbookUnitDto> orderbookUnits;
+	@JsonDeserialize(using = UpbitOrderbookUnitsDeserializer.class)
+	private OrderbookLevels orderbookUnits;
 
 	@JsonProperty("tms")
 	private Long timestamp;
@@ -46,43 +47,14 @@ public class UpbitWebSocketOrderbookDto {
 	private String streamType;
 
 	public Orderbook toEntity() {
-		Orderbook.OrderbookBuilder orderbookBuilder = Orderbook.builder()
+		return Orderbook.builder()
 			.type(this.type)
 			.code(this.code)
 			.totalAskSize(this.totalAskSize)
 			.totalBidSize(this.totalBidSize)
+			.orderbookUnits(this.orderbookUnits)
 			.timestamp(this.timestamp)
-			.level(this.level);
-
-		if (this.orderbookUnits != null) {
-			List<OrderbookUnit> units = this.orderbookUnits.stream()
-				.map(OrderbookUnitDto::toEntity)
-				.collect(Collectors.toList());
-			orderbookBuilder.orderbookUnits(units);
-		}
-
-		return orderbookBuilder.build();
-	}
-
-	@Getter
-	@NoArgsConstructor
-	@AllArgsConstructor
-	public static class OrderbookUnitDto {
-		@JsonProperty("ap")
-		private Double askPrice;
-
-		@JsonProperty("bp")
-		private Double bidPrice;
-
-		@JsonProperty("as")
-		private Double askSize;
-
-		@JsonProperty("bs")
-		private Double bidSize;
-
-		public OrderbookUnit toEntity() {
-			return new OrderbookUnit(askPrice, bidPrice, askSize, bidSize);
-		}
+			.level(this.level)
+			.build();
 	}
-
 }
@@ -5,7 +5,7 @@ import java.time.LocalTime;
 
 import com.coing.domain.coin.common.enums.AskBid;
 import com.coing.domain.coin.common.enums.Change;
-import com.coing.domain.coin.ticker.entity.Ticker;
+import com.coing.domain.coin.ticker.entity.TickerUpdate;
 import com.coing.domain.coin.ticker.entity.enums.MarketState;
 import com.coing.domain.coin.ticker.entity.enums.MarketWarning;
 import com.coing.util.LocalDateDeserializer;
@@ -24,7 +24,7 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @Builder
 @JsonIgnoreProperties(ignoreUnknown = true)
-public class UpbitWebSocketTickerDto {
+public class UpbitWebSocketTickerDto implements TickerUpdate {
 	@JsonProperty("ty")
 	private String type;
 
@@ -119,55 +119,4 @@ public class UpbitWebSocketTickerDto {
 
 	@JsonProperty("st")
 	private String streamType;
-
-	public Ticker toEntity() {
-		return Ticker.builder()
-			.type(type)
-			.code(code)
-			.openingPrice(openingPrice)
-			.highPrice(highPrice)
-			.lowPrice(lowPrice)
-			.tradePrice(tradePrice)
-			.prevClosingPrice(prevClosingPrice)
-			.change(change)
-			.changePrice(changePrice)
-			.signedChangePrice(signedChangePrice)
-			.changeRate(changeRate)
-			.signedChangeRate(signedChangeRate)
-			.tradeVolume(tradeVolume)
-			.accTradeVolume(accTradeVolume)
-			.accTradeVolume24h(accTradeVolume24h)
-			.accTradePrice(accTradePrice)
-			.accTradePrice24h(accTradePrice24h)
-			.tradeDate(tradeDate)
-			.tradeTime(tradeTime)
-			.tradeTimestamp(tradeTimestamp)
-			.askBid(askBid)
-			.accAskVolume(accAskVolume)
-			.accBidVolume(accBidVolume)
-			.highest52WeekPrice(highest52WeekPrice)
-			.highest52WeekDate(highest52WeekDate)
-			.lowest52WeekPrice(lowest52WeekPrice)
-			.lowest52WeekDate(lowest52WeekDate)
-			.marketState(marketState)
-			.marketWarning(marketWarning)
-			.timestamp(timestamp)
-			.accAskBidRate(calcAccAskBidRate())
-			.highBreakout(calcHighBreakout())
-			.lowBreakout(calcLowBreakout())
-			// .oneMinuteRate(oneMinuteRate)
-			.build();
-	}
-
-	private double calcAccAskBidRate() {
-		return (accAskVolume - accBidVolume) / accTradeVolume;
-	}
-
-	private boolean calcHighBreakout() {
-		return tradePrice > highest52WeekPrice;
-	}
-
-	private boolean calcLowBreakout() {
-		return tradePrice < lowest52WeekPrice;
-	}
 }
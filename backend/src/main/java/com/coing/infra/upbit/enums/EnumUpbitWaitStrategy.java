@@ -0,0 +1,14 @@
+package com.coing.infra.upbit.enums;
+
+/**
+ * Ring Buffer Consumer 대기 전략
+ * <p>
+ * 처리할 이벤트가 없을 때 consumer 스레드가 대기하는 방식입니다.
+ * 지연 시간이 짧을수록 CPU 사용량이 높아집니다.
+ */
+public enum EnumUpbitWaitStrategy {
+	BUSY_SPIN, // 계속 spin (최저 지연, CPU 코어 1개 점유)
+	YIELDING,  // spin 후 Thread.yield()
+	SLEEPING,  // spin, yield 후 짧게 park
+	BLOCKING   // park 후 producer가 깨움 (최저 CPU 사용)
+}
@@ -0,0 +1,37 @@
+package com.coing.infra.upbit.handler;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import org.springframework.web.socket.WebSocketSession;
+
+import com.coing.infra.upbit.enums.EnumUpbitRequestType;
+
+/**
+ * Upbit WebSocket 수신 메시지 처리기
+ * <p>
+ * 하나의 구독 타입(ticker, trade, orderbook)에 대한 payload를 디코딩하고 처리합니다.
+ * 여러 타입을 하나의 연결로 수신하는 경우 UpbitWebSocketHandler가 `ty` 필드 기준으로 라우팅합니다.
+ */
+public interface UpbitMessageProcessor {
+
+	EnumUpbitRequestType getRequestType();
+
+	void processMessage(ByteBuffer payload);
+
+	/**
+	 * 구독 메시지 전송 후 호출
+	 *
+	 * @param codes 해당 연결에서 구독한 마켓 코드
+	 */
+	default void onSubscribed(List<String> codes) {
+	}
+
+	/**
+	 * dedicated 연결에서 현재 마켓 목록으로 구독 메시지 전송
+	 * <p>
+	 * 이미 구독 중인 세션에 다시 전송하면 Upbit는 기존 구독을 새 요청으로 대체합니다.
+	 */
+	default void subscribe(WebSocketSession session) throws Exception {
+	}
+}
@@ -1,15 +1,26 @@
 package com.coing.infra.upbit.handler;
 
+import java.nio.ByteBuffer;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 
 import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
 import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketHandler;
 import org.springframework.web.socket.WebSocketMessage;
 import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.BinaryWebSocketHandler;
 
+import com.coing.infra.upbit.codec.UpbitMessageCodec;
+import com.coing.infra.upbit.enums.EnumUpbitRequestType;
+import com.coing.infra.upbit.recorder.UpbitFrameRecorder;
+import com.coing.infra.upbit.util.UpbitRequestBuilder;
+
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -17,24 +28,117 @@ import lombok.extern.slf4j.Slf4j;
  * <p>
  * 여러 개의 개별 BinaryWebSocketHandler를 리스트로 받아, 하나의 WebSocket 연결에서 모든 이벤트를 순차적으로 처리합니다.
  * 개별 Handler에서 예외가 발생하더라도 다른 Handler가 정상적으로 동작하도록 개별 try-catch로 처리합니다.
+ * <p>
+ * Multiplexed 방식으로 생성한 경우 여러 타입을 하나의 구독 메시지로 요청하고,
+ * 수신한 메시지의 `ty` 필드를 바이트에서 읽어 해당 타입의 UpbitMessageProcessor로 라우팅합니다.
+ * 구독 마켓 Supplier를 지정하면 연결될 때마다 해당 Shard에 배정된 마켓만 구독합니다.
+ * <p>
+ * keepalive를 포함한 마지막 메시지 수신 시각을 기록하여 watchdog이 응답 없는 연결을 판별할 수 있도록 합니다.
+ * 배정된 마켓이 없어 구독 메시지를 보내지 않은 Shard 연결은 idle 상태로 표시하여 watchdog 대상에서 제외합니다.
+ * <p>
+ * 마켓 목록이 바뀌면 연결을 유지한 채 {@link #resubscribe(WebSocketSession)}로 구독 메시지만 다시 전송합니다.
  */
 @Component
 @Slf4j
 public class UpbitWebSocketHandler extends BinaryWebSocketHandler {
 	private final List<BinaryWebSocketHandler> handlers;
+	private final Map<EnumUpbitRequestType, UpbitMessageProcessor> routes;
+	private final UpbitMessageCodec codec;
+	private final UpbitRequestBuilder requestBuilder;
+	private final Supplier<List<String>> codesSupplier;
+	private volatile long lastMessageAt;
+	private volatile long subscribedAt;
+	private volatile boolean idle;
+	private UpbitFrameRecorder frameRecorder;
 
 	// 기본 생성자: dedicated 모드로 사용할 경우 빈 리스트 사용
 	public UpbitWebSocketHandler() {
-		this.handlers = Collections.emptyList();
+		this(Collections.emptyList());
 	}
 
 	// Composite 방식으로 사용할 경우
 	public UpbitWebSocketHandler(List<BinaryWebSocketHandler> handlers) {
 		this.handlers = handlers;
+		this.routes = Collections.emptyMap();
+		this.codec = null;
+		this.requestBuilder = null;
+		this.codesSupplier = null;
+	}
+
+	// Multiplexed 방식으로 사용할 경우: 하나의 연결에서 여러 타입을 수신하여 `ty` 기준으로 라우팅
+	public UpbitWebSocketHandler(List<UpbitMessageProcessor> processors, UpbitMessageCodec codec,
+		UpbitRequestBuilder requestBuilder) {
+		this(processors, codec, requestBuilder, null);
+	}
+
+	// Sharded 방식으로 사용할 경우: codesSupplier가 반환하는 마켓만 구독
+	public UpbitWebSocketHandler(List<UpbitMessageProcessor> processors, UpbitMessageCodec codec,
+		UpbitRequestBuilder requestBuilder, Supplier<List<String>> codesSupplier) {
+		this.handlers = Collections.emptyList();
+		this.routes = new EnumMap<>(EnumUpbitRequestType.class);
+		for (UpbitMessageProcessor processor : processors) {
+			this.routes.put(processor.getRequestType(), processor);
+		}
+		this.codec = codec;
+		this.requestBuilder = requestBuilder;
+		this.codesSupplier = codesSupplier;
+	}
+
+	public boolean isMultiplexed() {
+		return !routes.isEmpty();
+	}
+
+	/**
+	 * 수신한 binary frame을 녹화할 Recorder 지정 (연결 전에 호출)
+	 */
+	public void setFrameRecorder(UpbitFrameRecorder frameRecorder) {
+		this.frameRecorder = frameRecorder;
+	}
+
+	/**
+	 * 마지막 메시지 수신 시각(millisecond), 수신한 적이 없으면 0
+	 */
+	public long getLastMessageAt() {
+		return lastMessageAt;
+	}
+
+	/**
+	 * 마지막으로 구독 메시지를 전송한 시각(millisecond), 전송한 적이 없으면 0
+	 */
+	public long getSubscribedAt() {
+		return subscribedAt;
+	}
+
+	/**
+	 * 배정된 마켓이 없어 구독하지 않은 Shard 연결이면 true
+	 */
+	public boolean isIdle() {
+		return idle;
 	}
 
 	@Override
 	public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+		if (isMultiplexed()) {
+			List<EnumUpbitRequestType> types = List.copyOf(routes.keySet());
+			List<String> codes;
+			if (codesSupplier == null) {
+				codes = requestBuilder.getMarketCodes();
+				log.info("Upbit WebSocket multiplexed connection established. types: {}", types);
+			} else {
+				codes = codesSupplier.get();
+				if (codes == null || codes.isEmpty()) {
+					log.warn("Upbit WebSocket shard connection established without assigned markets. types: {}", types);
+					idle = true;
+					return;
+				}
+				log.info("Upbit WebSocket shard connection established. types: {}, markets: {}", types, codes.size());
+			}
+			sendRequest(session, types, codes);
+			for (UpbitMessageProcessor processor : routes.values()) {
+				processor.onSubscribed(codes);
+			}
+			return;
+		}
 		for (WebSocketHandler handler : handlers) {
 			try {
 				handler.afterConnectionEstablished(session);
@@ -45,8 +149,55 @@ public class UpbitWebSocketHandler extends BinaryWebSocketHandler {
 		}
 	}
 
+	/**
+	 * 현재 마켓 목록으로 구독 메시지 재전송
+	 * <p>
+	 * Upbit는 같은 연결에서 새 구독 요청을 받으면 기존 구독을 대체하므로, 재연결 없이 구독 마켓을 변경할 수 있습니다.
+	 * 연결이 끊기지 않았으므로 누락 체결 확인(onSubscribed)은 호출하지 않습니다.
+	 */
+	public void resubscribe(WebSocketSession session) throws Exception {
+		if (isMultiplexed()) {
+			List<EnumUpbitRequestType> types = List.copyOf(routes.keySet());
+			List<String> codes = (codesSupplier == null) ? requestBuilder.getMarketCodes() : codesSupplier.get();
+			if (codes == null || codes.isEmpty()) {
+				log.warn("No markets to resubscribe. Keeping current subscription. types: {}", types);
+				return;
+			}
+			sendRequest(session, types, codes);
+			log.info("Upbit WebSocket resubscribed. types: {}, markets: {}", types, codes.size());
+			return;
+		}
+		for (BinaryWebSocketHandler handler : handlers) {
+			if (handler instanceof UpbitMessageProcessor processor) {
+				processor.subscribe(session);
+			}
+		}
+	}
+
+	/**
+	 * 구독 메시지 전송
+	 * <p>
+	 * idle 상태였던 Shard가 새로 마켓을 배정받은 경우에도 전송 시점부터 stall timeout을 계산하도록 시각을 기록합니다.
+	 */
+	private void sendRequest(WebSocketSession session, List<EnumUpbitRequestType> types, List<String> codes)
+		throws Exception {
+		session.sendMessage(new TextMessage(requestBuilder.makeRequest(types, codes)));
+		subscribedAt = System.currentTimeMillis();
+		idle = false;
+	}
+
 	@Override
 	public void handleMessage(WebSocketSession session, WebSocketMessage<?> message) throws Exception {
+		lastMessageAt = System.currentTimeMillis();
+		if (frameRecorder != null && message instanceof BinaryMessage binaryMessage) {
+			frameRecorder.record(binaryMessage.getPayload());
+		}
+		if (isMultiplexed()) {
+			if (message instanceof BinaryMessage binaryMessage) {
+				route(binaryMessage.getPayload());
+			}
+			return;
+		}
 		for (BinaryWebSocketHandler handler : handlers) {
 			try {
 				handler.handleMessage(session, message);
@@ -81,4 +232,20 @@ public class UpbitWebSocketHandler extends BinaryWebSocketHandler {
 		}
 	}
 
+	/**
+	 * 수신한 payload의 `ty` 필드로 처리기를 찾아 전달
+	 */
+	private void route(ByteBuffer payload) {
+		if (!payload.hasRemaining() || codec.isKeepalive(payload)) {
+			return;
+		}
+		EnumUpbitRequestType type = codec.peekType(payload);
+		UpbitMessageProcessor processor = (type != null) ? routes.get(type) : null;
+		if (processor == null) {
+			log.warn("Unroutable message: {}", codec.toString(payload));
+			return;
+		}
+		processor.processMessage(payload);
+	}
+
 }
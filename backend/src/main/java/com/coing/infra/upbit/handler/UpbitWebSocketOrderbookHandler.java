@@ -1,6 +1,6 @@
 package com.coing.infra.upbit.handler;
 
-import java.nio.charset.StandardCharsets;
+import java.nio.ByteBuffer;
 
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.BinaryMessage;
@@ -9,10 +9,10 @@ import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.BinaryWebSocketHandler;
 
 import com.coing.infra.upbit.adapter.UpbitDataService;
+import com.coing.infra.upbit.codec.UpbitMessageCodec;
 import com.coing.infra.upbit.dto.UpbitWebSocketOrderbookDto;
 import com.coing.infra.upbit.enums.EnumUpbitRequestType;
 import com.coing.infra.upbit.util.UpbitRequestBuilder;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,11 +26,16 @@ import lombok.extern.slf4j.Slf4j;
 @Component
 @RequiredArgsConstructor
 @Slf4j
-public class UpbitWebSocketOrderbookHandler extends BinaryWebSocketHandler {
-	private final ObjectMapper objectMapper = new ObjectMapper();
+public class UpbitWebSocketOrderbookHandler extends BinaryWebSocketHandler implements UpbitMessageProcessor {
+	private final UpbitMessageCodec upbitMessageCodec;
 	private final UpbitDataService upbitDataService;
 	private final UpbitRequestBuilder upbitRequestBuilder;
 
+	@Override
+	public EnumUpbitRequestType getRequestType() {
+		return EnumUpbitRequestType.ORDERBOOK;
+	}
+
 	/**
 	 * 연결 수립 후 초기 구독 메시지 전송
 	 * @param session
@@ -39,6 +44,11 @@ public class UpbitWebSocketOrderbookHandler extends BinaryWebSocketHandler {
 	@Override
 	public void afterConnectionEstablished(WebSocketSession session) throws Exception {
 		log.info("Upbit WebSocket Orderbook connection established.");
+		subscribe(session);
+	}
+
+	@Override
+	public void subscribe(WebSocketSession session) throws Exception {
 		String subscribeMessage = upbitRequestBuilder.makeRequest(EnumUpbitRequestType.ORDERBOOK);
 		log.info("Sending subscription message: {}", subscribeMessage);
 		session.sendMessage(new TextMessage(subscribeMessage));
@@ -53,9 +63,9 @@ public class UpbitWebSocketOrderbookHandler extends BinaryWebSocketHandler {
 	 */
 	@Override
 	public void handleBinaryMessage(WebSocketSession session, BinaryMessage message) {
-		String payload = new String(message.getPayload().array(), StandardCharsets.UTF_8);
+		ByteBuffer payload = message.getPayload();
 
-		if (!payload.isEmpty()) {
+		if (payload.hasRemaining()) {
 			processMessage(payload);
 		}
 	}
@@ -64,18 +74,18 @@ public class UpbitWebSocketOrderbookHandler extends BinaryWebSocketHandler {
 	 * 수신한 메시지를 파싱하여 각 타입별로 UpbitDataService로 처리 요청합니다.
 	 * @param payload JSON 형식의 메시지
 	 */
-	private void processMessage(String payload) {
+	@Override
+	public void processMessage(ByteBuffer payload) {
 		try {
 			// keepalive 메시지인 경우 무시
-			if ("{\"status\":\"UP\"}".equals(payload)) {
-				log.debug("Received keepalive message: {}", payload);
+			if (upbitMessageCodec.isKeepalive(payload)) {
+				log.debug("Received keepalive message");
 				return;
 			}
-			UpbitWebSocketOrderbookDto upbitWebSocketOrderbookDto = objectMapper.readValue(payload,
-				UpbitWebSocketOrderbookDto.class);
+			UpbitWebSocketOrderbookDto upbitWebSocketOrderbookDto = upbitMessageCodec.decodeOrderbook(payload);
 			upbitDataService.processOrderbookData(upbitWebSocketOrderbookDto);
 		} catch (Exception e) {
-			log.error("Error processing message: {}", payload, e);
+			log.error("Error processing message: {}", upbitMessageCodec.toString(payload), e);
 		}
 	}
 
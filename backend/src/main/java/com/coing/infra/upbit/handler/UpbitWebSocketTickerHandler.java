@@ -1,6 +1,6 @@
 package com.coing.infra.upbit.handler;
 
-import java.nio.charset.StandardCharsets;
+import java.nio.ByteBuffer;
 
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.BinaryMessage;
@@ -9,10 +9,10 @@ import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.BinaryWebSocketHandler;
 
 import com.coing.infra.upbit.adapter.UpbitDataService;
+import com.coing.infra.upbit.codec.UpbitMessageCodec;
 import com.coing.infra.upbit.dto.UpbitWebSocketTickerDto;
 import com.coing.infra.upbit.enums.EnumUpbitRequestType;
 import com.coing.infra.upbit.util.UpbitRequestBuilder;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,38 +20,49 @@ import lombok.extern.slf4j.Slf4j;
 @Component
 @RequiredArgsConstructor
 @Slf4j
-public class UpbitWebSocketTickerHandler extends BinaryWebSocketHandler {
-	private final ObjectMapper objectMapper;
+public class UpbitWebSocketTickerHandler extends BinaryWebSocketHandler implements UpbitMessageProcessor {
+	private final UpbitMessageCodec upbitMessageCodec;
 	private final UpbitDataService upbitDataService;
 	private final UpbitRequestBuilder upbitRequestBuilder;
 
+	@Override
+	public EnumUpbitRequestType getRequestType() {
+		return EnumUpbitRequestType.TICKER;
+	}
+
 	@Override
 	public void afterConnectionEstablished(WebSocketSession session) throws Exception {
 		log.info("Upbit WebSocket Ticker connection established.");
+		subscribe(session);
+	}
+
+	@Override
+	public void subscribe(WebSocketSession session) throws Exception {
 		String subscribeMessage = upbitRequestBuilder.makeRequest(EnumUpbitRequestType.TICKER);
 		session.sendMessage(new TextMessage(subscribeMessage));
 	}
 
 	@Override
 	public void handleBinaryMessage(WebSocketSession session, BinaryMessage message) {
-		String payload = new String(message.getPayload().array(), StandardCharsets.UTF_8);
+		ByteBuffer payload = message.getPayload();
 
-		if (!payload.isEmpty()) {
+		if (payload.hasRemaining()) {
 			processMessage(payload);
 		}
 	}
 
-	private void processMessage(String payload) {
+	@Override
+	public void processMessage(ByteBuffer payload) {
 		try {
-			if ("{\"status\":\"UP\"}".equals(payload)) {
-				log.debug("Received keepalive message: {}", payload);
+			if (upbitMessageCodec.isKeepalive(payload)) {
+				log.debug("Received keepalive message");
 				return;
 			}
 
-			UpbitWebSocketTickerDto tickerDto = objectMapper.readValue(payload, UpbitWebSocketTickerDto.class);
+			UpbitWebSocketTickerDto tickerDto = upbitMessageCodec.decodeTicker(payload);
 			upbitDataService.processTickerData(tickerDto);
 		} catch (Exception e) {
-			log.error("Error processing ticker message: {}", payload, e);
+			log.error("Error processing ticker message: {}", upbitMessageCodec.toString(payload), e);
 		}
 	}
 }
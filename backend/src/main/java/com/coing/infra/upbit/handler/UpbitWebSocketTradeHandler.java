@@ -1,6 +1,7 @@
 package com.coing.infra.upbit.handler;
 
-import java.nio.charset.StandardCharsets;
+import java.nio.ByteBuffer;
+import java.util.List;
 
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.BinaryMessage;
@@ -9,10 +10,10 @@ import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.BinaryWebSocketHandler;
 
 import com.coing.infra.upbit.adapter.UpbitDataService;
+import com.coing.infra.upbit.codec.UpbitMessageCodec;
 import com.coing.infra.upbit.dto.UpbitWebSocketTradeDto;
 import com.coing.infra.upbit.enums.EnumUpbitRequestType;
 import com.coing.infra.upbit.util.UpbitRequestBuilder;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,39 +21,58 @@ import lombok.extern.slf4j.Slf4j;
 @Component
 @RequiredArgsConstructor
 @Slf4j
-public class UpbitWebSocketTradeHandler extends BinaryWebSocketHandler {
-	private final ObjectMapper objectMapper = new ObjectMapper();
+public class UpbitWebSocketTradeHandler extends BinaryWebSocketHandler implements UpbitMessageProcessor {
+	private final UpbitMessageCodec upbitMessageCodec;
 	private final UpbitDataService upbitDataService;
 	private final UpbitRequestBuilder upbitRequestBuilder;
 
+	@Override
+	public EnumUpbitRequestType getRequestType() {
+		return EnumUpbitRequestType.TRADE;
+	}
+
 	@Override
 	public void afterConnectionEstablished(WebSocketSession session) throws Exception {
 		log.info("Upbit WebSocket Trade connection established.");
+		subscribe(session);
+		onSubscribed(upbitRequestBuilder.getMarketCodes());
+	}
+
+	@Override
+	public void subscribe(WebSocketSession session) throws Exception {
 		String subscribeMessage = upbitRequestBuilder.makeRequest(EnumUpbitRequestType.TRADE);
 		session.sendMessage(new TextMessage(subscribeMessage));
 	}
 
+	/**
+	 * 재연결 시 구독한 마켓의 누락 체결 확인 요청
+	 */
+	@Override
+	public void onSubscribed(List<String> codes) {
+		upbitDataService.requestTradeResync(codes);
+	}
+
 	@Override
 	public void handleBinaryMessage(WebSocketSession session, BinaryMessage message) {
-		String payload = new String(message.getPayload().array(), StandardCharsets.UTF_8);
+		ByteBuffer payload = message.getPayload();
 
-		if (!payload.isEmpty()) {
+		if (payload.hasRemaining()) {
 			processMessage(payload);
 		}
 	}
 
-	private void processMessage(String payload) {
+	@Override
+	public void processMessage(ByteBuffer payload) {
 		try {
-			if ("{\"status\":\"UP\"}".equals(payload)) {
-				log.debug("Received keepalive message: {}", payload);
+			if (upbitMessageCodec.isKeepalive(payload)) {
+				log.debug("Received keepalive message");
 				return;
 			}
 
-			UpbitWebSocketTradeDto upbitWebSocketTradeDto = objectMapper.readValue(payload,
-				UpbitWebSocketTradeDto.class);
+			UpbitWebSocketTradeDto upbitWebSocketTradeDto = upbitMessageCodec.decodeTrade(payload);
 			upbitDataService.processTradeData(upbitWebSocketTradeDto);
 		} catch (Exception e) {
-			log.error("Error processing message: {}", payload, e);
+			log.error("Error processing message: {}", upbitMessageCodec.toString(payload), e);
 		}
 	}
 }
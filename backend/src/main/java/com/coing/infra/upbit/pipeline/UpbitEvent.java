@@ -0,0 +1,32 @@
+package com.coing.infra.upbit.pipeline;
+
+import com.coing.infra.upbit.enums.EnumUpbitRequestType;
+
+import lombok.Getter;
+
+/**
+ * Ring Buffer에 미리 할당되어 재사용되는 이벤트 슬롯
+ * <p>
+ * producer가 값을 채운 뒤 sequence를 갱신하여 consumer에게 공개합니다.
+ */
+@Getter
+public class UpbitEvent {
+	volatile long sequence;
+
+	private EnumUpbitRequestType type;
+	private Object payload;
+
+	UpbitEvent(long sequence) {
+		this.sequence = sequence;
+	}
+
+	void set(EnumUpbitRequestType type, Object payload) {
+		this.type = type;
+		this.payload = payload;
+	}
+
+	void clear() {
+		this.type = null;
+		this.payload = null;
+	}
+}
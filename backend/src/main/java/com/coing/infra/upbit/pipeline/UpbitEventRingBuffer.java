@@ -0,0 +1,212 @@
+package com.coing.infra.upbit.pipeline;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import com.coing.infra.upbit.enums.EnumUpbitRequestType;
+import com.coing.infra.upbit.enums.EnumUpbitWaitStrategy;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * WebSocket 수신 스레드와 도메인 처리 스레드 사이의 고정 크기 Ring Buffer
+ * <p>
+ * 슬롯을 미리 할당해 두고 재사용하며, 여러 producer(수신 스레드)가 CAS로 슬롯을 점유한 뒤
+ * 하나의 consumer 스레드가 순서대로 처리합니다. (Disruptor 방식의 MPSC 구조)
+ * Ring이 가득 찬 경우 수신 스레드를 막지 않도록 이벤트를 버리고 dropped 카운트를 증가시킵니다.
+ */
+@Slf4j
+public class UpbitEventRingBuffer {
+	private static final int SPIN_TRIES = 100;
+	private static final int YIELD_TRIES = 100;
+	private static final long SLEEP_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+	private static final long BLOCKING_TIMEOUT_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+	private final String name;
+	private final UpbitEvent[] slots;
+	private final int capacity;
+	private final long mask;
+	private final EnumUpbitWaitStrategy waitStrategy;
+	private final Consumer<UpbitEvent> eventHandler;
+
+	private final AtomicLong tail = new AtomicLong();  // 다음에 점유할 producer 위치
+	private final AtomicLong head = new AtomicLong();  // 다음에 처리할 consumer 위치
+	private final LongAdder dropped = new LongAdder();
+	private volatile long maxOccupancy = 0;
+
+	private volatile boolean running = false;
+	private volatile boolean consumerWaiting = false;
+	private volatile Thread consumerThread;
+
+	public UpbitEventRingBuffer(String name, int requestedCapacity, EnumUpbitWaitStrategy waitStrategy,
+		Consumer<UpbitEvent> eventHandler) {
+		this.name = name;
+		this.capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1) << 1);
+		this.mask = capacity - 1;
+		this.waitStrategy = waitStrategy;
+		this.eventHandler = eventHandler;
+		this.slots = new UpbitEvent[capacity];
+		for (int i = 0; i < capacity; i++) {
+			slots[i] = new UpbitEvent(i);
+		}
+	}
+
+	/**
+	 * consumer 스레드 시작
+	 */
+	public synchronized void start() {
+		if (running) {
+			return;
+		}
+		running = true;
+		consumerThread = new Thread(this::consumeLoop, name);
+		consumerThread.setDaemon(true);
+		consumerThread.start();
+		log.info("[{}] Ring buffer started. capacity: {}, waitStrategy: {}", name, capacity, waitStrategy);
+	}
+
+	/**
+	 * consumer 스레드 종료
+	 */
+	public synchronized void stop() {
+		running = false;
+		Thread thread = consumerThread;
+		if (thread != null) {
+			LockSupport.unpark(thread);
+			try {
+				thread.join(TimeUnit.SECONDS.toMillis(5));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/**
+	 * 이벤트 발행
+	 * <p>
+	 * 수신 스레드에서 호출하며 block 되지 않습니다.
+	 *
+	 * @return 발행 성공 여부. Ring이 가득 찬 경우 false
+	 */
+	public boolean publish(EnumUpbitRequestType type, Object payload) {
+		UpbitEvent slot;
+		long position;
+		while (true) {
+			position = tail.get();
+			slot = slots[(int)(position & mask)];
+			long diff = slot.sequence - position;
+			if (diff == 0) {
+				if (tail.compareAndSet(position, position + 1)) {
+					break;
+				}
+			} else if (diff < 0) {
+				dropped.increment();
+				return false;
+			}
+			// 다른 producer가 먼저 점유한 경우 재시도
+		}
+		slot.set(type, payload);
+		slot.sequence = position + 1;
+
+		if (consumerWaiting) {
+			LockSupport.unpark(consumerThread);
+		}
+		return true;
+	}
+
+	private void consumeLoop() {
+		int idleCount = 0;
+		while (running) {
+			long position = head.get();
+			UpbitEvent slot = slots[(int)(position & mask)];
+			if (slot.sequence != position + 1) {
+				idleCount = idle(idleCount);
+				continue;
+			}
+			idleCount = 0;
+			recordOccupancy(position);
+			try {
+				eventHandler.accept(slot);
+			} catch (Exception e) {
+				log.error("[{}] Error handling {} event: {}", name, slot.getType(), e.getMessage(), e);
+			}
+			slot.clear();
+			slot.sequence = position + capacity;
+			head.lazySet(position + 1);
+		}
+	}
+
+	private int idle(int idleCount) {
+		switch (waitStrategy) {
+			case BUSY_SPIN -> Thread.onSpinWait();
+			case YIELDING -> {
+				if (idleCount < SPIN_TRIES) {
+					Thread.onSpinWait();
+				} else {
+					Thread.yield();
+				}
+			}
+			case SLEEPING -> {
+				if (idleCount < SPIN_TRIES) {
+					Thread.onSpinWait();
+				} else if (idleCount < SPIN_TRIES + YIELD_TRIES) {
+					Thread.yield();
+				} else {
+					LockSupport.parkNanos(SLEEP_NANOS);
+				}
+			}
+			case BLOCKING -> {
+				consumerWaiting = true;
+				// 대기 플래그 설정 후 재확인하여 깨우기 신호 유실 방지
+				long position = head.get();
+				if (slots[(int)(position & mask)].sequence != position + 1 && running) {
+					LockSupport.parkNanos(BLOCKING_TIMEOUT_NANOS);
+				}
+				consumerWaiting = false;
+			}
+		}
+		return idleCount + 1;
+	}
+
+	private void recordOccupancy(long position) {
+		long occupancy = tail.get() - position;
+		if (occupancy > maxOccupancy) {
+			maxOccupancy = occupancy;
+		}
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * 현재 처리 대기 중인 이벤트 수
+	 */
+	public long getOccupancy() {
+		return Math.max(0, tail.get() - head.get());
+	}
+
+	/**
+	 * 마지막 조회 이후 최대 대기 이벤트 수를 반환하고 초기화
+	 */
+	public long getAndResetMaxOccupancy() {
+		long max = maxOccupancy;
+		maxOccupancy = 0;
+		return max;
+	}
+
+	public long getPublishedCount() {
+		return tail.get();
+	}
+
+	public long getDroppedCount() {
+		return dropped.sum();
+	}
+}
@@ -0,0 +1,59 @@
+package com.coing.infra.upbit.pipeline;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.coing.infra.upbit.enums.EnumUpbitRequestType;
+import com.coing.infra.upbit.enums.EnumUpbitWaitStrategy;
+
+/**
+ * 마켓 코드 기준으로 분할된 단일 스레드 처리 Shard 묶음
+ * <p>
+ * 마켓 코드의 해시값으로 Shard를 선택하므로 하나의 마켓 이벤트는 항상 같은 Shard(스레드)에서 순서대로 처리됩니다.
+ * 마켓별 상태는 하나의 스레드만 변경하므로 공유 Map에 대한 lock이나 CAS 재시도 없이 갱신할 수 있습니다.
+ */
+public class UpbitEventShards {
+	private final UpbitEventRingBuffer[] shards;
+
+	public UpbitEventShards(String name, int shardCount, int ringSize, EnumUpbitWaitStrategy waitStrategy,
+		Consumer<UpbitEvent> eventHandler) {
+		this.shards = new UpbitEventRingBuffer[Math.max(1, shardCount)];
+		for (int i = 0; i < shards.length; i++) {
+			shards[i] = new UpbitEventRingBuffer(name + "-" + i, ringSize, waitStrategy, eventHandler);
+		}
+	}
+
+	public void start() {
+		for (UpbitEventRingBuffer shard : shards) {
+			shard.start();
+		}
+	}
+
+	public void stop() {
+		for (UpbitEventRingBuffer shard : shards) {
+			shard.stop();
+		}
+	}
+
+	/**
+	 * 마켓 코드에 해당하는 Shard로 이벤트 발행
+	 *
+	 * @return 발행 성공 여부. Shard의 Ring이 가득 찬 경우 false
+	 */
+	public boolean publish(EnumUpbitRequestType type, String code, Object payload) {
+		return shards[shardOf(code)].publish(type, payload);
+	}
+
+	public int shardOf(String code) {
+		if (code == null) {
+			return 0;
+		}
+		int hash = code.hashCode();
+		hash ^= (hash >>> 16);
+		return (hash & Integer.MAX_VALUE) % shards.length;
+	}
+
+	public List<UpbitEventRingBuffer> getShards() {
+		return List.of(shards);
+	}
+}
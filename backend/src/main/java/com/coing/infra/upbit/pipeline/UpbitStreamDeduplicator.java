@@ -0,0 +1,65 @@
+package com.coing.infra.upbit.pipeline;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.coing.infra.upbit.enums.EnumUpbitRequestType;
+
+/**
+ * Hot standby 연결 사용 시 중복 수신 메시지 제거
+ * <p>
+ * 주 연결과 standby 연결이 같은 메시지를 동시에 수신하므로, 타입/마켓별 마지막 타임스탬프보다 이후인 메시지만 통과시킵니다.
+ * 두 수신 스레드가 경쟁하므로 CAS로 마지막 타임스탬프를 갱신합니다.
+ * 체결(trade)은 TradeService에서 체결 번호로 중복을 제거하므로 이 컴포넌트를 사용하지 않습니다.
+ */
+@Component
+public class UpbitStreamDeduplicator {
+	private final Map<EnumUpbitRequestType, Map<String, AtomicLong>> lastTimestamps =
+		new EnumMap<>(EnumUpbitRequestType.class);
+	private final LongAdder duplicateCount = new LongAdder();
+
+	@Value("${upbit.websocket.standby:false}")
+	private boolean enabled;
+
+	public UpbitStreamDeduplicator() {
+		for (EnumUpbitRequestType type : EnumUpbitRequestType.values()) {
+			lastTimestamps.put(type, new ConcurrentHashMap<>());
+		}
+	}
+
+	/**
+	 * 처음 수신한 메시지인지 확인
+	 *
+	 * @return standby가 비활성화되어 있거나 마지막으로 통과한 메시지보다 이후 타임스탬프이면 true
+	 */
+	public boolean isFresh(EnumUpbitRequestType type, String code, Long timestamp) {
+		if (!enabled || code == null || timestamp == null) {
+			return true;
+		}
+		Map<String, AtomicLong> byCode = lastTimestamps.get(type);
+		AtomicLong last = byCode.get(code);
+		if (last == null) {
+			last = byCode.computeIfAbsent(code, k -> new AtomicLong());
+		}
+		while (true) {
+			long current = last.get();
+			if (timestamp <= current) {
+				duplicateCount.increment();
+				return false;
+			}
+			if (last.compareAndSet(current, timestamp)) {
+				return true;
+			}
+		}
+	}
+
+	public long getDuplicateCount() {
+		return duplicateCount.sum();
+	}
+}
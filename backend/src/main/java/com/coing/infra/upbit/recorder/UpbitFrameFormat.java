@@ -0,0 +1,37 @@
+package com.coing.infra.upbit.recorder;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * 녹화 Segment 파일의 레코드 포맷
+ * <p>
+ * 레코드는 [payload 길이(int)][수신 시각(long, millisecond)][payload] 순서로 기록하며,
+ * 길이 필드를 release/acquire로 접근할 수 있도록 레코드 크기는 {@link #ALIGNMENT} 배수로 맞춥니다.
+ * 길이는 payload 기록이 끝난 뒤 마지막으로 기록하므로, 길이가 0이면 아직 기록되지 않은 영역(파일 끝)입니다.
+ * Segment에 남은 공간이 부족하면 길이 자리에 {@link #END_OF_SEGMENT}를 기록하고 다음 Segment로 넘어갑니다.
+ */
+final class UpbitFrameFormat {
+	static final int LENGTH_OFFSET = 0;
+	static final int TIMESTAMP_OFFSET = Integer.BYTES;
+	static final int HEADER_SIZE = Integer.BYTES + Long.BYTES;
+	static final int ALIGNMENT = Long.BYTES;
+	static final int END_OF_SEGMENT = -1;
+	static final String SEGMENT_SUFFIX = ".seg";
+
+	/**
+	 * 길이 필드 접근용 VarHandle. release/acquire로 기록하여 payload가 먼저 보이도록 보장합니다.
+	 */
+	static final VarHandle LENGTH = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+
+	private UpbitFrameFormat() {
+	}
+
+	/**
+	 * payload 길이에 해당하는 정렬된 레코드 크기
+	 */
+	static int recordSize(int length) {
+		return (HEADER_SIZE + length + ALIGNMENT - 1) & -ALIGNMENT;
+	}
+}
@@ -0,0 +1,120 @@
+package com.coing.infra.upbit.recorder;
+
+import static com.coing.infra.upbit.recorder.UpbitFrameFormat.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+
+/**
+ * {@link UpbitFrameRecorder}가 기록한 Segment 파일을 순서대로 읽는 Iterator
+ * <p>
+ * Segment를 읽기 전용으로 매핑하고 같은 {@link UpbitRecordedFrame} 인스턴스를 갱신하며 반환하므로 레코드마다 객체를 생성하지 않습니다.
+ * 벤치마크나 회귀 테스트에서 실제 시장 데이터를 재생할 때 사용합니다.
+ *
+ * <pre>{@code
+ * try (UpbitFrameReader reader = UpbitFrameReader.open(Path.of("./upbit-records"))) {
+ *     while (reader.hasNext()) {
+ *         UpbitRecordedFrame frame = reader.next();
+ *         codec.peekType(frame.getPayload());
+ *     }
+ * }
+ * }</pre>
+ */
+public class UpbitFrameReader implements Iterator<UpbitRecordedFrame>, AutoCloseable {
+	private final List<Path> segments;
+	private final UpbitRecordedFrame frame = new UpbitRecordedFrame();
+	private int segmentIndex = -1;
+	private MappedByteBuffer buffer;
+	private ByteBuffer payloadView;
+	private int position;
+	private int nextLength;
+
+	public UpbitFrameReader(List<Path> segments) {
+		this.segments = List.copyOf(segments);
+	}
+
+	/**
+	 * 디렉터리의 Segment 파일을 파일명 순서로 읽는 Reader 생성
+	 */
+	public static UpbitFrameReader open(Path directory) throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return new UpbitFrameReader(files
+				.filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+				.sorted()
+				.toList());
+		}
+	}
+
+	@Override
+	public boolean hasNext() {
+		while (true) {
+			if (buffer != null) {
+				nextLength = peekLength();
+				if (nextLength > 0) {
+					return true;
+				}
+			}
+			if (!openNextSegment()) {
+				return false;
+			}
+		}
+	}
+
+	@Override
+	public UpbitRecordedFrame next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		long receivedAt = buffer.getLong(position + TIMESTAMP_OFFSET);
+		int payloadStart = position + HEADER_SIZE;
+		payloadView.limit(payloadStart + nextLength).position(payloadStart);
+		frame.set(receivedAt, payloadView);
+		position += recordSize(nextLength);
+		return frame;
+	}
+
+	@Override
+	public void close() {
+		buffer = null;
+		payloadView = null;
+	}
+
+	/**
+	 * 현재 위치의 payload 길이. Segment 끝이거나 기록되지 않은 영역이면 0
+	 */
+	private int peekLength() {
+		if (position + HEADER_SIZE > buffer.capacity()) {
+			return 0;
+		}
+		int length = (int)LENGTH.getAcquire(buffer, position + LENGTH_OFFSET);
+		if (length == END_OF_SEGMENT || length <= 0 || position + HEADER_SIZE + length > buffer.capacity()) {
+			return 0;
+		}
+		return length;
+	}
+
+	private boolean openNextSegment() {
+		if (segmentIndex + 1 >= segments.size()) {
+			buffer = null;
+			return false;
+		}
+		segmentIndex++;
+		try (FileChannel channel = FileChannel.open(segments.get(segmentIndex))) {
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			payloadView = buffer.duplicate();
+			position = 0;
+			return true;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
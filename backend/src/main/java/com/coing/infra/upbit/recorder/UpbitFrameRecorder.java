@@ -0,0 +1,231 @@
+package com.coing.infra.upbit.recorder;
+
+import static com.coing.infra.upbit.recorder.UpbitFrameFormat.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Upbit WebSocket 원본 프레임 녹화기
+ * <p>
+ * 수신한 binary frame을 수신 시각과 함께 메모리 매핑된 Segment 파일에 길이 접두 레코드로 기록합니다.
+ * 여러 수신 스레드가 기록 위치를 CAS(getAndAdd)로 예약한 뒤 각자 매핑된 버퍼에 직접 쓰므로 lock이나 프레임별 객체 생성이 없습니다.
+ * 다음 Segment는 별도 스레드에서 미리 생성해 두며, 준비되지 않은 경우 수신 스레드를 막지 않고 해당 프레임을 버립니다.
+ * <p>
+ * 기록된 파일은 {@link UpbitFrameReader}로 읽을 수 있습니다.
+ */
+@Component
+@Slf4j
+public class UpbitFrameRecorder {
+	private final AtomicReference<Segment> standby = new AtomicReference<>();
+	private final AtomicInteger segmentIndex = new AtomicInteger();
+	private final LongAdder recordedCount = new LongAdder();
+	private final LongAdder recordedBytes = new LongAdder();
+	private final LongAdder droppedCount = new LongAdder();
+	private volatile Segment current;
+	private ExecutorService executor;
+	private long startedAt;
+
+	@Value("${upbit.recorder.enabled:false}")
+	private boolean enabled;
+	@Value("${upbit.recorder.directory:./upbit-records}")
+	private String directory;
+	@Value("${upbit.recorder.segment-size:268435456}")
+	private int segmentSize;
+
+	public UpbitFrameRecorder() {
+	}
+
+	public UpbitFrameRecorder(String directory, int segmentSize) {
+		this.enabled = true;
+		this.directory = directory;
+		this.segmentSize = segmentSize;
+	}
+
+	@PostConstruct
+	public void start() {
+		if (!enabled) {
+			return;
+		}
+		executor = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "upbit-recorder");
+			thread.setDaemon(true);
+			return thread;
+		});
+		startedAt = System.currentTimeMillis();
+		try {
+			Files.createDirectories(Path.of(directory));
+			current = createSegment();
+			log.info("[Recorder] Recording Upbit frames to {}", current.path);
+		} catch (IOException e) {
+			log.error("[Recorder] Failed to create segment: {}", e.getMessage(), e);
+			return;
+		}
+		prepareStandby();
+	}
+
+	@PreDestroy
+	public void stop() {
+		Segment last = current;
+		current = null;
+		if (executor != null) {
+			executor.shutdown();
+		}
+		if (last != null) {
+			last.buffer.force();
+		}
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * 프레임 기록
+	 * <p>
+	 * payload의 position/limit은 변경하지 않습니다.
+	 */
+	public void record(ByteBuffer payload) {
+		int length = payload.remaining();
+		if (length == 0) {
+			return;
+		}
+		int size = recordSize(length);
+		if (size > segmentSize) {
+			droppedCount.increment();
+			return;
+		}
+		long receivedAt = System.currentTimeMillis();
+
+		while (true) {
+			Segment segment = current;
+			if (segment == null) {
+				droppedCount.increment();
+				return;
+			}
+			int start = segment.position.getAndAdd(size);
+			if (start + size <= segment.capacity) {
+				MappedByteBuffer buffer = segment.buffer;
+				buffer.putLong(start + TIMESTAMP_OFFSET, receivedAt);
+				buffer.put(start + HEADER_SIZE, payload, payload.position(), length);
+				LENGTH.setRelease(buffer, start + LENGTH_OFFSET, length);
+				recordedCount.increment();
+				recordedBytes.add(size);
+				return;
+			}
+			if (start <= segment.capacity) {
+				// Segment 끝을 처음 넘긴 스레드만 종료 표시 후 교체
+				if (start + Integer.BYTES <= segment.capacity) {
+					LENGTH.setRelease(segment.buffer, start + LENGTH_OFFSET, END_OF_SEGMENT);
+				}
+				roll(segment);
+			} else {
+				while (current == segment) {
+					Thread.onSpinWait();
+				}
+			}
+		}
+	}
+
+	@Scheduled(fixedRate = 60000)
+	public void logMetrics() {
+		if (!enabled) {
+			return;
+		}
+		log.info("[Recorder] recorded: {}, bytes: {}, dropped: {}",
+			getRecordedCount(), getRecordedBytes(), getDroppedCount());
+	}
+
+	public long getRecordedCount() {
+		return recordedCount.sum();
+	}
+
+	public long getRecordedBytes() {
+		return recordedBytes.sum();
+	}
+
+	public long getDroppedCount() {
+		return droppedCount.sum();
+	}
+
+	/**
+	 * 미리 생성해 둔 Segment로 교체하고, 이전 Segment의 flush와 다음 Segment 준비는 녹화 스레드에서 처리
+	 */
+	private void roll(Segment full) {
+		Segment next = standby.getAndSet(null);
+		current = next;
+		if (next == null) {
+			log.warn("[Recorder] Next segment is not ready. Dropping frames until it is prepared");
+		}
+		submit(full.buffer::force);
+		prepareStandby();
+	}
+
+	private void prepareStandby() {
+		submit(() -> {
+			if (current != null && standby.get() != null) {
+				return;
+			}
+			try {
+				Segment segment = createSegment();
+				if (current == null) {
+					current = segment;
+					prepareStandby();
+				} else {
+					standby.set(segment);
+				}
+			} catch (IOException e) {
+				log.error("[Recorder] Failed to create segment: {}", e.getMessage(), e);
+			}
+		});
+	}
+
+	private void submit(Runnable task) {
+		try {
+			executor.execute(task);
+		} catch (RejectedExecutionException e) {
+			// 종료 중에는 Segment를 더 만들지 않음
+		}
+	}
+
+	private Segment createSegment() throws IOException {
+		Path path = Path.of(directory).resolve(
+			String.format("upbit-%d-%06d%s", startedAt, segmentIndex.getAndIncrement(), SEGMENT_SUFFIX));
+		try (FileChannel channel = FileChannel.open(path,
+			StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			return new Segment(path, channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize), segmentSize);
+		}
+	}
+
+	private static final class Segment {
+		private final Path path;
+		private final MappedByteBuffer buffer;
+		private final int capacity;
+		private final AtomicInteger position = new AtomicInteger();
+
+		private Segment(Path path, MappedByteBuffer buffer, int capacity) {
+			this.path = path;
+			this.buffer = buffer;
+			this.capacity = capacity;
+		}
+	}
+}
@@ -0,0 +1,33 @@
+package com.coing.infra.upbit.recorder;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 녹화된 프레임 하나에 대한 재사용 객체(flyweight)
+ * <p>
+ * {@link UpbitFrameReader}가 다음 레코드로 이동할 때마다 같은 인스턴스의 값을 갱신하므로,
+ * 다음 레코드로 이동한 뒤에도 값이 필요하면 복사해서 사용해야 합니다.
+ */
+public class UpbitRecordedFrame {
+	private long receivedAt;
+	private ByteBuffer payload;
+
+	void set(long receivedAt, ByteBuffer payload) {
+		this.receivedAt = receivedAt;
+		this.payload = payload;
+	}
+
+	/**
+	 * 수신 시각(millisecond)
+	 */
+	public long getReceivedAt() {
+		return receivedAt;
+	}
+
+	/**
+	 * 프레임 payload. position부터 limit까지가 원본 프레임이며, 읽기 전용입니다.
+	 */
+	public ByteBuffer getPayload() {
+		return payload;
+	}
+}
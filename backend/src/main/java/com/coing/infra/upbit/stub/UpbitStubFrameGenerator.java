@@ -0,0 +1,150 @@
+package com.coing.infra.upbit.stub;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.coing.infra.upbit.enums.EnumUpbitRequestType;
+
+/**
+ * Upbit SIMPLE 포맷의 가짜 ticker/trade/orderbook 프레임 생성기
+ * <p>
+ * 구독한 (타입, 마켓) 조합을 순서대로 돌며 프레임을 생성합니다.
+ * 하나의 스트림 스레드에서만 사용하므로 StringBuilder와 마켓별 가격 상태를 재사용합니다.
+ */
+public class UpbitStubFrameGenerator {
+	private static final int ORDERBOOK_UNITS = 15;
+	private static final long DECIMAL_SCALE = 10_000;
+
+	private final List<EnumUpbitRequestType> types;
+	private final List<String> codes;
+	private final double[] openPrices;
+	private final double[] prices;
+	private final StringBuilder builder = new StringBuilder(2048);
+	private long sequentialId = System.currentTimeMillis() * 1000;
+	private int cursor;
+
+	public UpbitStubFrameGenerator(List<EnumUpbitRequestType> types, List<String> codes) {
+		this.types = List.copyOf(types);
+		this.codes = List.copyOf(codes);
+		this.openPrices = new double[codes.size()];
+		this.prices = new double[codes.size()];
+		for (int i = 0; i < prices.length; i++) {
+			openPrices[i] = 1000.0 * (i + 1);
+			prices[i] = openPrices[i];
+		}
+	}
+
+	public boolean isEmpty() {
+		return types.isEmpty() || codes.isEmpty();
+	}
+
+	/**
+	 * 다음 (타입, 마켓) 조합의 프레임 생성
+	 */
+	public byte[] next() {
+		int combination = cursor;
+		cursor = (cursor + 1) % (types.size() * codes.size());
+		EnumUpbitRequestType type = types.get(combination % types.size());
+		int codeIndex = combination / types.size();
+		String code = codes.get(codeIndex);
+
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		double price = prices[codeIndex] * (1 + (random.nextDouble() - 0.5) * 0.002);
+		prices[codeIndex] = price;
+		long now = System.currentTimeMillis();
+
+		builder.setLength(0);
+		switch (type) {
+			case TICKER -> appendTicker(code, openPrices[codeIndex], price, now, random);
+			case TRADE -> appendTrade(code, price, now, random);
+			case ORDERBOOK -> appendOrderbook(code, price, now, random);
+			default -> builder.append("{\"status\":\"UP\"}");
+		}
+		return builder.toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	private void appendTicker(String code, double open, double price, long now, ThreadLocalRandom random) {
+		builder.append("{\"ty\":\"ticker\",\"cd\":\"").append(code).append('"');
+		appendDecimal("op", open);
+		appendDecimal("hp", price * 1.01);
+		appendDecimal("lp", open * 0.99);
+		appendDecimal("tp", price);
+		appendDecimal("pcp", open);
+		builder.append(",\"c\":\"").append(price >= open ? "RISE" : "FALL").append('"');
+		appendDecimal("cp", Math.abs(price - open));
+		appendDecimal("scp", price - open);
+		appendDecimal("cr", Math.abs(price - open) / open);
+		appendDecimal("scr", (price - open) / open);
+		appendDecimal("tv", random.nextDouble());
+		appendDecimal("atv", random.nextDouble() * 1000);
+		appendDecimal("atv24h", random.nextDouble() * 2000);
+		appendDecimal("atp", random.nextDouble() * 1_000_000);
+		appendDecimal("atp24h", random.nextDouble() * 2_000_000);
+		builder.append(",\"ttms\":").append(now);
+		builder.append(",\"ab\":\"").append(random.nextBoolean() ? "ASK" : "BID").append('"');
+		appendDecimal("aav", random.nextDouble() * 500);
+		appendDecimal("abv", random.nextDouble() * 500);
+		appendDecimal("h52wp", price * 2);
+		appendDecimal("l52wp", price / 2);
+		builder.append(",\"ms\":\"ACTIVE\",\"mw\":\"NONE\",\"tms\":").append(now)
+			.append(",\"st\":\"REALTIME\"}");
+	}
+
+	private void appendTrade(String code, double price, long now, ThreadLocalRandom random) {
+		builder.append("{\"ty\":\"trade\",\"cd\":\"").append(code).append('"');
+		appendDecimal("tp", price);
+		appendDecimal("tv", random.nextDouble());
+		builder.append(",\"ab\":\"").append(random.nextBoolean() ? "ASK" : "BID").append('"');
+		appendDecimal("pcp", price);
+		builder.append(",\"c\":\"EVEN\",\"cp\":0.0")
+			.append(",\"ttms\":").append(now)
+			.append(",\"tms\":").append(now)
+			.append(",\"sid\":").append(sequentialId++);
+		appendDecimal("bap", price * 1.001);
+		appendDecimal("bas", random.nextDouble());
+		appendDecimal("bbp", price * 0.999);
+		appendDecimal("bbs", random.nextDouble());
+		builder.append(",\"st\":\"REALTIME\"}");
+	}
+
+	private void appendOrderbook(String code, double price, long now, ThreadLocalRandom random) {
+		builder.append("{\"ty\":\"orderbook\",\"cd\":\"").append(code)
+			.append("\",\"tms\":").append(now);
+		appendDecimal("tas", random.nextDouble() * 100);
+		appendDecimal("tbs", random.nextDouble() * 100);
+		builder.append(",\"obu\":[");
+		for (int i = 0; i < ORDERBOOK_UNITS; i++) {
+			builder.append(i > 0 ? ",{" : "{");
+			builder.append("\"ap\":");
+			appendDecimal(price * (1 + 0.001 * (i + 1)));
+			appendDecimal("bp", price * (1 - 0.001 * (i + 1)));
+			appendDecimal("as", random.nextDouble() * 10);
+			appendDecimal("bs", random.nextDouble() * 10);
+			builder.append('}');
+		}
+		builder.append("],\"st\":\"REALTIME\",\"lv\":0}");
+	}
+
+	private void appendDecimal(String key, double value) {
+		builder.append(",\"").append(key).append("\":");
+		appendDecimal(value);
+	}
+
+	/**
+	 * 소수점 4자리 고정 소수 표기 (Double.toString보다 빠르며 부하 테스트 중 생성 비용을 줄임)
+	 */
+	private void appendDecimal(double value) {
+		long scaled = Math.round(value * DECIMAL_SCALE);
+		if (scaled < 0) {
+			builder.append('-');
+			scaled = -scaled;
+		}
+		builder.append(scaled / DECIMAL_SCALE).append('.');
+		long fraction = scaled % DECIMAL_SCALE;
+		for (long digit = DECIMAL_SCALE / 10; digit > fraction && digit > 1; digit /= 10) {
+			builder.append('0');
+		}
+		builder.append(fraction);
+	}
+}
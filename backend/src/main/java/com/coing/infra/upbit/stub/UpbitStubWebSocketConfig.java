@@ -0,0 +1,30 @@
+package com.coing.infra.upbit.stub;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * `upbit-stub` 프로필에서 가짜 Upbit WebSocket 서버 endpoint 등록
+ */
+@Configuration
+@EnableWebSocket
+@Profile("upbit-stub")
+@RequiredArgsConstructor
+public class UpbitStubWebSocketConfig implements WebSocketConfigurer {
+	private final UpbitStubWebSocketHandler upbitStubWebSocketHandler;
+
+	@Value("${upbit.stub.path:/upbit-stub/websocket/v1}")
+	private String path;
+
+	@Override
+	public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+		registry.addHandler(upbitStubWebSocketHandler, path)
+			.setAllowedOrigins("*");
+	}
+}
@@ -0,0 +1,291 @@
+package com.coing.infra.upbit.stub;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import com.coing.infra.upbit.codec.UpbitMessageCodec;
+import com.coing.infra.upbit.enums.EnumUpbitRequestType;
+import com.coing.infra.upbit.recorder.UpbitFrameReader;
+import com.coing.infra.upbit.recorder.UpbitRecordedFrame;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로컬 부하/장시간 테스트용 가짜 Upbit WebSocket 서버 Handler
+ * <p>
+ * Upbit와 같은 [ticket, type..., format] 구독 메시지를 받아, 구독한 타입/마켓의 SIMPLE 포맷 프레임을 binary로 전송합니다.
+ * 세션마다 전용 스레드가 `upbit.stub.messages-per-second` 속도에 맞춰 프레임을 보내며,
+ * `upbit.stub.replay-directory`를 지정하면 {@link com.coing.infra.upbit.recorder.UpbitFrameRecorder}로 녹화한 프레임 중
+ * 구독한 타입/마켓의 프레임만 반복 재생합니다.
+ * <p>
+ * 같은 세션에서 구독 메시지를 다시 받으면 이전 전송 스레드가 끝난 뒤 새 스레드를 시작하여, 한 세션에 동시에 전송하지 않습니다.
+ * <p>
+ * 재연결 동작 확인을 위해 주기적 연결 종료(`upbit.stub.disconnect-interval-seconds`),
+ * 즉시 연결 종료({@link #disconnectAll()}), 전송 중단({@link #setPaused(boolean)})을 지원합니다.
+ */
+@Component
+@Profile("upbit-stub")
+@RequiredArgsConstructor
+@Slf4j
+public class UpbitStubWebSocketHandler extends TextWebSocketHandler {
+	private static final byte[] KEEPALIVE = "{\"status\":\"UP\"}".getBytes(StandardCharsets.UTF_8);
+	private static final long KEEPALIVE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+	private static final int MAX_BATCH = 1000;
+
+	private final ObjectMapper objectMapper;
+	private final UpbitMessageCodec upbitMessageCodec;
+	private final Map<String, StubStream> streams = new ConcurrentHashMap<>();
+	private final LongAdder sentCount = new LongAdder();
+	private volatile boolean paused;
+	private List<byte[]> replayFrames = List.of();
+	private List<EnumUpbitRequestType> replayTypes = List.of();
+	private List<String> replayCodes = List.of();
+
+	@Value("${upbit.stub.messages-per-second:1000}")
+	private int messagesPerSecond;
+	@Value("${upbit.stub.disconnect-interval-seconds:0}")
+	private int disconnectIntervalSeconds;
+	@Value("${upbit.stub.replay-directory:}")
+	private String replayDirectory;
+	@Value("${upbit.stub.replay-limit:1000000}")
+	private int replayLimit;
+
+	/**
+	 * 녹화 파일 재생 모드인 경우 프레임을 메모리에 적재
+	 */
+	@PostConstruct
+	public void loadReplayFrames() throws IOException {
+		if (!StringUtils.hasText(replayDirectory)) {
+			return;
+		}
+		List<byte[]> frames = new ArrayList<>();
+		List<EnumUpbitRequestType> types = new ArrayList<>();
+		List<String> codes = new ArrayList<>();
+		try (UpbitFrameReader reader = UpbitFrameReader.open(Path.of(replayDirectory))) {
+			while (reader.hasNext() && frames.size() < replayLimit) {
+				UpbitRecordedFrame frame = reader.next();
+				EnumUpbitRequestType type = upbitMessageCodec.peekType(frame.getPayload());
+				if (type == null) {
+					continue;
+				}
+				byte[] bytes = new byte[frame.getPayload().remaining()];
+				frame.getPayload().get(bytes);
+				String code = objectMapper.readTree(bytes).path("cd").asText(null);
+				if (code == null) {
+					continue;
+				}
+				frames.add(bytes);
+				types.add(type);
+				codes.add(code);
+			}
+		}
+		replayFrames = frames;
+		replayTypes = types;
+		replayCodes = codes;
+		log.info("[UpbitStub] Loaded {} recorded frames from {}", frames.size(), replayDirectory);
+	}
+
+	@Override
+	protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
+		Set<EnumUpbitRequestType> types = new LinkedHashSet<>();
+		Set<String> codes = new LinkedHashSet<>();
+		for (JsonNode field : objectMapper.readTree(message.getPayload())) {
+			EnumUpbitRequestType type = toRequestType(field.path("type").asText(null));
+			if (type == null) {
+				continue;
+			}
+			types.add(type);
+			field.path("codes").forEach(code -> codes.add(code.asText()));
+		}
+
+		StubStream previous = streams.remove(session.getId());
+		if (previous != null) {
+			previous.stop();
+			previous.join();
+		}
+		StubStream stream = new StubStream(session, List.copyOf(types), List.copyOf(codes));
+		streams.put(session.getId(), stream);
+		stream.start();
+		log.info("[UpbitStub] Session {} subscribed. types: {}, markets: {}", session.getId(), types, codes.size());
+	}
+
+	@Override
+	public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+		StubStream stream = streams.remove(session.getId());
+		if (stream != null) {
+			stream.stop();
+		}
+	}
+
+	/**
+	 * 모든 세션을 즉시 종료하여 재연결 동작 확인
+	 */
+	public void disconnectAll() {
+		for (StubStream stream : streams.values()) {
+			stream.close();
+		}
+	}
+
+	/**
+	 * true이면 keepalive를 포함한 모든 전송을 중단하여 응답 없는 연결을 재현
+	 */
+	public void setPaused(boolean paused) {
+		this.paused = paused;
+	}
+
+	public int getSessionCount() {
+		return streams.size();
+	}
+
+	public long getSentCount() {
+		return sentCount.sum();
+	}
+
+	private static EnumUpbitRequestType toRequestType(String value) {
+		for (EnumUpbitRequestType type : EnumUpbitRequestType.values()) {
+			if (type.getValue().equals(value)) {
+				return type;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * 세션 하나에 대한 전송 스레드
+	 */
+	private class StubStream implements Runnable {
+		private final WebSocketSession session;
+		private final List<EnumUpbitRequestType> types;
+		private final Set<String> codes;
+		private final UpbitStubFrameGenerator generator;
+		private final Thread thread;
+		private volatile boolean running = true;
+		private int replayCursor;
+
+		private StubStream(WebSocketSession session, List<EnumUpbitRequestType> types, List<String> codes) {
+			this.session = session;
+			this.types = types;
+			this.codes = Set.copyOf(codes);
+			this.generator = new UpbitStubFrameGenerator(types, codes);
+			this.thread = new Thread(this, "upbit-stub-" + session.getId());
+			this.thread.setDaemon(true);
+		}
+
+		private void start() {
+			thread.start();
+		}
+
+		private void stop() {
+			running = false;
+			LockSupport.unpark(thread);
+		}
+
+		/**
+		 * 전송 스레드 종료 대기
+		 */
+		private void join() throws InterruptedException {
+			if (Thread.currentThread() != thread) {
+				thread.join();
+			}
+		}
+
+		private void close() {
+			stop();
+			try {
+				session.close(CloseStatus.SERVICE_RESTARTED);
+			} catch (IOException e) {
+				log.warn("[UpbitStub] Failed to close session {}: {}", session.getId(), e.getMessage());
+			}
+		}
+
+		@Override
+		public void run() {
+			long start = System.nanoTime();
+			long sent = 0;
+			long nextKeepalive = start + KEEPALIVE_INTERVAL_NANOS;
+			long disconnectAt = disconnectIntervalSeconds > 0
+				? start + TimeUnit.SECONDS.toNanos(disconnectIntervalSeconds) : Long.MAX_VALUE;
+
+			try {
+				while (running && session.isOpen()) {
+					long now = System.nanoTime();
+					if (now >= disconnectAt) {
+						log.info("[UpbitStub] Injecting disconnect for session {}", session.getId());
+						close();
+						return;
+					}
+					if (paused) {
+						// 재개 시 밀린 프레임을 한 번에 보내지 않도록 기준 시각 초기화
+						start = now;
+						sent = 0;
+						nextKeepalive = now + KEEPALIVE_INTERVAL_NANOS;
+						LockSupport.parkNanos(1_000_000);
+						continue;
+					}
+					if (now >= nextKeepalive) {
+						session.sendMessage(new BinaryMessage(KEEPALIVE));
+						nextKeepalive = now + KEEPALIVE_INTERVAL_NANOS;
+					}
+
+					long due = (long)((now - start) / 1e9 * messagesPerSecond) - sent;
+					if (due <= 0) {
+						LockSupport.parkNanos(100_000);
+						continue;
+					}
+					int batch = (int)Math.min(due, MAX_BATCH);
+					for (int i = 0; i < batch; i++) {
+						byte[] frame = nextFrame();
+						if (frame == null) {
+							running = false;
+							break;
+						}
+						session.sendMessage(new BinaryMessage(frame));
+					}
+					sent += batch;
+					sentCount.add(batch);
+				}
+			} catch (IOException | IllegalStateException e) {
+				log.info("[UpbitStub] Session {} stream stopped: {}", session.getId(), e.getMessage());
+			}
+		}
+
+		private byte[] nextFrame() {
+			if (replayFrames.isEmpty()) {
+				return generator.isEmpty() ? null : generator.next();
+			}
+			for (int i = 0; i < replayFrames.size(); i++) {
+				int index = replayCursor;
+				replayCursor = (replayCursor + 1) % replayFrames.size();
+				if (types.contains(replayTypes.get(index)) && codes.contains(replayCodes.get(index))) {
+					return replayFrames.get(index);
+				}
+			}
+			return null;
+		}
+	}
+}
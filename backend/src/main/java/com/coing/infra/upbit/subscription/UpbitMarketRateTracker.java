@@ -0,0 +1,60 @@
+package com.coing.infra.upbit.subscription;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.coing.infra.upbit.enums.EnumUpbitRequestType;
+
+/**
+ * 타입/마켓별 수신 메시지 수 집계
+ * <p>
+ * 구독 Shard 재분배 시 마켓별 가중치로 사용합니다.
+ * 수신 스레드에서 호출되므로 마켓별 LongAdder로 경합 없이 누적합니다.
+ * 재분배는 sharded 모드(`upbit.websocket.shards` 2 이상, multiplexed 아님)에서만 하므로 그 외에는 집계하지 않습니다.
+ */
+@Component
+public class UpbitMarketRateTracker {
+	private final Map<EnumUpbitRequestType, Map<String, LongAdder>> counters =
+		new EnumMap<>(EnumUpbitRequestType.class);
+	@Value("${upbit.websocket.multiplexed:false}")
+	private boolean multiplexed;
+	@Value("${upbit.websocket.shards:1}")
+	private int connectionShards;
+
+	public UpbitMarketRateTracker() {
+		for (EnumUpbitRequestType type : EnumUpbitRequestType.values()) {
+			counters.put(type, new ConcurrentHashMap<>());
+		}
+	}
+
+	public void record(EnumUpbitRequestType type, String code) {
+		if (!isEnabled() || code == null) {
+			return;
+		}
+		Map<String, LongAdder> byCode = counters.get(type);
+		LongAdder counter = byCode.get(code);
+		if (counter == null) {
+			counter = byCode.computeIfAbsent(code, k -> new LongAdder());
+		}
+		counter.increment();
+	}
+
+	public boolean isEnabled() {
+		return !multiplexed && connectionShards > 1;
+	}
+
+	/**
+	 * 마지막 호출 이후 누적된 마켓별 메시지 수를 반환하고 초기화
+	 */
+	public Map<String, Long> drainCounts(EnumUpbitRequestType type) {
+		Map<String, Long> result = new HashMap<>();
+		counters.get(type).forEach((code, counter) -> result.put(code, counter.sumThenReset()));
+		return result;
+	}
+}
@@ -0,0 +1,112 @@
+package com.coing.infra.upbit.subscription;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 마켓 코드를 여러 연결(Shard)로 분배하는 유틸
+ * <p>
+ * 관측된 메시지 수가 많은 마켓부터 현재 부하가 가장 작은 Shard에 배정합니다 (Greedy LPT).
+ * 관측값이 없는 마켓도 최소 가중치 1을 가지므로 초기에는 마켓 수 기준으로 균등하게 분배됩니다.
+ */
+public final class UpbitSubscriptionPlanner {
+
+	private UpbitSubscriptionPlanner() {
+	}
+
+	public static List<List<String>> partition(Collection<String> codes, Map<String, Long> weights, int shardCount) {
+		int count = Math.max(1, shardCount);
+		List<List<String>> shards = new ArrayList<>(count);
+		long[] loads = new long[count];
+		for (int i = 0; i < count; i++) {
+			shards.add(new ArrayList<>());
+		}
+
+		List<String> sorted = new ArrayList<>(codes);
+		sorted.sort(Comparator.<String>comparingLong(code -> weightOf(weights, code)).reversed()
+			.thenComparing(Comparator.naturalOrder()));
+
+		for (String code : sorted) {
+			int target = 0;
+			for (int i = 1; i < count; i++) {
+				if (loads[i] < loads[target]) {
+					target = i;
+				}
+			}
+			shards.get(target).add(code);
+			loads[target] += weightOf(weights, code);
+		}
+		return shards;
+	}
+
+	/**
+	 * 기존 분배를 유지하면서 마켓 목록 변경분만 반영
+	 * <p>
+	 * 제외된 마켓은 해당 Shard에서 빼고, 추가된 마켓은 배정된 마켓 수가 가장 적은 Shard에 배정합니다.
+	 * 변경 여부는 {@link #sameMarkets(Collection, Collection)}로 판별합니다.
+	 */
+	public static List<List<String>> applyChanges(List<List<String>> current, Collection<String> added,
+		Collection<String> removed) {
+		List<List<String>> next = new ArrayList<>(current.size());
+		for (List<String> shard : current) {
+			List<String> copy = new ArrayList<>(shard);
+			copy.removeAll(removed);
+			next.add(copy);
+		}
+		if (next.isEmpty()) {
+			return next;
+		}
+		for (String code : added) {
+			if (next.stream().anyMatch(shard -> shard.contains(code))) {
+				continue;
+			}
+			List<String> target = next.get(0);
+			for (List<String> shard : next) {
+				if (shard.size() < target.size()) {
+					target = shard;
+				}
+			}
+			target.add(code);
+		}
+		return next;
+	}
+
+	/**
+	 * 두 Shard에 배정된 마켓 구성이 같은지 확인
+	 * <p>
+	 * partition은 가중치 순으로 배정하므로 같은 마켓 구성이어도 순서가 달라질 수 있어, 순서와 관계없이 비교합니다.
+	 */
+	public static boolean sameMarkets(Collection<String> a, Collection<String> b) {
+		return a.size() == b.size() && new HashSet<>(a).equals(new HashSet<>(b));
+	}
+
+	/**
+	 * 현재 분배의 불균형 정도 (최대 부하 / 평균 부하)
+	 *
+	 * @return 1.0이면 완전히 균등, 값이 클수록 특정 Shard에 부하가 몰림
+	 */
+	public static double imbalance(List<List<String>> shards, Map<String, Long> weights) {
+		if (shards.isEmpty()) {
+			return 1.0;
+		}
+		long max = 0;
+		long total = 0;
+		for (List<String> shard : shards) {
+			long load = 0;
+			for (String code : shard) {
+				load += weightOf(weights, code);
+			}
+			max = Math.max(max, load);
+			total += load;
+		}
+		return total == 0 ? 1.0 : (double)max * shards.size() / total;
+	}
+
+	private static long weightOf(Map<String, Long> weights, String code) {
+		return Math.max(1L, weights.getOrDefault(code, 0L));
+	}
+}
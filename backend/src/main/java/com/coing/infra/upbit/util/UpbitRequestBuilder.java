@@ -1,11 +1,14 @@
 package com.coing.infra.upbit.util;
 
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Component;
 
 import com.coing.domain.coin.market.service.MarketCacheService;
+import com.coing.domain.coin.orderbook.service.OrderbookService;
 import com.coing.infra.upbit.dto.UpbitWebSocketFormatDto;
 import com.coing.infra.upbit.dto.UpbitWebSocketTicketDto;
 import com.coing.infra.upbit.dto.UpbitWebSocketTypeDto;
@@ -21,23 +24,64 @@ import lombok.RequiredArgsConstructor;
 public class UpbitRequestBuilder {
 	private final ObjectMapper objectMapper = new ObjectMapper();
 	private final MarketCacheService marketCacheService;
+	private final OrderbookService orderbookService;
 
 	public String makeRequest(EnumUpbitRequestType type) throws JsonProcessingException {
-		List<String> codes = marketCacheService.getCachedMarketMap().keySet().stream().toList();
+		return makeRequest(List.of(type));
+	}
+
+	/**
+	 * 여러 타입을 하나의 구독 메시지로 요청
+	 * <p>
+	 * [ticket, type..., format] 형태로 하나의 요청에 여러 `{type field}`를 명시합니다.
+	 */
+	public String makeRequest(List<EnumUpbitRequestType> types) throws JsonProcessingException {
+		return makeRequest(types, getMarketCodes());
+	}
+
+	/**
+	 * 지정한 마켓 코드만 구독하는 요청
+	 * <p>
+	 * 구독 Shard별로 일부 마켓만 요청할 때 사용합니다.
+	 * ORDERBOOK은 수요 기반 구독이 활성화된 경우 호가를 보고 있는 마켓만 요청합니다.
+	 */
+	public String makeRequest(List<EnumUpbitRequestType> types, List<String> codes) throws JsonProcessingException {
 		UpbitWebSocketTicketDto ticketDto = UpbitWebSocketTicketDto.builder()
-			.ticket(type.getValue())
-			.build();
-		UpbitWebSocketTypeDto typeDto = UpbitWebSocketTypeDto.builder()
-			.type(type.getValue())
-			.codes(codes)
-			.isOnlyRealtime(false)
-			.isOnlySnapshot(false)
+			.ticket(types.stream().map(EnumUpbitRequestType::getValue).collect(Collectors.joining("-")))
 			.build();
 		UpbitWebSocketFormatDto formatDto = UpbitWebSocketFormatDto.builder()
 			.format(EnumUpbitWebSocketFormat.SIMPLE)
 			.build();
 
-		List<Object> dataList = Arrays.asList(ticketDto, typeDto, formatDto);
+		List<Object> dataList = new ArrayList<>();
+		dataList.add(ticketDto);
+		for (EnumUpbitRequestType type : types) {
+			dataList.add(UpbitWebSocketTypeDto.builder()
+				.type(type.getValue())
+				.codes(codesFor(type, codes))
+				.isOnlyRealtime(false)
+				.isOnlySnapshot(false)
+				.build());
+		}
+		dataList.add(formatDto);
 		return objectMapper.writeValueAsString(dataList);
 	}
+
+	public List<String> getMarketCodes() {
+		return marketCacheService.getCachedMarketMap().keySet().stream().toList();
+	}
+
+	/**
+	 * 타입별 실제 구독 마켓 코드
+	 * <p>
+	 * Upbit는 codes가 비어 있는 요청을 허용하지 않으므로, 수신할 호가 마켓이 없으면 첫 번째 마켓 하나만 구독하여 연결을 유지합니다.
+	 */
+	private List<String> codesFor(EnumUpbitRequestType type, List<String> codes) {
+		if (type != EnumUpbitRequestType.ORDERBOOK || !orderbookService.isDemandDriven()) {
+			return codes;
+		}
+		Set<String> active = orderbookService.getActiveMarkets();
+		List<String> filtered = codes.stream().filter(active::contains).toList();
+		return (filtered.isEmpty() && !codes.isEmpty()) ? List.of(codes.get(0)) : filtered;
+	}
 }
@@ -0,0 +1,54 @@
+package com.coing.domain.coin.common.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+
+public class CoalescingPublisherTest {
+
+	private SimpMessageSendingOperations messagingTemplate;
+	private CoalescingPublisher publisher;
+
+	@BeforeEach
+	public void setUp() {
+		messagingTemplate = mock(SimpMessageSendingOperations.class);
+		publisher = new CoalescingPublisher(messagingTemplate, 200,
+			Map.of("/sub/coin/orderbook/", 100L, "/sub/coin/orderbook/KRW-BTC", 50L), 5);
+		publisher.start();
+	}
+
+	@AfterEach
+	public void tearDown() {
+		publisher.stop();
+	}
+
+	@Test
+	@DisplayName("간격 안에 들어온 값은 최신 값만 간격이 끝날 때 전송")
+	public void publishLatestOnTrailingEdge() {
+		// when: 첫 값은 즉시 전송, 이후 값은 간격 안에서 합쳐짐
+		publisher.publish("/sub/coin/orderbook/KRW-ETH", "v1");
+		publisher.publish("/sub/coin/orderbook/KRW-ETH", "v2");
+		publisher.publish("/sub/coin/orderbook/KRW-ETH", "v3");
+
+		// then
+		verify(messagingTemplate, times(1)).convertAndSend("/sub/coin/orderbook/KRW-ETH", (Object)"v1");
+		verify(messagingTemplate, timeout(1000).times(1)).convertAndSend("/sub/coin/orderbook/KRW-ETH", (Object)"v3");
+		verify(messagingTemplate, never()).convertAndSend("/sub/coin/orderbook/KRW-ETH", (Object)"v2");
+		assertEquals(1, publisher.getCoalescedCount());
+	}
+
+	@Test
+	@DisplayName("destination prefix별 전송 간격 적용 (가장 긴 prefix 우선)")
+	public void intervalByPrefix() {
+		assertEquals(50, publisher.getIntervalMs("/sub/coin/orderbook/KRW-BTC"));
+		assertEquals(100, publisher.getIntervalMs("/sub/coin/orderbook/KRW-ETH"));
+		assertEquals(200, publisher.getIntervalMs("/sub/coin/ticker/KRW-BTC"));
+	}
+}
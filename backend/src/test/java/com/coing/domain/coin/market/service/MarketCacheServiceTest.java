@@ -0,0 +1,75 @@
+package com.coing.domain.coin.market.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import com.coing.domain.coin.market.entity.Market;
+import com.coing.domain.coin.market.repository.MarketRepository;
+import com.coing.global.config.CacheConfig;
+
+@SpringJUnitConfig({CacheConfig.class, MarketCacheService.class})
+class MarketCacheServiceTest {
+
+	@Autowired
+	private MarketCacheService marketCacheService;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	@MockitoBean
+	private MarketRepository marketRepository;
+
+	@BeforeEach
+	void setUp() {
+		cacheManager.getCache("markets").clear();
+	}
+
+	@Test
+	@DisplayName("캐시 갱신 - 갱신한 마켓 목록이 이후 조회에 그대로 반영")
+	void updateMarketCache_RefreshesCachedMap() {
+		// given: 조회로 DB 목록이 먼저 캐시된 상태
+		when(marketRepository.findAll()).thenReturn(List.of(market("KRW-BTC")));
+		assertThat(marketCacheService.getCachedMarketMap()).containsOnlyKeys("KRW-BTC");
+
+		// when
+		marketCacheService.updateMarketCache(List.of(market("KRW-BTC"), market("KRW-ETH")));
+
+		// then: DB를 다시 읽지 않고 갱신된 목록을 반환
+		Map<String, Market> cached = marketCacheService.getCachedMarketMap();
+		assertThat(cached).containsOnlyKeys("KRW-BTC", "KRW-ETH");
+		verify(marketRepository, times(1)).findAll();
+	}
+
+	@Test
+	@DisplayName("캐시 조회 - 갱신 이전 첫 조회만 DB에서 읽고 이후는 캐시 사용")
+	void getCachedMarketMap_LoadsOnce() {
+		// given
+		when(marketRepository.findAll()).thenReturn(List.of(market("KRW-BTC")));
+
+		// when
+		marketCacheService.getCachedMarketMap();
+		marketCacheService.getCachedMarketMap();
+
+		// then
+		verify(marketRepository, times(1)).findAll();
+	}
+
+	private Market market(String code) {
+		return Market.builder()
+			.code(code)
+			.koreanName(code)
+			.englishName(code)
+			.build();
+	}
+}
@@ -16,6 +16,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -25,6 +26,7 @@ import org.springframework.web.client.RestTemplate;
 import com.coing.domain.coin.market.dto.MarketDto;
 import com.coing.domain.coin.market.dto.MarketResponseDto;
 import com.coing.domain.coin.market.entity.Market;
+import com.coing.domain.coin.market.event.MarketListChangedEvent;
 import com.coing.domain.coin.market.repository.MarketRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,6 +41,9 @@ public class MarketServiceTest {
 	@Mock
 	private MarketCacheService marketCacheService;
 
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
 	@InjectMocks
 	private MarketService marketService;
 
@@ -70,6 +75,45 @@ public class MarketServiceTest {
 		verify(marketRepository, times(1)).saveAll(anyList());
 	}
 
+	@Test
+	@DisplayName("t1: 코인 목록 자동 갱신 - 마켓 목록이 바뀌면 변경 이벤트 발행")
+	void testUpdateMarketList_PublishChangedEvent() {
+		// Given: 기존 캐시에는 KRW-BTC, KRW-XRP
+		Map<String, Market> cached = Map.of(
+			"KRW-BTC", new Market("KRW-BTC", "비트코인", "BTC"),
+			"KRW-XRP", new Market("KRW-XRP", "리플", "XRP")
+		);
+		when(marketCacheService.getCachedMarketMap()).thenReturn(cached);
+		when(restTemplate.getForEntity(UPBIT_MARKET_URI, MarketDto[].class))
+			.thenReturn(ResponseEntity.ok(mockMarketDtos));
+
+		// When
+		marketService.updateMarketList();
+
+		// Then
+		verify(eventPublisher, times(1))
+			.publishEvent(new MarketListChangedEvent(List.of("KRW-ETH"), List.of("KRW-XRP")));
+	}
+
+	@Test
+	@DisplayName("t1: 코인 목록 자동 갱신 - 마켓 목록이 같으면 이벤트를 발행하지 않음")
+	void testUpdateMarketList_NoChange() {
+		// Given
+		Map<String, Market> cached = Map.of(
+			"KRW-BTC", new Market("KRW-BTC", "비트코인", "BTC"),
+			"KRW-ETH", new Market("KRW-ETH", "이더리움", "ETH")
+		);
+		when(marketCacheService.getCachedMarketMap()).thenReturn(cached);
+		when(restTemplate.getForEntity(UPBIT_MARKET_URI, MarketDto[].class))
+			.thenReturn(ResponseEntity.ok(mockMarketDtos));
+
+		// When
+		marketService.updateMarketList();
+
+		// Then
+		verify(eventPublisher, never()).publishEvent(any(Object.class));
+	}
+
 	@Test
 	@DisplayName("t2: 코인 목록 자동 갱신 - 외부 API 에러 시 DB fallback 테스트")
 	void testUpdateMarketList_Exception() {
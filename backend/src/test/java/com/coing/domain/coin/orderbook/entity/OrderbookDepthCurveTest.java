@@ -0,0 +1,86 @@
+package com.coing.domain.coin.orderbook.entity;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.coing.domain.coin.common.enums.AskBid;
+
+public class OrderbookDepthCurveTest {
+
+	private OrderbookDepthCurve curve;
+
+	@BeforeEach
+	void setUp() {
+		// 매도 101(1), 102(2), 104(3) / 매수 99(1), 98(2), 96(3), 중간 가격 100
+		OrderbookLevels levels = new OrderbookLevels();
+		levels.add(101.0, 99.0, 1.0, 1.0);
+		levels.add(102.0, 98.0, 2.0, 2.0);
+		levels.add(104.0, 96.0, 3.0, 3.0);
+		curve = new OrderbookDepthCurve(levels, 7L);
+	}
+
+	@Test
+	@DisplayName("중간 가격은 최우선 매도/매수 호가로 계산")
+	void midPrice() {
+		assertEquals(100.0, curve.getMidPrice(), 1e-9);
+	}
+
+	@Test
+	@DisplayName("매수 호가가 없으면 중간 가격을 0으로 두고 슬리피지는 0")
+	void midPriceWithoutBids() {
+		// given
+		OrderbookLevels levels = new OrderbookLevels();
+		levels.add(101.0, 0.0, 1.0, 0.0);
+
+		// when
+		OrderbookDepthCurve askOnly = new OrderbookDepthCurve(levels, 1L);
+
+		// then
+		assertEquals(0.0, askOnly.getMidPrice());
+		assertEquals(0.0, askOnly.estimateByQuantity(AskBid.BID, 1.0).slippagePercent());
+	}
+
+	@Test
+	@DisplayName("수량 기준 매수 시 매도 호가를 순서대로 소진한 평균 가격")
+	void estimateByQuantity() {
+		// when: 101 × 1 + 102 × 2 + 104 × 1 = 409
+		OrderbookSlippage slippage = curve.estimateByQuantity(AskBid.BID, 4.0);
+
+		// then
+		assertTrue(slippage.fullyFilled());
+		assertEquals(409.0, slippage.filledAmount(), 1e-9);
+		assertEquals(102.25, slippage.averagePrice(), 1e-9);
+		assertEquals(104.0, slippage.worstPrice());
+		assertEquals(2, slippage.worstLevel());
+		assertEquals(2.25, slippage.slippagePercent(), 1e-9);
+	}
+
+	@Test
+	@DisplayName("금액 기준 매도 시 매수 호가를 순서대로 소진한 체결 수량")
+	void estimateByAmount() {
+		// when: 99 × 1 + 98 × 0.5 = 148
+		OrderbookSlippage slippage = curve.estimateByAmount(AskBid.ASK, 148.0);
+
+		// then
+		assertTrue(slippage.fullyFilled());
+		assertEquals(1.5, slippage.filledQuantity(), 1e-9);
+		assertEquals(98.0, slippage.worstPrice());
+		assertEquals(1, slippage.worstLevel());
+		assertEquals((100.0 - 148.0 / 1.5) / 100.0 * 100.0, slippage.slippagePercent(), 1e-9);
+	}
+
+	@Test
+	@DisplayName("호가 잔량보다 큰 주문은 전체 잔량까지만 체결")
+	void estimateExceedingDepth() {
+		// when
+		OrderbookSlippage slippage = curve.estimateByQuantity(AskBid.BID, 10.0);
+
+		// then
+		assertFalse(slippage.fullyFilled());
+		assertEquals(6.0, slippage.filledQuantity(), 1e-9);
+		assertEquals(104.0, slippage.worstPrice());
+	}
+}
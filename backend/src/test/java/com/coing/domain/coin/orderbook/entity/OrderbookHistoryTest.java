@@ -0,0 +1,57 @@
+package com.coing.domain.coin.orderbook.entity;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class OrderbookHistoryTest {
+
+	@Test
+	@DisplayName("capacity를 넘으면 가장 오래된 스냅샷부터 덮어씀")
+	void recordOverwritesOldest() {
+		// given
+		OrderbookHistory history = new OrderbookHistory(2, 15);
+
+		// when
+		history.record(1000L, levels(110.0, 90.0, 1.0));
+		history.record(2000L, levels(110.0, 90.0, 2.0));
+		history.record(3000L, levels(110.0, 90.0, 3.0));
+
+		// then
+		OrderbookHeatmap heatmap = history.heatmap(0L, 2);
+		assertEquals(2, history.size());
+		assertArrayEquals(new long[] {2000L, 3000L}, heatmap.timestamps());
+		assertEquals(3000L, history.getLastTimestamp());
+	}
+
+	@Test
+	@DisplayName("from 이후 스냅샷만 가격 구간별 잔량으로 합산")
+	void heatmap() {
+		// given: 가격 범위 90 ~ 110, 구간 폭 10
+		OrderbookHistory history = new OrderbookHistory(10, 15);
+		history.record(1000L, levels(110.0, 90.0, 1.0));
+		history.record(2000L, levels(105.0, 95.0, 2.0));
+
+		// when
+		OrderbookHeatmap heatmap = history.heatmap(2000L, 2);
+		OrderbookHeatmap all = history.heatmap(0L, 2);
+
+		// then
+		assertArrayEquals(new long[] {2000L}, heatmap.timestamps());
+		assertEquals(95.0, heatmap.lowPrice());
+		assertArrayEquals(new double[] {2.0, 2.0}, heatmap.depth()[0]);
+
+		assertEquals(90.0, all.lowPrice());
+		assertEquals(10.0, all.priceStep());
+		assertArrayEquals(new double[] {1.0, 1.0}, all.depth()[0]);
+		assertArrayEquals(new double[] {2.0, 2.0}, all.depth()[1]);
+	}
+
+	// 매도/매수 잔량이 같은 호가 단위 1개
+	private OrderbookLevels levels(double askPrice, double bidPrice, double size) {
+		OrderbookLevels levels = new OrderbookLevels();
+		levels.add(askPrice, bidPrice, size, size);
+		return levels;
+	}
+}
@@ -0,0 +1,97 @@
+package com.coing.domain.coin.orderbook.entity;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.coing.domain.coin.orderbook.entity.OrderbookIndicators.LiquidityBand;
+import com.coing.domain.coin.orderbook.enums.OrderbookIndicatorType;
+
+public class OrderbookIndicatorEngineTest {
+
+	private Orderbook orderbook;
+
+	@BeforeEach
+	public void setUp() {
+		// 중간 가격 100 기준 매도 100.4/101.5/104, 매수 99.6/98.5/96
+		OrderbookLevels levels = new OrderbookLevels();
+		levels.add(100.4, 99.6, 1.0, 3.0);
+		levels.add(101.5, 98.5, 2.0, 2.0);
+		levels.add(104.0, 96.0, 3.0, 1.0);
+
+		orderbook = Orderbook.builder()
+			.type("orderbook")
+			.code("KRW-BTC")
+			.totalAskSize(6.0)
+			.totalBidSize(6.0)
+			.orderbookUnits(levels)
+			.timestamp(System.currentTimeMillis())
+			.level(0.0)
+			.build();
+	}
+
+	@Test
+	@DisplayName("기본 지표는 Orderbook의 개별 계산 결과와 같음")
+	public void defaultsMatchOrderbookIndicators() {
+		// when
+		OrderbookIndicators indicators = OrderbookIndicatorEngine.defaults().calculate(orderbook);
+
+		// then
+		assertEquals(orderbook.getMidPrice(), indicators.midPrice());
+		assertEquals(orderbook.getSpread(), indicators.spread());
+		assertEquals(orderbook.getImbalance(), indicators.imbalance());
+		assertEquals(orderbook.getLiquidityDepth(), indicators.liquidityDepth(), 1e-9);
+		assertNull(indicators.liquidityBands());
+		assertNull(indicators.microPrice());
+	}
+
+	@Test
+	@DisplayName("구간별 유동성, 잔량 가중 중간 가격, 마이크로 가격 계산")
+	public void extendedIndicators() {
+		// given
+		OrderbookIndicatorEngine engine = new OrderbookIndicatorEngine(
+			EnumSet.allOf(OrderbookIndicatorType.class), List.of(5.0, 0.5, 2.0, 1.0));
+
+		// when
+		OrderbookIndicators indicators = engine.calculate(orderbook);
+
+		// then: 전체 잔량 12 중 ±0.5% 4, ±1% 4, ±2% 8, ±5% 12
+		List<LiquidityBand> bands = indicators.liquidityBands();
+		assertEquals(4, bands.size());
+		assertEquals(0.5, bands.get(0).percent());
+		assertEquals(100.0 * 4 / 12, bands.get(0).depth(), 1e-9);
+		assertEquals(100.0 * 4 / 12, bands.get(1).depth(), 1e-9);
+		assertEquals(100.0 * 8 / 12, bands.get(2).depth(), 1e-9);
+		assertEquals(100.0, bands.get(3).depth(), 1e-9);
+		assertEquals(bands.get(1).depth(), indicators.liquidityDepth(), 1e-9);
+
+		// 매도 가중 평균 (100.4 + 203 + 312) / 6, 매수 가중 평균 (298.8 + 197 + 96) / 6
+		double expectedWeightedMid = ((100.4 + 203 + 312) / 6 + (298.8 + 197 + 96) / 6) / 2;
+		assertEquals(expectedWeightedMid, indicators.weightedMidPrice(), 1e-9);
+		// 매수 잔량이 많으므로 매도 호가 쪽으로 치우침: (100.4 × 3 + 99.6 × 1) / 4
+		assertEquals(100.2, indicators.microPrice(), 1e-9);
+	}
+
+	@Test
+	@DisplayName("선택하지 않은 지표는 계산하지 않음")
+	public void selectedIndicatorsOnly() {
+		// given
+		OrderbookIndicatorEngine engine = new OrderbookIndicatorEngine(
+			List.of(OrderbookIndicatorType.MID_PRICE), List.of(1.0));
+
+		// when
+		OrderbookIndicators indicators = engine.calculate(orderbook);
+
+		// then
+		assertEquals(100.0, indicators.midPrice(), 1e-9);
+		assertEquals(0.0, indicators.spread());
+		assertEquals(0.0, indicators.liquidityDepth());
+		assertNull(indicators.liquidityBands());
+		assertNull(indicators.weightedMidPrice());
+	}
+}
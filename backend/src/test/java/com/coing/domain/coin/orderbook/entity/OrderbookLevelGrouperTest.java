@@ -0,0 +1,75 @@
+package com.coing.domain.coin.orderbook.entity;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class OrderbookLevelGrouperTest {
+
+	@Test
+	@DisplayName("KRW 마켓은 업비트 가격 구간별 호가 단위 사용")
+	void tickSizeKrw() {
+		assertEquals(1000, OrderbookLevelGrouper.tickSize("KRW-BTC", 140_000_000));
+		assertEquals(50, OrderbookLevelGrouper.tickSize("KRW-ETH", 100_000));
+		assertEquals(10, OrderbookLevelGrouper.tickSize("KRW-ETH", 99_990));
+		assertEquals(1, OrderbookLevelGrouper.tickSize("KRW-XRP", 3_000));
+		assertEquals(0.001, OrderbookLevelGrouper.tickSize("KRW-DOGE", 5.123));
+		assertEquals(0.00000001, OrderbookLevelGrouper.tickSize("KRW-SHIB", 0.00005));
+	}
+
+	@Test
+	@DisplayName("빈 호가가 있어도 최우선 매도 호가 구간의 호가 단위 유지")
+	void tickSizeWithSparseLevels() {
+		// given: 인접 호가 가격 차이가 모두 호가 단위(10)보다 큼
+		OrderbookLevels levels = new OrderbookLevels();
+		levels.add(50_050, 50_000, 1.0, 1.0);
+		levels.add(50_100, 49_900, 1.0, 1.0);
+		levels.add(50_200, 49_800, 1.0, 1.0);
+
+		// when
+		double tick = OrderbookLevelGrouper.tickSize("KRW-ETC", levels);
+
+		// then
+		assertEquals(10, tick);
+	}
+
+	@Test
+	@DisplayName("BTC 마켓은 소수점 8자리, 그 외 호가 통화는 유효숫자 4자리 단위")
+	void tickSizeOtherQuotes() {
+		assertEquals(0.00000001, OrderbookLevelGrouper.tickSize("BTC-ETH", 0.0345));
+		assertEquals(10, OrderbookLevelGrouper.tickSize("USDT-BTC", 97_123.4));
+		assertEquals(0.0001, OrderbookLevelGrouper.tickSize("USDT-XRP", 0.5123));
+		assertEquals(0.0, OrderbookLevelGrouper.tickSize("KRW-BTC", new OrderbookLevels()));
+	}
+
+	@Test
+	@DisplayName("매도 호가는 단위 올림, 매수 호가는 단위 내림 가격으로 잔량 합산")
+	void group() {
+		// given: 호가 단위 1000, 모아보기 단위 5000
+		OrderbookLevels levels = new OrderbookLevels();
+		levels.add(101000, 100000, 1.0, 2.0);
+		levels.add(102000, 99000, 1.5, 1.0);
+		levels.add(106000, 94000, 3.0, 4.0);
+
+		// when
+		OrderbookLevels grouped = OrderbookLevelGrouper.group(levels, 5000);
+
+		// then
+		assertEquals(3, grouped.size());
+		assertEquals(105000, grouped.getAskPrice(0));
+		assertEquals(2.5, grouped.getAskSize(0));
+		assertEquals(110000, grouped.getAskPrice(1));
+		assertEquals(3.0, grouped.getAskSize(1));
+		assertEquals(100000, grouped.getBidPrice(0));
+		assertEquals(2.0, grouped.getBidSize(0));
+		assertEquals(95000, grouped.getBidPrice(1));
+		assertEquals(1.0, grouped.getBidSize(1));
+		assertEquals(90000, grouped.getBidPrice(2));
+		assertEquals(4.0, grouped.getBidSize(2));
+
+		// 매도 구간이 더 적으면 0으로 채움
+		assertEquals(0.0, grouped.getAskPrice(2));
+		assertEquals(0.0, grouped.getAskSize(2));
+	}
+}
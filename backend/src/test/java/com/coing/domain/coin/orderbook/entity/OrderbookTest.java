@@ -8,6 +8,8 @@ import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 public class OrderbookTest {
 	@Test
 	@DisplayName("Orderbook Indicators 검증")
@@ -38,4 +40,24 @@ public class OrderbookTest {
 		assertEquals(95.0, orderbook.getMidPrice()); // midPrice = (100 + 90) / 2 = 95
 		assertEquals(0.0, orderbook.getLiquidityDepth());
 	}
+
+	@Test
+	@DisplayName("OrderbookLevels는 OrderbookUnit 목록과 같은 JSON으로 직렬화")
+	public void serializeOrderbookLevels() throws Exception {
+		// given
+		List<OrderbookUnit> units = List.of(
+			new OrderbookUnit(100.0, 90.0, 10.0, 5.0),
+			new OrderbookUnit(110.0, 80.0, 11.0, 7.0)
+		);
+		OrderbookLevels levels = OrderbookLevels.from(units);
+		ObjectMapper mapper = new ObjectMapper();
+
+		// when
+		String json = mapper.writeValueAsString(levels);
+
+		// then
+		assertEquals(mapper.writeValueAsString(units), json);
+		assertEquals(2, levels.size());
+		assertEquals(80.0, levels.getBidPrice(1));
+	}
 }
@@ -0,0 +1,91 @@
+package com.coing.domain.coin.orderbook.entity;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.coing.domain.coin.common.enums.AskBid;
+import com.coing.domain.coin.orderbook.enums.OrderbookWallEventType;
+
+public class OrderbookWallDetectorTest {
+	private static final double WALL_PRICE = 105.0;
+
+	private OrderbookWallDetector detector;
+
+	@BeforeEach
+	void setUp() {
+		detector = new OrderbookWallDetector(3.0, 2.0, 5000L, 300);
+		// 잔량 1 ~ 2 사이 호가로 분포 학습
+		for (int i = 0; i < 50; i++) {
+			assertTrue(detector.update(levels(0.0), i).isEmpty());
+		}
+	}
+
+	@Test
+	@DisplayName("분포 대비 큰 잔량이 등장하면 APPEARED, 짧은 시간 안에 취소되면 SPOOF_SUSPECTED")
+	void spoofSuspected() {
+		// when
+		List<OrderbookWallEvent> appeared = detector.update(levels(500.0), 1000L);
+		List<OrderbookWallEvent> kept = detector.update(levels(500.0), 2000L);
+		List<OrderbookWallEvent> removed = detector.update(levels(0.0), 3000L);
+
+		// then
+		assertEquals(1, appeared.size());
+		assertEquals(OrderbookWallEventType.APPEARED, appeared.get(0).type());
+		assertEquals(AskBid.ASK, appeared.get(0).side());
+		assertEquals(WALL_PRICE, appeared.get(0).price());
+		assertTrue(kept.isEmpty());
+		assertEquals(1, removed.size());
+		assertEquals(OrderbookWallEventType.SPOOF_SUSPECTED, removed.get(0).type());
+		assertEquals(2000L, removed.get(0).lifetimeMs());
+		assertEquals(0, detector.getWallCount());
+	}
+
+	@Test
+	@DisplayName("오래 유지된 벽이 사라지면 REMOVED")
+	void removedAfterWindow() {
+		// given
+		detector.update(levels(500.0), 1000L);
+
+		// when
+		List<OrderbookWallEvent> removed = detector.update(levels(0.0), 10_000L);
+
+		// then
+		assertEquals(OrderbookWallEventType.REMOVED, removed.get(0).type());
+	}
+
+	@Test
+	@DisplayName("잔량이 줄어도 소멸 기준 이상이면 벽을 유지하고 이벤트를 반복하지 않음")
+	void hysteresis() {
+		// given: 소멸 기준이 낮은 감지기
+		OrderbookWallDetector sticky = new OrderbookWallDetector(3.0, 0.5, 5000L, 300);
+		for (int i = 0; i < 50; i++) {
+			sticky.update(levels(0.0), i);
+		}
+		sticky.update(levels(500.0), 1000L);
+
+		// when: 등장 기준 아래지만 소멸 기준 이상인 잔량
+		List<OrderbookWallEvent> shrunk = sticky.update(levels(1.0), 2000L);
+		List<OrderbookWallEvent> again = sticky.update(levels(1.0), 2500L);
+
+		// then
+		assertTrue(shrunk.isEmpty());
+		assertTrue(again.isEmpty());
+		assertEquals(1, sticky.getWallCount());
+	}
+
+	// 매도 101 ~ 110, 매수 99 ~ 90, WALL_PRICE 매도 호가에 wallSize 추가
+	private OrderbookLevels levels(double wallSize) {
+		OrderbookLevels levels = new OrderbookLevels();
+		for (int i = 0; i < 10; i++) {
+			double askPrice = 101.0 + i;
+			double askSize = 1.0 + (i % 3) * 0.5 + ((askPrice == WALL_PRICE) ? wallSize : 0.0);
+			levels.add(askPrice, 99.0 - i, askSize, 1.0 + (i % 2) * 0.8);
+		}
+		return levels;
+	}
+}
@@ -0,0 +1,86 @@
+package com.coing.domain.coin.orderbook.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.coing.domain.coin.orderbook.dto.OrderbookDeltaDto;
+import com.coing.domain.coin.orderbook.dto.OrderbookDto;
+import com.coing.domain.coin.orderbook.entity.OrderbookLevels;
+
+public class OrderbookDeltaTrackerTest {
+
+	@Test
+	@DisplayName("첫 변경분은 전체 호가 단위를 담고 baseVersion은 0")
+	void firstDeltaIsFull() {
+		// given
+		OrderbookDeltaTracker tracker = new OrderbookDeltaTracker();
+		OrderbookDto first = orderbook(tracker.nextVersion(), levels(10.0, 20.0));
+
+		// when
+		OrderbookDeltaDto delta = (OrderbookDeltaDto)tracker.deferDelta(first).resolve();
+
+		// then
+		assertEquals(0L, delta.baseVersion());
+		assertEquals(1L, delta.version());
+		assertEquals(2, delta.changes().size());
+		assertEquals(first, tracker.getLastSent());
+	}
+
+	@Test
+	@DisplayName("합쳐진 갱신은 마지막 전송 버전 기준으로 바뀐 호가 단위만 전송")
+	void deltaAgainstLastSent() {
+		// given
+		OrderbookDeltaTracker tracker = new OrderbookDeltaTracker();
+		tracker.deferDelta(orderbook(tracker.nextVersion(), levels(10.0, 20.0, 30.0))).resolve();
+
+		// when: 버전 2는 전송되지 않고 버전 3으로 합쳐짐
+		tracker.nextVersion();
+		OrderbookDto third = orderbook(tracker.nextVersion(), levels(10.0, 25.0));
+		OrderbookDeltaDto delta = (OrderbookDeltaDto)tracker.deferDelta(third).resolve();
+
+		// then
+		assertEquals(1L, delta.baseVersion());
+		assertEquals(3L, delta.version());
+		assertEquals(2, delta.size());
+		assertEquals(List.of(new OrderbookDeltaDto.LevelChange(1, 101.0, 99.0, 25.0, 1.0)), delta.changes());
+	}
+
+	@Test
+	@DisplayName("이미 더 최신 버전을 전송했으면 변경분을 만들지 않음")
+	void skipStaleDelta() {
+		// given
+		OrderbookDeltaTracker tracker = new OrderbookDeltaTracker();
+		OrderbookDto first = orderbook(tracker.nextVersion(), levels(10.0));
+		OrderbookDto second = orderbook(tracker.nextVersion(), levels(11.0));
+		tracker.deferDelta(second).resolve();
+
+		// when
+		Object stale = tracker.deferDelta(first).resolve();
+
+		// then
+		assertNull(stale);
+		assertEquals(second, tracker.getLastSent());
+	}
+
+	private OrderbookDto orderbook(long version, OrderbookLevels levels) {
+		return OrderbookDto.builder()
+			.type("orderbook")
+			.code("KRW-BTC")
+			.orderbookUnits(levels)
+			.version(version)
+			.build();
+	}
+
+	// 매도 잔량만 다른 호가 단위 목록
+	private OrderbookLevels levels(double... askSizes) {
+		OrderbookLevels levels = new OrderbookLevels();
+		for (double askSize : askSizes) {
+			levels.add(101.0, 99.0, askSize, 1.0);
+		}
+		return levels;
+	}
+}
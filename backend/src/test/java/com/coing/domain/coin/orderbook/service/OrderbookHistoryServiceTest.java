@@ -0,0 +1,75 @@
+package com.coing.domain.coin.orderbook.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.coing.domain.coin.orderbook.entity.Orderbook;
+import com.coing.domain.coin.orderbook.entity.OrderbookHeatmap;
+import com.coing.domain.coin.orderbook.entity.OrderbookUnit;
+import com.coing.global.exception.BusinessException;
+import com.coing.util.MessageUtil;
+
+@ExtendWith(MockitoExtension.class)
+public class OrderbookHistoryServiceTest {
+
+	@Mock
+	private MessageUtil messageUtil;
+
+	@InjectMocks
+	private OrderbookHistoryService orderbookHistoryService;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(orderbookHistoryService, "enabled", true);
+		ReflectionTestUtils.setField(orderbookHistoryService, "capacity", 10);
+		ReflectionTestUtils.setField(orderbookHistoryService, "intervalMs", 1000L);
+		ReflectionTestUtils.setField(orderbookHistoryService, "depth", 15);
+	}
+
+	@Test
+	@DisplayName("interval 안에 들어온 호가는 기록하지 않음")
+	void recordWithInterval() {
+		// when
+		orderbookHistoryService.record(orderbook(10_000L));
+		orderbookHistoryService.record(orderbook(10_500L));
+		orderbookHistoryService.record(orderbook(11_000L));
+
+		// then
+		OrderbookHeatmap heatmap = orderbookHistoryService.getHeatmap("KRW-BTC", 0L, 10);
+		assertArrayEquals(new long[] {10_000L, 11_000L}, heatmap.timestamps());
+	}
+
+	@Test
+	@DisplayName("이력이 없는 마켓 heatmap 조회 시 예외 발생")
+	void getHeatmapNotFound() {
+		// given
+		when(messageUtil.resolveMessage("orderbook.not.found")).thenReturn("호가 정보가 없습니다.");
+
+		// when & then
+		BusinessException exception = assertThrows(BusinessException.class,
+			() -> orderbookHistoryService.getHeatmap("KRW-ETH", 0L, 10));
+		assertEquals("호가 정보가 없습니다.", exception.getMessage());
+	}
+
+	private Orderbook orderbook(long timestamp) {
+		return Orderbook.builder()
+			.type("orderbook")
+			.code("KRW-BTC")
+			.totalAskSize(1.0)
+			.totalBidSize(1.0)
+			.orderbookUnits(List.of(new OrderbookUnit(101.0, 99.0, 1.0, 1.0)))
+			.timestamp(timestamp)
+			.build();
+	}
+}
@@ -3,7 +3,9 @@ package com.coing.domain.coin.orderbook.service;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.util.ArrayList;
 import java.util.LinkedList;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,18 +15,42 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
 
+import com.coing.domain.coin.common.service.CoalescingPublisher;
+import com.coing.domain.coin.orderbook.dto.OrderbookDeltaDto;
 import com.coing.domain.coin.orderbook.dto.OrderbookDto;
+import com.coing.domain.coin.orderbook.dto.OrderbookWallEventDto;
 import com.coing.domain.coin.orderbook.entity.Orderbook;
+import com.coing.domain.coin.orderbook.entity.OrderbookDepthCurve;
 import com.coing.domain.coin.orderbook.entity.OrderbookUnit;
+import com.coing.domain.coin.orderbook.enums.OrderbookWallEventType;
+import com.coing.domain.coin.orderbook.event.OrderbookDemandChangedEvent;
+import com.coing.global.exception.BusinessException;
+import com.coing.util.MessageUtil;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 @ExtendWith(MockitoExtension.class)
 public class OrderbookServiceTest {
 	@Mock
-	SimpMessageSendingOperations simpMessageSendingOperations;
+	CoalescingPublisher coalescingPublisher;
+
+	@Mock
+	ApplicationEventPublisher eventPublisher;
+
+	@Mock
+	OrderbookHistoryService orderbookHistoryService;
+
+	@Mock
+	MessageUtil messageUtil;
 
 	@InjectMocks
 	OrderbookService orderbookService;
@@ -34,6 +60,10 @@ public class OrderbookServiceTest {
 
 	@BeforeEach
 	public void setUp() {
+		ReflectionTestUtils.setField(orderbookService, "demandDriven", true);
+		ReflectionTestUtils.setField(orderbookService, "lingerSeconds", 0L);
+		ReflectionTestUtils.setField(orderbookService, "pinnedMarkets", List.of("KRW-BTC"));
+
 		OrderbookUnit unit = new OrderbookUnit(100.0, 90.0, 10.0, 5.0);
 		LinkedList<OrderbookUnit> units = new LinkedList<>();
 		units.add(unit);
@@ -62,11 +92,219 @@ public class OrderbookServiceTest {
 		String expectedChannel = "/sub/coin/orderbook/" + testOrderbook.getCode();
 		ArgumentCaptor<OrderbookDto> captor = ArgumentCaptor.forClass(OrderbookDto.class);
 
-		verify(simpMessageSendingOperations, times(1))
-			.convertAndSend(eq(expectedChannel), captor.capture());
+		verify(coalescingPublisher, times(1))
+			.publish(eq(expectedChannel), captor.capture());
 
 		OrderbookDto sentDto = captor.getValue();
 		assertEquals("orderbook", sentDto.type());
 		assertEquals("KRW-BTC", sentDto.code());
 	}
+
+	@Test
+	@DisplayName("delta 모드면 호가 갱신 시 변경분 destination에도 전송")
+	void updateOrderbookWithDelta() {
+		// given
+		ReflectionTestUtils.setField(orderbookService, "deltaEnabled", true);
+
+		// when
+		orderbookService.updateOrderbook(testOrderbook);
+
+		// then
+		ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+		verify(coalescingPublisher, times(1))
+			.publish(eq("/sub/coin/orderbook/KRW-BTC/delta"), captor.capture());
+
+		OrderbookDeltaDto delta = (OrderbookDeltaDto)((CoalescingPublisher.Deferred)captor.getValue()).resolve();
+		assertEquals(1L, delta.version());
+		assertEquals(1, delta.changes().size());
+		assertEquals(1L, orderbookService.getSnapshot("KRW-BTC").version());
+	}
+
+	@Test
+	@DisplayName("여러 마켓 호가 조회 시 요청 순서대로 수신한 호가만 반환")
+	void getOrderbooks() {
+		// given
+		orderbookService.updateOrderbook(testOrderbook);
+
+		// when
+		List<OrderbookDto> orderbooks = orderbookService.getOrderbooks(List.of("KRW-ETH", "KRW-BTC"));
+
+		// then
+		assertEquals(1, orderbooks.size());
+		assertEquals("KRW-BTC", orderbooks.get(0).code());
+		assertEquals(1L, orderbookService.getOrderbook("KRW-BTC").version());
+	}
+
+	@Test
+	@DisplayName("수신한 호가가 없는 마켓 조회 시 예외 발생")
+	void getOrderbookNotFound() {
+		// given
+		when(messageUtil.resolveMessage("orderbook.not.found")).thenReturn("호가 정보가 없습니다.");
+
+		// when & then
+		BusinessException exception = assertThrows(BusinessException.class,
+			() -> orderbookService.getOrderbook("KRW-ETH"));
+		assertEquals("호가 정보가 없습니다.", exception.getMessage());
+	}
+
+	@Test
+	@DisplayName("cleanUp 시 1분 이상 갱신되지 않은 호가만 제거")
+	void cleanUp() {
+		// given: 갱신 중인 KRW-BTC, 2분 전에 멈춘 KRW-ETH
+		orderbookService.updateOrderbook(testOrderbook);
+		orderbookService.updateOrderbook(Orderbook.builder()
+			.type("orderbook")
+			.code("KRW-ETH")
+			.orderbookUnits(List.of(new OrderbookUnit(100.0, 90.0, 10.0, 5.0)))
+			.timestamp(System.currentTimeMillis() - 120_000)
+			.build());
+
+		// when
+		orderbookService.cleanUp();
+
+		// then
+		assertEquals(1, orderbookService.getOrderbooks(List.of("KRW-BTC", "KRW-ETH")).size());
+		assertNull(orderbookService.getSnapshot("KRW-ETH"));
+	}
+
+	@Test
+	@DisplayName("누적 잔량 곡선은 같은 호가면 재사용하고 호가가 바뀌면 다시 생성")
+	void getDepthCurve() {
+		// given
+		orderbookService.updateOrderbook(testOrderbook);
+		OrderbookDepthCurve first = orderbookService.getDepthCurve("KRW-BTC");
+
+		// when
+		OrderbookDepthCurve cached = orderbookService.getDepthCurve("KRW-BTC");
+		orderbookService.updateOrderbook(testOrderbook);
+		OrderbookDepthCurve updated = orderbookService.getDepthCurve("KRW-BTC");
+
+		// then
+		assertSame(first, cached);
+		assertNotSame(first, updated);
+		assertEquals(2L, updated.getVersion());
+	}
+
+	@Test
+	@DisplayName("cleanUp 이후 같은 버전으로 다시 수신해도 이전 누적 잔량 곡선을 재사용하지 않음")
+	void getDepthCurveAfterCleanUp() {
+		// given: 2분 전에 멈춘 호가로 만든 곡선
+		Orderbook stale = Orderbook.builder()
+			.type("orderbook")
+			.code("KRW-BTC")
+			.orderbookUnits(List.of(new OrderbookUnit(100.0, 90.0, 10.0, 5.0)))
+			.timestamp(System.currentTimeMillis() - 120_000)
+			.build();
+		orderbookService.updateOrderbook(stale);
+		OrderbookDepthCurve staleCurve = orderbookService.getDepthCurve("KRW-BTC");
+		orderbookService.cleanUp();
+
+		// when: 버전이 다시 1부터 시작
+		orderbookService.updateOrderbook(testOrderbook);
+		OrderbookDepthCurve curve = orderbookService.getDepthCurve("KRW-BTC");
+
+		// then
+		assertEquals(1L, curve.getVersion());
+		assertNotSame(staleCurve, curve);
+	}
+
+	@Test
+	@DisplayName("호가 벽 이벤트는 전송 간격 동안 모아 감지 순서대로 한 번에 전송")
+	@SuppressWarnings("unchecked")
+	void detectWalls() {
+		// given: 잔량 1 ~ 2 사이 호가로 분포 학습
+		ReflectionTestUtils.setField(orderbookService, "wallEnabled", true);
+		ReflectionTestUtils.setField(orderbookService, "wallZScore", 3.0);
+		ReflectionTestUtils.setField(orderbookService, "wallExitZScore", 2.0);
+		ReflectionTestUtils.setField(orderbookService, "wallSpoofWindowMs", 5000L);
+		ReflectionTestUtils.setField(orderbookService, "wallWindow", 300);
+		for (int i = 0; i < 50; i++) {
+			orderbookService.updateOrderbook(wallOrderbook(0.0, i));
+		}
+
+		// when: 벽 등장 후 바로 취소
+		orderbookService.updateOrderbook(wallOrderbook(500.0, 1000L));
+		orderbookService.updateOrderbook(wallOrderbook(0.0, 2000L));
+
+		// then
+		ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+		verify(coalescingPublisher, times(2))
+			.publish(eq("/sub/coin/orderbook/KRW-BTC/walls"), captor.capture());
+		CoalescingPublisher.Deferred deferred = (CoalescingPublisher.Deferred)captor.getValue();
+		List<OrderbookWallEventDto> events = (List<OrderbookWallEventDto>)deferred.resolve();
+		assertEquals(2, events.size());
+		assertEquals(OrderbookWallEventType.APPEARED, events.get(0).event());
+		assertEquals(OrderbookWallEventType.SPOOF_SUSPECTED, events.get(1).event());
+		assertNull(deferred.resolve());
+	}
+
+	@Test
+	@DisplayName("호가 구독 시 처음 구독된 마켓만 수요 변경 이벤트 발행")
+	void subscribeOrderbook() {
+		// when: 두 세션이 KRW-ETH 구독, 고정 마켓인 KRW-BTC 구독
+		orderbookService.onSessionSubscribe(subscribeEvent("s1", "sub-0", "/sub/coin/orderbook/KRW-ETH"));
+		orderbookService.onSessionSubscribe(subscribeEvent("s2", "sub-0", "/sub/coin/orderbook/KRW-ETH"));
+		orderbookService.onSessionSubscribe(subscribeEvent("s1", "sub-1", "/sub/coin/orderbook/KRW-BTC"));
+		orderbookService.onSessionSubscribe(subscribeEvent("s1", "sub-2", "/sub/coin/trade/KRW-XRP"));
+
+		// then
+		verify(eventPublisher, times(1))
+			.publishEvent(new OrderbookDemandChangedEvent(List.of("KRW-ETH"), List.of()));
+		verify(eventPublisher, times(1)).publishEvent(any(Object.class));
+		assertEquals(2, orderbookService.getSubscriberCount("KRW-ETH"));
+		assertTrue(orderbookService.getActiveMarkets().containsAll(List.of("KRW-BTC", "KRW-ETH")));
+		assertFalse(orderbookService.getActiveMarkets().contains("KRW-XRP"));
+	}
+
+	@Test
+	@DisplayName("구독자가 모두 해제되고 linger 시간이 지나면 수신 대상에서 제외")
+	void expireIdleMarkets() {
+		// given
+		orderbookService.onSessionSubscribe(subscribeEvent("s1", "sub-0", "/sub/coin/orderbook/KRW-ETH"));
+		orderbookService.expireIdleMarkets();
+		assertTrue(orderbookService.getActiveMarkets().contains("KRW-ETH"));
+
+		// when
+		orderbookService.onSessionUnsubscribe(new SessionUnsubscribeEvent(this,
+			stompMessage(StompCommand.UNSUBSCRIBE, "s1", "sub-0", null)));
+		orderbookService.expireIdleMarkets();
+
+		// then
+		verify(eventPublisher, times(1))
+			.publishEvent(new OrderbookDemandChangedEvent(List.of(), List.of("KRW-ETH")));
+		assertEquals(0, orderbookService.getSubscriberCount("KRW-ETH"));
+		assertFalse(orderbookService.getActiveMarkets().contains("KRW-ETH"));
+	}
+
+	// 매도 101 ~ 110, 매수 99 ~ 90, 매도 105에 wallSize 추가
+	private Orderbook wallOrderbook(double wallSize, long timestamp) {
+		List<OrderbookUnit> units = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			double askPrice = 101.0 + i;
+			double askSize = 1.0 + (i % 3) * 0.5 + ((askPrice == 105.0) ? wallSize : 0.0);
+			units.add(new OrderbookUnit(askPrice, 99.0 - i, askSize, 1.0 + (i % 2) * 0.8));
+		}
+		return Orderbook.builder()
+			.type("orderbook")
+			.code("KRW-BTC")
+			.orderbookUnits(units)
+			.timestamp(timestamp)
+			.build();
+	}
+
+	private SessionSubscribeEvent subscribeEvent(String sessionId, String subscriptionId, String destination) {
+		return new SessionSubscribeEvent(this,
+			stompMessage(StompCommand.SUBSCRIBE, sessionId, subscriptionId, destination));
+	}
+
+	private Message<byte[]> stompMessage(StompCommand command, String sessionId, String subscriptionId,
+		String destination) {
+		StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+		accessor.setSessionId(sessionId);
+		accessor.setSubscriptionId(subscriptionId);
+		if (destination != null) {
+			accessor.setDestination(destination);
+		}
+		return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+	}
 }
@@ -0,0 +1,91 @@
+package com.coing.domain.coin.orderbook.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.coing.domain.coin.common.enums.AskBid;
+import com.coing.domain.coin.orderbook.dto.OrderbookSlippageResponse;
+import com.coing.domain.coin.orderbook.entity.OrderbookDepthCurve;
+import com.coing.domain.coin.orderbook.entity.OrderbookLevels;
+import com.coing.global.exception.BusinessException;
+import com.coing.util.MessageUtil;
+
+@ExtendWith(MockitoExtension.class)
+public class OrderbookSlippageServiceTest {
+
+	@Mock
+	private OrderbookService orderbookService;
+
+	@Mock
+	private MessageUtil messageUtil;
+
+	@InjectMocks
+	private OrderbookSlippageService orderbookSlippageService;
+
+	@Test
+	@DisplayName("캐시된 호가 기준으로 매수 슬리피지 추정")
+	void estimate() {
+		// given
+		OrderbookLevels levels = new OrderbookLevels();
+		levels.add(101.0, 99.0, 1.0, 1.0);
+		levels.add(102.0, 98.0, 1.0, 1.0);
+		when(orderbookService.getDepthCurve("KRW-BTC")).thenReturn(new OrderbookDepthCurve(levels, 3L));
+
+		// when
+		OrderbookSlippageResponse response = orderbookSlippageService.estimate("KRW-BTC", AskBid.BID, 2.0, null);
+
+		// then
+		assertEquals(3L, response.version());
+		assertEquals(101.5, response.averagePrice(), 1e-9);
+		assertEquals(1, response.worstLevel());
+		assertEquals(1.5, response.slippagePercent(), 1e-9);
+	}
+
+	@Test
+	@DisplayName("수량과 금액을 함께 지정하면 예외 발생")
+	void estimateWithInvalidSize() {
+		// given
+		when(messageUtil.resolveMessage("invalid.order.size")).thenReturn("주문 크기가 올바르지 않습니다.");
+
+		// when & then
+		BusinessException exception = assertThrows(BusinessException.class,
+			() -> orderbookSlippageService.estimate("KRW-BTC", AskBid.BID, 1.0, 100.0));
+		assertEquals("주문 크기가 올바르지 않습니다.", exception.getMessage());
+		verify(orderbookService, never()).getDepthCurve(anyString());
+	}
+
+	@Test
+	@DisplayName("수량과 금액 중 하나가 0 이하여도 함께 지정하면 예외 발생")
+	void estimateWithBothSizesOneInvalid() {
+		// given
+		when(messageUtil.resolveMessage("invalid.order.size")).thenReturn("주문 크기가 올바르지 않습니다.");
+
+		// when & then
+		assertThrows(BusinessException.class,
+			() -> orderbookSlippageService.estimate("KRW-BTC", AskBid.BID, 5.0, -1.0));
+		verify(orderbookService, never()).getDepthCurve(anyString());
+	}
+
+	@Test
+	@DisplayName("지정한 크기가 0 이하이거나 유한하지 않으면 예외 발생")
+	void estimateWithNonPositiveSize() {
+		// given
+		when(messageUtil.resolveMessage("invalid.order.size")).thenReturn("주문 크기가 올바르지 않습니다.");
+
+		// when & then
+		assertThrows(BusinessException.class,
+			() -> orderbookSlippageService.estimate("KRW-BTC", AskBid.BID, 0.0, null));
+		assertThrows(BusinessException.class,
+			() -> orderbookSlippageService.estimate("KRW-BTC", AskBid.ASK, null, Double.NaN));
+		assertThrows(BusinessException.class,
+			() -> orderbookSlippageService.estimate("KRW-BTC", AskBid.ASK, Double.POSITIVE_INFINITY, null));
+		verify(orderbookService, never()).getDepthCurve(anyString());
+	}
+}
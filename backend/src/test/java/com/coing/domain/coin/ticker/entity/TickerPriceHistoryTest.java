@@ -0,0 +1,67 @@
+package com.coing.domain.coin.ticker.entity;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class TickerPriceHistoryTest {
+	private static final long BUCKET_MS = 5_000L;
+	private static final long MINUTE_MS = 60_000L;
+	private static final long BASE = 1_700_000_000_000L;
+
+	@Test
+	@DisplayName("Ticker가 없던 구간은 직전 가격으로 채워 기간 전 가격을 조회")
+	void changeRateWithGap() {
+		// given
+		TickerPriceHistory history = new TickerPriceHistory(BUCKET_MS);
+		history.record(BASE, 100.0);
+		history.record(BASE + 2_000L, 110.0); // 같은 구간의 마지막 가격
+
+		// when
+		history.record(BASE + 10 * MINUTE_MS, 121.0);
+		TickerChangeRates rates = history.changeRates(BASE + 10 * MINUTE_MS, 121.0);
+
+		// then
+		assertEquals(0.1, rates.oneMinute(), 1e-9);
+		assertEquals(0.1, rates.fiveMinute(), 1e-9);
+		assertNull(rates.fifteenMinute());
+		assertNull(rates.oneHour());
+	}
+
+	@Test
+	@DisplayName("직전 기록보다 이전 구간의 가격은 무시")
+	void ignoreOutOfOrder() {
+		// given
+		TickerPriceHistory history = new TickerPriceHistory(BUCKET_MS);
+		history.record(BASE, 100.0);
+		history.record(BASE + MINUTE_MS, 100.0);
+
+		// when
+		history.record(BASE - MINUTE_MS, 50.0);
+
+		// then
+		assertNull(history.changeRate(BASE, 100.0, MINUTE_MS));
+		assertEquals(0.0, history.changeRate(BASE + MINUTE_MS, 100.0, MINUTE_MS), 1e-9);
+	}
+
+	@Test
+	@DisplayName("4시간이 지난 구간은 덮어써서 보관 크기를 유지")
+	void fourHourRetention() {
+		// given
+		TickerPriceHistory history = new TickerPriceHistory(BUCKET_MS);
+		long end = BASE + 5 * 60 * MINUTE_MS;
+		for (long timestamp = BASE; timestamp <= end; timestamp += BUCKET_MS) {
+			history.record(timestamp, (timestamp - BASE) / BUCKET_MS + 1.0);
+		}
+		double price = (end - BASE) / BUCKET_MS + 1.0;
+
+		// when
+		TickerChangeRates rates = history.changeRates(end, price);
+
+		// then
+		double fourHourAgo = price - 4 * 60 * MINUTE_MS / BUCKET_MS;
+		assertEquals((price - fourHourAgo) / fourHourAgo, rates.fourHour(), 1e-9);
+		assertNull(history.changeRate(end, price, 5 * 60 * MINUTE_MS));
+	}
+}
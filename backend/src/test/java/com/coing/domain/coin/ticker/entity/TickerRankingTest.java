@@ -0,0 +1,76 @@
+package com.coing.domain.coin.ticker.entity;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class TickerRankingTest {
+
+	@Test
+	@DisplayName("값이 바뀐 마켓은 순위가 다시 정렬되고, 같은 값 갱신은 변경으로 보지 않음")
+	void update() {
+		// given
+		TickerRanking ranking = new TickerRanking();
+		assertTrue(ranking.update(slot("KRW-BTC"), 0.01));
+		assertTrue(ranking.update(slot("KRW-ETH"), 0.05));
+		assertTrue(ranking.update(slot("KRW-XRP"), -0.02));
+
+		// when
+		boolean changed = ranking.update(slot("KRW-BTC"), 0.10);
+		boolean unchanged = ranking.update(slot("KRW-ETH"), 0.05);
+
+		// then
+		assertTrue(changed);
+		assertFalse(unchanged);
+		assertEquals(3, ranking.size());
+		assertEquals(List.of("KRW-BTC", "KRW-ETH", "KRW-XRP"), codes(ranking.page(true, 0, 10)));
+		assertEquals(List.of("KRW-XRP", "KRW-ETH", "KRW-BTC"), codes(ranking.page(false, 0, 10)));
+	}
+
+	@Test
+	@DisplayName("offset과 limit으로 순위 구간 조회")
+	void page() {
+		// given
+		TickerRanking ranking = new TickerRanking();
+		for (int i = 0; i < 10; i++) {
+			ranking.update(slot("KRW-C" + i), i);
+		}
+
+		// when
+		List<TickerRanking.Entry> top = ranking.page(true, 0, 3);
+		List<TickerRanking.Entry> second = ranking.page(true, 3, 3);
+		List<TickerRanking.Entry> last = ranking.page(true, 9, 3);
+
+		// then
+		assertEquals(List.of("KRW-C9", "KRW-C8", "KRW-C7"), codes(top));
+		assertEquals(List.of("KRW-C6", "KRW-C5", "KRW-C4"), codes(second));
+		assertEquals(List.of("KRW-C0"), codes(last));
+	}
+
+	@Test
+	@DisplayName("제거한 마켓은 순위에서 빠짐")
+	void remove() {
+		// given
+		TickerRanking ranking = new TickerRanking();
+		ranking.update(slot("KRW-BTC"), 1.0);
+		ranking.update(slot("KRW-ETH"), 2.0);
+
+		// when
+		ranking.remove("KRW-ETH");
+
+		// then
+		assertEquals(1, ranking.size());
+		assertEquals(List.of("KRW-BTC"), codes(ranking.page(true, 0, 10)));
+	}
+
+	private static TickerSlot slot(String code) {
+		return new TickerSlot(code, code, code, 5_000L);
+	}
+
+	private static List<String> codes(List<TickerRanking.Entry> entries) {
+		return entries.stream().map(entry -> entry.slot().getCode()).toList();
+	}
+}
@@ -0,0 +1,80 @@
+package com.coing.domain.coin.ticker.entity;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.coing.domain.coin.common.enums.Change;
+import com.coing.domain.coin.ticker.dto.TickerDto;
+import com.coing.infra.upbit.dto.UpbitWebSocketTickerDto;
+
+public class TickerSlotTest {
+	private static final long BASE = 1_700_000_000_000L;
+
+	@Test
+	@DisplayName("갱신이 없으면 같은 snapshot을 재사용하고, 갱신되면 새 값으로 복사")
+	void snapshot() {
+		// given
+		TickerSlot slot = new TickerSlot("KRW-BTC", "비트코인", "Bitcoin", 5_000L);
+		slot.write(ticker(100.0, BASE));
+
+		// when
+		TickerDto first = slot.snapshot();
+		TickerDto same = slot.snapshot();
+		slot.write(ticker(110.0, BASE + 60_000L));
+		TickerDto updated = slot.snapshot();
+
+		// then
+		assertSame(first, same);
+		assertNotSame(first, updated);
+		assertEquals(100.0, first.tradePrice());
+		assertEquals(110.0, updated.tradePrice());
+		assertEquals("비트코인", updated.koreanName());
+		assertEquals(0.1, updated.oneMinuteRate(), 1e-9);
+	}
+
+	@Test
+	@DisplayName("마켓 이름 변경은 다음 snapshot에 반영")
+	void rename() {
+		// given
+		TickerSlot slot = new TickerSlot("KRW-BTC", "비트코인", "Bitcoin", 5_000L);
+		slot.write(ticker(100.0, BASE));
+		TickerDto before = slot.snapshot();
+
+		// when
+		slot.rename("비트코인2", "Bitcoin2");
+
+		// then
+		assertEquals("비트코인", before.koreanName());
+		assertEquals("비트코인2", slot.snapshot().koreanName());
+		assertEquals("Bitcoin2", slot.snapshot().englishName());
+	}
+
+	private static UpbitWebSocketTickerDto ticker(double tradePrice, long timestamp) {
+		return UpbitWebSocketTickerDto.builder()
+			.type("ticker")
+			.code("KRW-BTC")
+			.openingPrice(tradePrice)
+			.highPrice(tradePrice)
+			.lowPrice(tradePrice)
+			.tradePrice(tradePrice)
+			.prevClosingPrice(tradePrice)
+			.change(Change.EVEN)
+			.changePrice(0.0)
+			.signedChangePrice(0.0)
+			.changeRate(0.0)
+			.signedChangeRate(0.0)
+			.tradeVolume(1.0)
+			.accTradeVolume(1.0)
+			.accTradeVolume24h(1.0)
+			.accTradePrice(tradePrice)
+			.accTradePrice24h(tradePrice)
+			.accAskVolume(0.5)
+			.accBidVolume(0.5)
+			.highest52WeekPrice(tradePrice)
+			.lowest52WeekPrice(tradePrice)
+			.timestamp(timestamp)
+			.build();
+	}
+}
@@ -0,0 +1,146 @@
+package com.coing.domain.coin.ticker.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.coing.domain.coin.common.enums.Change;
+import com.coing.domain.coin.common.service.CoalescingPublisher;
+import com.coing.domain.coin.market.event.MarketListChangedEvent;
+import com.coing.domain.coin.ticker.dto.TickerRankingDto;
+import com.coing.domain.coin.ticker.dto.TickerRankingUpdateDto;
+import com.coing.domain.coin.ticker.entity.TickerSlot;
+import com.coing.domain.coin.ticker.entity.enums.TickerRankingType;
+import com.coing.infra.upbit.dto.UpbitWebSocketTickerDto;
+
+@ExtendWith(MockitoExtension.class)
+public class TickerRankingServiceTest {
+
+	@Mock
+	private CoalescingPublisher coalescingPublisher;
+
+	@InjectMocks
+	private TickerRankingService tickerRankingService;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(tickerRankingService, "publishSize", 2);
+	}
+
+	@Test
+	@DisplayName("getRankings 성공 - 기준 통화별 정렬 기준과 방향에 따라 페이지 조회")
+	void getRankings() {
+		// given
+		tickerRankingService.update(slot("KRW-BTC", 0.01, 300.0));
+		tickerRankingService.update(slot("KRW-ETH", 0.05, 100.0));
+		tickerRankingService.update(slot("KRW-XRP", -0.02, 200.0));
+		tickerRankingService.update(slot("BTC-ETH", 0.50, 999.0));
+
+		// when
+		Page<TickerRankingDto> gainers = tickerRankingService.getRankings("KRW", TickerRankingType.CHANGE_RATE,
+			Sort.Direction.DESC, 0, 2);
+		Page<TickerRankingDto> losers = tickerRankingService.getRankings("KRW", TickerRankingType.CHANGE_RATE,
+			Sort.Direction.ASC, 0, 1);
+		Page<TickerRankingDto> volumeSecondPage = tickerRankingService.getRankings("KRW",
+			TickerRankingType.TRADE_PRICE, Sort.Direction.DESC, 1, 2);
+
+		// then
+		assertEquals(3, gainers.getTotalElements());
+		assertEquals(List.of("KRW-ETH", "KRW-BTC"), gainers.getContent().stream().map(TickerRankingDto::code).toList());
+		assertEquals(1, gainers.getContent().get(0).rank());
+		assertEquals("KRW-XRP", losers.getContent().get(0).code());
+		assertEquals(1, volumeSecondPage.getContent().size());
+		assertEquals("KRW-ETH", volumeSecondPage.getContent().get(0).code());
+		assertEquals(3, volumeSecondPage.getContent().get(0).rank());
+		assertTrue(tickerRankingService.getRankings("USDT", TickerRankingType.CHANGE_RATE, Sort.Direction.DESC, 0, 10)
+			.isEmpty());
+	}
+
+	@Test
+	@DisplayName("상위 순서가 바뀐 경우에만 순위 변경 전송")
+	void publishRankChanges() {
+		// given
+		tickerRankingService.update(slot("KRW-BTC", 0.01, 300.0));
+		tickerRankingService.update(slot("KRW-ETH", 0.05, 100.0));
+		String destination = "/sub/coin/ranking/KRW/CHANGE_RATE";
+
+		// when
+		Object first = lastDeferred(destination).resolve();
+		tickerRankingService.update(slot("KRW-ETH", 0.06, 100.0));
+		Object sameOrder = lastDeferred(destination).resolve();
+		tickerRankingService.update(slot("KRW-BTC", 0.10, 300.0));
+		Object reordered = lastDeferred(destination).resolve();
+
+		// then
+		assertInstanceOf(TickerRankingUpdateDto.class, first);
+		assertNull(sameOrder);
+		TickerRankingUpdateDto update = (TickerRankingUpdateDto)reordered;
+		assertEquals("KRW", update.quote());
+		assertEquals(List.of("KRW-BTC", "KRW-ETH"), update.rankings().stream().map(TickerRankingDto::code).toList());
+	}
+
+	@Test
+	@DisplayName("목록에서 제거된 마켓은 순위에서 제외")
+	void onMarketListChanged() {
+		// given
+		tickerRankingService.update(slot("KRW-BTC", 0.01, 300.0));
+		tickerRankingService.update(slot("KRW-ETH", 0.05, 100.0));
+
+		// when
+		tickerRankingService.onMarketListChanged(new MarketListChangedEvent(List.of(), List.of("KRW-ETH")));
+
+		// then
+		Page<TickerRankingDto> result = tickerRankingService.getRankings("KRW", TickerRankingType.TRADE_VOLUME,
+			Sort.Direction.DESC, 0, 10);
+		assertEquals(1, result.getTotalElements());
+		assertEquals("KRW-BTC", result.getContent().get(0).code());
+	}
+
+	private CoalescingPublisher.Deferred lastDeferred(String destination) {
+		ArgumentCaptor<CoalescingPublisher.Deferred> captor = ArgumentCaptor.forClass(CoalescingPublisher.Deferred.class);
+		verify(coalescingPublisher, atLeastOnce()).publish(eq(destination), captor.capture());
+		return captor.getValue();
+	}
+
+	private static TickerSlot slot(String code, double changeRate, double tradePrice) {
+		TickerSlot slot = new TickerSlot(code, code, code, 5_000L);
+		slot.write(UpbitWebSocketTickerDto.builder()
+			.type("ticker")
+			.code(code)
+			.openingPrice(100.0)
+			.highPrice(100.0)
+			.lowPrice(100.0)
+			.tradePrice(100.0)
+			.prevClosingPrice(100.0)
+			.change(Change.EVEN)
+			.changePrice(0.0)
+			.signedChangePrice(0.0)
+			.changeRate(Math.abs(changeRate))
+			.signedChangeRate(changeRate)
+			.tradeVolume(1.0)
+			.accTradeVolume(1.0)
+			.accTradeVolume24h(tradePrice / 10)
+			.accTradePrice(tradePrice)
+			.accTradePrice24h(tradePrice)
+			.accAskVolume(0.5)
+			.accBidVolume(0.5)
+			.highest52WeekPrice(100.0)
+			.lowest52WeekPrice(100.0)
+			.timestamp(System.currentTimeMillis())
+			.build());
+		return slot;
+	}
+}
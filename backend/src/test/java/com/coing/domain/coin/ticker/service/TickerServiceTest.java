@@ -3,10 +3,9 @@ package com.coing.domain.coin.ticker.service;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
-import java.lang.reflect.Field;
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.util.Map;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,36 +13,36 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
-import org.springframework.messaging.simp.SimpMessageSendingOperations;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import com.coing.domain.coin.common.enums.AskBid;
+import com.coing.domain.coin.common.service.CoalescingPublisher;
 import com.coing.domain.coin.common.enums.Change;
 import com.coing.domain.coin.market.entity.Market;
+import com.coing.domain.coin.market.event.MarketListChangedEvent;
 import com.coing.domain.coin.market.service.MarketService;
+import com.coing.domain.coin.ticker.dto.TickerBatchDto;
 import com.coing.domain.coin.ticker.dto.TickerDto;
-import com.coing.domain.coin.ticker.entity.Ticker;
+import com.coing.domain.coin.ticker.dto.TickerView;
 import com.coing.domain.coin.ticker.entity.enums.MarketState;
 import com.coing.domain.coin.ticker.entity.enums.MarketWarning;
 import com.coing.global.exception.BusinessException;
-import com.coing.infra.upbit.dto.UpbitApiTradeDto;
+import com.coing.infra.upbit.dto.UpbitWebSocketTickerDto;
 import com.coing.util.MessageUtil;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
 
 @SpringBootTest
 public class TickerServiceTest {
 
 	@Mock
-	private SimpMessageSendingOperations simpMessageSendingOperations;
-
-	@Mock
-	private RestTemplate restTemplate;
+	private CoalescingPublisher coalescingPublisher;
 
 	@Mock
 	private MessageUtil messageUtil;
@@ -54,23 +53,44 @@ public class TickerServiceTest {
 	@Mock
 	private MarketService marketService;
 
+	@Mock
+	private TickerRankingService tickerRankingService;
+
+	@Spy
+	private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
 	@Autowired
 	private ObjectMapper mapper;
 
-	private Ticker testTicker;
+	private UpbitWebSocketTickerDto testTicker;
 	private Market testMarket;
 
 	@BeforeEach
 	public void setUp() {
+		ReflectionTestUtils.setField(tickerService, "changeRateBucketMs", 5000L);
+		testTicker = createTicker("KRW-BTC");
+
+		testMarket = Market.builder()
+			.code("KRW-BTC")
+			.koreanName("비트코인")
+			.englishName("Bitcoin")
+			.build();
+	}
+
+	private UpbitWebSocketTickerDto createTicker(String code) {
+		return createTicker(code, 110.0, System.currentTimeMillis());
+	}
+
+	private UpbitWebSocketTickerDto createTicker(String code, double tradePrice, long timestamp) {
 		LocalDate tradeDate = LocalDate.now();
 		LocalTime tradeTime = LocalTime.now();
-		testTicker = Ticker.builder()
+		return UpbitWebSocketTickerDto.builder()
 			.type("ticker")
-			.code("KRW-BTC")
+			.code(code)
 			.openingPrice(100.0)
 			.highPrice(120.0)
 			.lowPrice(90.0)
-			.tradePrice(110.0)
+			.tradePrice(tradePrice)
 			.prevClosingPrice(105.0)
 			.change(Change.RISE)
 			.changePrice(5.0)
@@ -94,13 +114,7 @@ public class TickerServiceTest {
 			.lowest52WeekDate(LocalDate.of(2023, 1, 1))
 			.marketState(MarketState.ACTIVE)
 			.marketWarning(MarketWarning.NONE)
-			.timestamp(System.currentTimeMillis())
-			.build();
-
-		testMarket = Market.builder()
-			.code("KRW-BTC")
-			.koreanName("비트코인")
-			.englishName("Bitcoin")
+			.timestamp(timestamp)
 			.build();
 	}
 
@@ -119,6 +133,59 @@ public class TickerServiceTest {
 		assertEquals(testTicker.getCode(), result.code());
 	}
 
+	@Test
+	@DisplayName("getTickers 성공 - 요청한 마켓 순서대로 조회, 중복 및 없는 마켓 제외")
+	void getTickers() {
+		// given
+		when(marketService.getCachedMarketByCode(anyString())).thenReturn(testMarket);
+		tickerService.updateTicker(testTicker);
+		tickerService.updateTicker(createTicker("KRW-ETH"));
+
+		// when
+		List<TickerDto> result = tickerService.getTickers(List.of("KRW-ETH", "KRW-XRP", "KRW-BTC", "KRW-ETH"));
+
+		// then
+		assertEquals(List.of("KRW-ETH", "KRW-BTC"), result.stream().map(TickerDto::code).toList());
+	}
+
+	@Test
+	@DisplayName("getTickerFragments 성공 - Ticker가 바뀌지 않으면 직렬화한 조각 재사용")
+	void getTickerFragments_Reuse() throws Exception {
+		// given
+		when(marketService.getCachedMarketByCode(anyString())).thenReturn(testMarket);
+		tickerService.updateTicker(testTicker);
+
+		// when
+		List<RawValue> first = tickerService.getTickerFragments(List.of("KRW-BTC"), TickerView.FULL);
+		List<RawValue> second = tickerService.getTickerFragments(List.of("KRW-BTC"), TickerView.FULL);
+		tickerService.updateTicker(createTicker("KRW-BTC"));
+		List<RawValue> third = tickerService.getTickerFragments(List.of("KRW-BTC"), TickerView.FULL);
+
+		// then
+		assertSame(first.get(0), second.get(0));
+		assertNotSame(first.get(0), third.get(0));
+		verify(objectMapper, times(2)).writeValueAsString(any());
+	}
+
+	@Test
+	@DisplayName("getTickerFragments 성공 - SUMMARY는 목록용 필드만 직렬화")
+	void getTickerFragments_Summary() throws Exception {
+		// given
+		when(marketService.getCachedMarketByCode(anyString())).thenReturn(testMarket);
+		tickerService.updateTicker(testTicker);
+
+		// when
+		List<RawValue> result = tickerService.getTickerFragments(List.of("KRW-BTC", "KRW-ETH"), TickerView.SUMMARY);
+
+		// then
+		assertEquals(1, result.size());
+		JsonNode jsonNode = mapper.readTree(result.get(0).rawValue().toString());
+		assertEquals("KRW-BTC", jsonNode.get("code").asText());
+		assertEquals("비트코인", jsonNode.get("koreanName").asText());
+		assertEquals(110.0, jsonNode.get("tradePrice").asDouble());
+		assertNull(jsonNode.get("openingPrice"));
+	}
+
 	@Test
 	@DisplayName("getTicker 실패 - 존재하지 않는 현재가 조회 시 예외 발생")
 	void getTicker_Failure() {
@@ -133,81 +200,127 @@ public class TickerServiceTest {
 	}
 
 	@Test
-	@DisplayName("updateTicker 성공 - 캐시에 저장 확인")
-	void updateTicker() throws Exception {
+	@DisplayName("updateTicker 성공 - 마켓 슬롯에 기록하고 마켓 이름은 처음 한 번만 조회")
+	void updateTicker() {
 		// when
 		when(marketService.getCachedMarketByCode(anyString())).thenReturn(testMarket);
 		tickerService.updateTicker(testTicker);
+		tickerService.updateTicker(createTicker("KRW-BTC", 120.0, System.currentTimeMillis()));
 
 		// then
-		TickerDto cachedTicker = getTickerCache().get(testTicker.getCode());
-		assertNotNull(cachedTicker);
+		TickerDto cachedTicker = tickerService.getTicker(testTicker.getCode());
 		assertEquals(testTicker.getCode(), cachedTicker.code());
+		assertEquals("비트코인", cachedTicker.koreanName());
+		assertEquals(120.0, cachedTicker.tradePrice());
+		assertSame(cachedTicker, tickerService.getTicker(testTicker.getCode()));
+		verify(marketService, times(1)).getCachedMarketByCode("KRW-BTC");
+		verify(tickerRankingService, times(2)).update(any());
 	}
 
-	@SuppressWarnings("unchecked")
-	private Map<String, TickerDto> getTickerCache() throws Exception {
-		Field field = TickerService.class.getDeclaredField("tickerCache");
-		field.setAccessible(true);
-		return (Map<String, TickerDto>)field.get(tickerService);
+	@Test
+	@DisplayName("updateTicker 성공 - 가격 이력으로 기간별 변동률 계산")
+	void updateTicker_ChangeRates() {
+		// given
+		when(marketService.getCachedMarketByCode(anyString())).thenReturn(testMarket);
+		long now = 1_700_000_000_000L;
+		tickerService.updateTicker(createTicker("KRW-BTC", 100.0, now - 5 * 60_000L));
+		tickerService.updateTicker(createTicker("KRW-BTC", 120.0, now - 60_000L));
+
+		// when
+		tickerService.updateTicker(createTicker("KRW-BTC", 132.0, now));
+
+		// then
+		TickerDto result = tickerService.getTicker("KRW-BTC");
+		assertEquals(0.1, result.oneMinuteRate(), 1e-9);
+		assertEquals(0.32, result.fiveMinuteRate(), 1e-9);
+		assertNull(result.fifteenMinuteRate());
+		assertNull(result.fourHourRate());
+		verifyNoInteractions(messageUtil);
 	}
 
 	@Test
-	@DisplayName("fetchPastTradePrice 성공 - 정상적인 과거 체결 가격 조회")
-	void fetchPastTradePrice_Success() {
+	@DisplayName("publish 성공 - 기준 통화별 destination으로 마지막 전송 이후 바뀐 마켓만 묶어서 전송")
+	void publishBatch() throws Exception {
 		// given
-		double pastTradePrice = 100.0;
-		UpbitApiTradeDto mockTradeDto = createMockTradeDto("KRW-BTC", pastTradePrice);
-		UpbitApiTradeDto[] responseArray = new UpbitApiTradeDto[] {mockTradeDto};
-		ResponseEntity<UpbitApiTradeDto[]> responseEntity = new ResponseEntity<>(responseArray, HttpStatus.OK);
-		when(restTemplate.getForEntity(anyString(), eq(UpbitApiTradeDto[].class))).thenReturn(responseEntity);
+		when(marketService.getCachedMarketByCode(anyString())).thenReturn(testMarket);
+		tickerService.updateTicker(testTicker);
+		tickerService.updateTicker(createTicker("KRW-ETH"));
 
 		// when
-		double result = tickerService.calculateOneMinuteRate("KRW-BTC", 110.0);
+		Object first = lastBatch("KRW").resolve();
+		Object empty = lastBatch("KRW").resolve();
+		tickerService.updateTicker(createTicker("KRW-ETH"));
+		Object second = lastBatch("KRW").resolve();
 
 		// then
-		assertEquals(0.1, result);
+		TickerBatchDto batch = (TickerBatchDto)first;
+		assertEquals("KRW", batch.quote());
+		assertEquals(2, batch.tickers().size());
+		assertNull(empty);
+		TickerBatchDto next = (TickerBatchDto)second;
+		assertEquals(1, next.tickers().size());
+		JsonNode jsonNode = mapper.readTree(mapper.writeValueAsString(next));
+		assertEquals("tickerBatch", jsonNode.get("type").asText());
+		assertEquals("KRW-ETH", jsonNode.get("tickers").get(0).get("code").asText());
+	}
+
+	private CoalescingPublisher.Deferred lastBatch(String quote) {
+		ArgumentCaptor<CoalescingPublisher.Deferred> captor = ArgumentCaptor.forClass(CoalescingPublisher.Deferred.class);
+		verify(coalescingPublisher, atLeastOnce()).publish(eq("/sub/coin/ticker/" + quote), captor.capture());
+		return captor.getValue();
 	}
 
 	@Test
-	@DisplayName("fetchPastTradePrice 실패 - API 응답 오류")
-	void fetchPastTradePrice_Failure() {
-		// given
-		when(restTemplate.getForEntity(anyString(), eq(UpbitApiTradeDto[].class)))
-			.thenReturn(new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR));
-		when(messageUtil.resolveMessage("trade.fetch.failed")).thenReturn("체결가 조회 실패");
+	@DisplayName("updateTicker 성공 - 캐시에 없는 마켓은 이름 없이 기록하고 목록 변경 이벤트에서 이름 반영")
+	void updateTicker_UnknownMarket() {
+		// given: 마켓 목록 갱신 전에 수신한 신규 상장 마켓
+		when(marketService.getCachedMarketByCode("KRW-BTC"))
+			.thenThrow(new BusinessException("마켓을 찾을 수 없습니다.", HttpStatus.NOT_FOUND))
+			.thenReturn(testMarket);
 
-		// when & then
-		BusinessException exception = assertThrows(BusinessException.class, () ->
-			tickerService.calculateOneMinuteRate("KRW-BTC", 110.0));
+		// when
+		tickerService.updateTicker(testTicker);
+		TickerDto unnamed = tickerService.getTicker("KRW-BTC");
+		tickerService.onMarketListChanged(new MarketListChangedEvent(List.of("KRW-BTC"), List.of()));
 
-		assertEquals("체결가 조회 실패", exception.getMessage());
+		// then
+		assertEquals(110.0, unnamed.tradePrice());
+		assertNull(unnamed.koreanName());
+		assertEquals("비트코인", tickerService.getTicker("KRW-BTC").koreanName());
 	}
 
-	private UpbitApiTradeDto createMockTradeDto(String market, double price) {
-		UpbitApiTradeDto tradeDto = mock(UpbitApiTradeDto.class);
-		when(tradeDto.getMarket()).thenReturn(market);
-		when(tradeDto.getTradePrice()).thenReturn(price);
-		return tradeDto;
+	@Test
+	@DisplayName("onMarketListChanged 성공 - 이름을 조회하지 못한 마켓은 건너뛰고 예외를 전파하지 않음")
+	void onMarketListChanged_MarketNotFound() {
+		// given
+		when(marketService.getCachedMarketByCode("KRW-BTC"))
+			.thenReturn(testMarket)
+			.thenThrow(new BusinessException("마켓을 찾을 수 없습니다.", HttpStatus.NOT_FOUND));
+		tickerService.updateTicker(testTicker);
+
+		// when & then
+		assertDoesNotThrow(() -> tickerService.onMarketListChanged(
+			new MarketListChangedEvent(List.of("KRW-BTC"), List.of())));
+		assertEquals("비트코인", tickerService.getTicker("KRW-BTC").koreanName());
 	}
 
 	@Test
-	@DisplayName("publishCachedTickers 성공 - WebSocket을 통해 데이터 전송")
+	@DisplayName("publishCachedTickers 성공 - WebSocket을 통해 전송 시점의 데이터 전송")
 	void publishCachedTickers() throws JsonProcessingException {
 		// given
 		when(marketService.getCachedMarketByCode(anyString())).thenReturn(testMarket);
-		tickerService.updateTicker(testTicker);
-		TickerDto dto = TickerDto.from(testTicker, testMarket);
 
 		// when
-		tickerService.publish(dto);
+		tickerService.updateTicker(testTicker);
+		tickerService.updateTicker(createTicker("KRW-BTC", 120.0, System.currentTimeMillis()));
 
 		// then
-		ArgumentCaptor<TickerDto> captor = ArgumentCaptor.forClass(TickerDto.class);
-		verify(simpMessageSendingOperations, times(1))
-			.convertAndSend(eq("/sub/coin/ticker/KRW-BTC"), captor.capture());
+		ArgumentCaptor<CoalescingPublisher.Deferred> captor = ArgumentCaptor.forClass(CoalescingPublisher.Deferred.class);
+		verify(coalescingPublisher, times(2))
+			.publish(eq("/sub/coin/ticker/KRW-BTC"), captor.capture());
 
-		TickerDto sentDto = captor.getValue();
+		TickerDto sentDto = (TickerDto)captor.getValue().resolve();
+		assertEquals(120.0, sentDto.tradePrice());
 		String actualValue = mapper.writeValueAsString(sentDto);
 		JsonNode jsonNode = mapper.readTree(actualValue);
 
@@ -12,10 +12,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.messaging.simp.SimpMessageSendingOperations;
 
+import com.coing.domain.coin.common.service.CoalescingPublisher;
 import com.coing.domain.coin.trade.dto.TradeDto;
+import com.coing.domain.coin.trade.dto.TradeResponse;
 import com.coing.domain.coin.trade.entity.Trade;
+import com.coing.domain.coin.trade.event.TradeResyncRequiredEvent;
 import com.coing.global.exception.BusinessException;
 import com.coing.util.MessageUtil;
 
@@ -28,6 +32,12 @@ public class TradeServiceTest {
 	@Mock
 	private MessageUtil messageUtil;
 
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@Mock
+	private CoalescingPublisher coalescingPublisher;
+
 	@InjectMocks
 	private TradeService tradeService;
 
@@ -41,6 +51,8 @@ public class TradeServiceTest {
 			.code("KRW-BTC")
 			.tradePrice(1000.0)
 			.tradeVolume(0.5)
+			.tradeTimeStamp(1000L)
+			.sequentialId(1L)
 			.build(); // 예시 값
 	}
 
@@ -72,6 +84,101 @@ public class TradeServiceTest {
 		assertEquals("해당 체결을 찾을 수 없습니다.", exception.getMessage());
 	}
 
+	@Test
+	@DisplayName("updateTrade - 누적 VWAP, 평균 체결 크기, 체결가격 충격 계산 및 일일 초기화")
+	void updateTrade_Statistics() {
+		// given
+		Trade next = tradeOf(2L, 2000L, 2000.0, 1.5);
+
+		// when
+		tradeService.updateTrade(trade);
+		tradeService.updateTrade(next);
+
+		// then
+		TradeDto last = tradeService.getTrades("KRW-BTC").getLast();
+		assertEquals((1000.0 * 0.5 + 2000.0 * 1.5) / 2.0, last.vwap(), 1e-9);
+		assertEquals(1.0, last.averageTradeSize(), 1e-9);
+		assertEquals(100.0, last.tradeImpact(), 1e-9);
+
+		// when: 일일 초기화 후 다음 체결
+		tradeService.resetCaches();
+		tradeService.updateTrade(tradeOf(3L, 3000L, 1000.0, 0.5));
+
+		// then
+		TradeDto afterReset = tradeService.getTrades("KRW-BTC").getLast();
+		assertEquals(1000.0, afterReset.vwap(), 1e-9);
+		assertEquals(0.5, afterReset.averageTradeSize(), 1e-9);
+		assertEquals(0.0, afterReset.tradeImpact(), 1e-9);
+	}
+
+	@Test
+	@DisplayName("updateTrade - 이미 반영한 체결 번호는 중복으로 제외")
+	void updateTrade_Duplicate() {
+		// when
+		tradeService.updateTrade(trade);
+		tradeService.updateTrade(trade);
+
+		// then
+		assertEquals(1, tradeService.getTrades("KRW-BTC").size());
+		assertEquals(1, tradeService.getDuplicateCount());
+	}
+
+	@Test
+	@DisplayName("updateTrade - 재연결 후 첫 체결 수신 시 누락 구간 보정 이벤트 발행")
+	void updateTrade_ResyncRequired() {
+		// given
+		tradeService.updateTrade(trade);
+		tradeService.requestResync(List.of("KRW-BTC"));
+
+		// when
+		tradeService.updateTrade(tradeOf(10L, 5000L, 1100.0, 1.0));
+
+		// then
+		verify(eventPublisher, times(1))
+			.publishEvent(new TradeResyncRequiredEvent("KRW-BTC", 1000L, 10L));
+		assertEquals(1, tradeService.getResyncCount());
+		assertEquals(1, tradeService.getGapCount());
+	}
+
+	@Test
+	@DisplayName("updateTrade - 재연결 후 스냅샷 체결이 마지막 반영 체결과 같으면 보정하지 않음")
+	void updateTrade_ResyncWithoutGap() {
+		// given
+		tradeService.updateTrade(trade);
+		tradeService.requestResync(List.of("KRW-BTC"));
+
+		// when: 구독 직후 스냅샷으로 같은 체결을 다시 수신한 뒤 새 체결 수신
+		tradeService.updateTrade(trade);
+		tradeService.updateTrade(tradeOf(10L, 5000L, 1100.0, 1.0));
+
+		// then
+		verify(eventPublisher, never()).publishEvent(any(TradeResyncRequiredEvent.class));
+		assertEquals(1, tradeService.getResyncCount());
+		assertEquals(0, tradeService.getGapCount());
+	}
+
+	@Test
+	@DisplayName("applyBackfill - 누락 체결을 체결 시각 순으로 병합하고 중복은 제외")
+	void applyBackfill() {
+		// given
+		tradeService.updateTrade(trade);
+		tradeService.updateTrade(tradeOf(10L, 5000L, 1100.0, 1.0));
+
+		// when
+		tradeService.applyBackfill("KRW-BTC", List.of(
+			tradeOf(5L, 3000L, 1050.0, 1.0),
+			tradeOf(4L, 2000L, 1020.0, 1.0),
+			tradeOf(10L, 5000L, 1100.0, 1.0)
+		));
+
+		// then
+		List<Long> ids = tradeService.getTrades("KRW-BTC").stream().map(TradeDto::sequentialId).toList();
+		assertEquals(List.of(1L, 4L, 5L, 10L), ids);
+		assertEquals(2, tradeService.getBackfilledCount());
+		verify(simpMessageSendingOperations, times(1))
+			.convertAndSend(eq("/sub/coin/trade/KRW-BTC/backfill"), any(TradeResponse.class));
+	}
+
 	@Test
 	public void testPublish() {
 		// When
@@ -79,8 +186,19 @@ public class TradeServiceTest {
 		tradeService.publish(dto);
 
 		// Then
-		// SimpMessageSendingOperations가 호출됐는지 확인
-		verify(simpMessageSendingOperations, times(1))
-			.convertAndSend(eq("/sub/coin/trade/KRW-BTC"), any(TradeDto.class));
+		// CoalescingPublisher로 전달됐는지 확인
+		verify(coalescingPublisher, times(1))
+			.publish(eq("/sub/coin/trade/KRW-BTC"), any(TradeDto.class));
+	}
+
+	private Trade tradeOf(long sequentialId, long tradeTimeStamp, double price, double volume) {
+		return Trade.builder()
+			.type("trade")
+			.code("KRW-BTC")
+			.tradePrice(price)
+			.tradeVolume(volume)
+			.tradeTimeStamp(tradeTimeStamp)
+			.sequentialId(sequentialId)
+			.build();
 	}
 }
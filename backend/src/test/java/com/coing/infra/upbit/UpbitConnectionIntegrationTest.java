@@ -12,21 +12,47 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.PingMessage;
 import org.springframework.web.socket.PongMessage;
+import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketHandler;
 import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.client.WebSocketClient;
 import org.springframework.web.socket.handler.AbstractWebSocketHandler;
 
-@SpringBootTest
+import com.coing.infra.upbit.codec.UpbitMessageCodec;
+import com.coing.infra.upbit.enums.EnumUpbitRequestType;
+import com.coing.infra.upbit.stub.UpbitStubWebSocketHandler;
+
+/**
+ * 가짜 Upbit WebSocket 서버(`upbit-stub` 프로필)를 대상으로 한 연결 테스트
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({"dev", "upbit-stub"})
 public class UpbitConnectionIntegrationTest {
 
 	@Autowired
 	private WebSocketClient webSocketClient;
 
-	@Value("${upbit.websocket.uri}")
-	private String upbitWebSocketUri;
+	@Autowired
+	private UpbitMessageCodec upbitMessageCodec;
+
+	@Autowired
+	private UpbitStubWebSocketHandler upbitStubWebSocketHandler;
+
+	@LocalServerPort
+	private int port;
+
+	@Value("${upbit.stub.path}")
+	private String stubPath;
+
+	private String stubUri() {
+		return "ws://localhost:" + port + stubPath;
+	}
 
 	@Test
 	@DisplayName("Upbit Connection 연결 성공")
@@ -41,7 +67,7 @@ public class UpbitConnectionIntegrationTest {
 
 			@Override
 			public void handlePongMessage(WebSocketSession session, PongMessage message) {
-				String payload = new String(message.getPayload().array(), StandardCharsets.UTF_8);
+				String payload = StandardCharsets.UTF_8.decode(message.getPayload()).toString();
 				if ("PING".equals(payload)) {
 					latch.countDown();
 				}
@@ -49,10 +75,53 @@ public class UpbitConnectionIntegrationTest {
 		};
 
 		// when
-		webSocketClient.execute(testHandler, upbitWebSocketUri);
+		webSocketClient.execute(testHandler, stubUri());
 
-		// then: 최대 5초 동안 Pong 응답(PING)이 도착하는지 확인
+		// then: 최대 10초 동안 Pong 응답(PING)이 도착하는지 확인
 		boolean connected = latch.await(10, TimeUnit.SECONDS);
 		assertThat(connected).isTrue();
 	}
+
+	@Test
+	@DisplayName("구독 메시지 전송 시 구독한 타입의 SIMPLE 포맷 프레임 수신 후 연결 종료 주입")
+	public void receiveSubscribedFramesAndInjectDisconnect() throws Exception {
+		// Given
+		CountDownLatch received = new CountDownLatch(10);
+		CountDownLatch closed = new CountDownLatch(1);
+		WebSocketHandler testHandler = new AbstractWebSocketHandler() {
+			@Override
+			public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+				session.sendMessage(new TextMessage(
+					"[{\"ticket\":\"test\"},{\"type\":\"trade\",\"codes\":[\"KRW-BTC\",\"KRW-ETH\"]},{\"format\":\"SIMPLE\"}]"));
+			}
+
+			@Override
+			protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) throws Exception {
+				ByteBuffer payload = message.getPayload();
+				if (upbitMessageCodec.isKeepalive(payload)) {
+					return;
+				}
+				assertThat(upbitMessageCodec.peekType(payload)).isEqualTo(EnumUpbitRequestType.TRADE);
+				assertThat(upbitMessageCodec.decodeTrade(payload).getCode()).startsWith("KRW-");
+				received.countDown();
+			}
+
+			@Override
+			public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+				closed.countDown();
+			}
+		};
+
+		// when
+		webSocketClient.execute(testHandler, stubUri());
+
+		// then
+		assertThat(received.await(10, TimeUnit.SECONDS)).isTrue();
+
+		// when: 서버 측 연결 종료 주입
+		upbitStubWebSocketHandler.disconnectAll();
+
+		// then
+		assertThat(closed.await(10, TimeUnit.SECONDS)).isTrue();
+	}
 }
@@ -0,0 +1,64 @@
+package com.coing.infra.upbit.adapter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.coing.domain.coin.orderbook.service.OrderbookService;
+import com.coing.domain.coin.ticker.service.TickerService;
+import com.coing.domain.coin.trade.service.TradeService;
+import com.coing.infra.upbit.pipeline.UpbitStreamDeduplicator;
+import com.coing.infra.upbit.subscription.UpbitMarketRateTracker;
+
+@ExtendWith(MockitoExtension.class)
+public class UpbitDataServiceTest {
+
+	@Mock
+	private OrderbookService orderbookService;
+
+	@Mock
+	private TickerService tickerService;
+
+	@Mock
+	private TradeService tradeService;
+
+	@Mock
+	private UpbitMarketRateTracker upbitMarketRateTracker;
+
+	@Mock
+	private UpbitStreamDeduplicator upbitStreamDeduplicator;
+
+	@InjectMocks
+	private UpbitDataService upbitDataService;
+
+	@Test
+	@DisplayName("파이프라인 없이 standby를 사용하면 시작 시 실패")
+	void startPipeline_StandbyWithoutPipeline() {
+		// given
+		ReflectionTestUtils.setField(upbitDataService, "pipelineEnabled", false);
+		ReflectionTestUtils.setField(upbitDataService, "standby", true);
+
+		// when & then
+		assertThrows(IllegalStateException.class, () -> upbitDataService.startPipeline());
+	}
+
+	@Test
+	@DisplayName("파이프라인과 standby를 모두 사용하지 않으면 수신 스레드에서 직접 처리")
+	void startPipeline_Disabled() {
+		// given
+		ReflectionTestUtils.setField(upbitDataService, "pipelineEnabled", false);
+		ReflectionTestUtils.setField(upbitDataService, "standby", false);
+
+		// when
+		upbitDataService.startPipeline();
+
+		// then
+		assertNull(upbitDataService.getShards());
+	}
+}
@@ -66,6 +66,56 @@ public class UpbitWebSocketConnectionTest {
 		});
 	}
 
+	@Test
+	@DisplayName("메시지 수신이 끊긴 연결은 stall 상태로 판단")
+	public void isStalled() {
+		// given
+		CompletableFuture<WebSocketSession> future = CompletableFuture.completedFuture(session);
+		when(webSocketClient.execute(eq(handler), eq(UPBIT_WEBSOCKET_URI))).thenReturn(future);
+		connection.connect();
+		long now = System.currentTimeMillis();
+
+		// when & then: 최근 메시지가 있으면 정상
+		when(handler.getLastMessageAt()).thenReturn(now);
+		assertFalse(connection.isStalled(now + 1000, 5000));
+
+		// when & then: timeout 이상 메시지가 없으면 stall
+		assertTrue(connection.isStalled(now + 6000, 5000));
+	}
+
+	@Test
+	@DisplayName("구독하지 않은 idle 연결은 메시지가 없어도 stall로 판단하지 않음")
+	public void isStalledIgnoresIdle() {
+		// given
+		CompletableFuture<WebSocketSession> future = CompletableFuture.completedFuture(session);
+		when(webSocketClient.execute(eq(handler), eq(UPBIT_WEBSOCKET_URI))).thenReturn(future);
+		connection.connect();
+		long now = System.currentTimeMillis();
+
+		// when
+		when(handler.isIdle()).thenReturn(true);
+
+		// then
+		assertFalse(connection.isStalled(now + 60_000, 5000));
+	}
+
+	@Test
+	@DisplayName("구독 메시지 전송 시각부터 stall timeout 계산")
+	public void isStalledAfterResubscribe() {
+		// given
+		CompletableFuture<WebSocketSession> future = CompletableFuture.completedFuture(session);
+		when(webSocketClient.execute(eq(handler), eq(UPBIT_WEBSOCKET_URI))).thenReturn(future);
+		connection.connect();
+		long now = System.currentTimeMillis();
+
+		// when: 오래 idle이었다가 방금 구독
+		when(handler.getSubscribedAt()).thenReturn(now + 60_000);
+
+		// then
+		assertFalse(connection.isStalled(now + 61_000, 5000));
+		assertTrue(connection.isStalled(now + 66_000, 5000));
+	}
+
 	@Test
 	@DisplayName("WebSocket 연결 실패 - CompletableFuture 예외")
 	public void connectionFailure() {
@@ -3,6 +3,7 @@ package com.coing.infra.upbit.adapter;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -15,10 +16,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.socket.client.WebSocketClient;
 
-import com.coing.infra.upbit.enums.EnumUpbitWebSocketType;
+import com.coing.domain.coin.market.event.MarketListChangedEvent;
+import com.coing.infra.upbit.enums.EnumUpbitRequestType;
 import com.coing.infra.upbit.handler.UpbitWebSocketOrderbookHandler;
 import com.coing.infra.upbit.handler.UpbitWebSocketTickerHandler;
 import com.coing.infra.upbit.handler.UpbitWebSocketTradeHandler;
+import com.coing.infra.upbit.subscription.UpbitMarketRateTracker;
+import com.coing.infra.upbit.util.UpbitRequestBuilder;
 
 @ExtendWith(MockitoExtension.class)
 public class UpbitWebSocketServiceTest {
@@ -35,6 +39,12 @@ public class UpbitWebSocketServiceTest {
 	@Mock
 	private UpbitWebSocketTradeHandler tradeHandler;
 
+	@Mock
+	private UpbitRequestBuilder upbitRequestBuilder;
+
+	@Mock
+	private UpbitMarketRateTracker upbitMarketRateTracker;
+
 	@InjectMocks
 	private UpbitWebSocketService service;
 
@@ -53,13 +63,52 @@ public class UpbitWebSocketServiceTest {
 
 		// then
 		@SuppressWarnings("unchecked")
-		Map<EnumUpbitWebSocketType, UpbitWebSocketConnection> connections =
-			(Map<EnumUpbitWebSocketType, UpbitWebSocketConnection>)
+		Map<String, UpbitWebSocketConnection> connections =
+			(Map<String, UpbitWebSocketConnection>)
 				ReflectionTestUtils.getField(service, "connections");
 
 		assertEquals(3, connections.size());
 	}
 
+	@Test
+	@DisplayName("init() 시 multiplexed 모드면 하나의 Connection 생성")
+	public void initMultiplexed() {
+		// given
+		ReflectionTestUtils.setField(service, "multiplexed", true);
+
+		// when
+		service.init();
+
+		// then
+		@SuppressWarnings("unchecked")
+		Map<String, UpbitWebSocketConnection> connections =
+			(Map<String, UpbitWebSocketConnection>)
+				ReflectionTestUtils.getField(service, "connections");
+
+		assertEquals(1, connections.size());
+	}
+
+	@Test
+	@DisplayName("init() 시 sharded 모드면 타입별 Shard 수만큼 Connection 생성")
+	public void initSharded() {
+		// given
+		ReflectionTestUtils.setField(service, "connectionShards", 2);
+		when(upbitRequestBuilder.getMarketCodes()).thenReturn(List.of("KRW-BTC", "KRW-ETH", "KRW-XRP"));
+
+		// when
+		service.init();
+
+		// then
+		@SuppressWarnings("unchecked")
+		Map<String, UpbitWebSocketConnection> connections =
+			(Map<String, UpbitWebSocketConnection>)
+				ReflectionTestUtils.getField(service, "connections");
+
+		assertEquals(6, connections.size());
+		assertTrue(connections.containsKey("ORDERBOOK-0"));
+		assertTrue(connections.containsKey("TRADE-1"));
+	}
+
 	@Test
 	@DisplayName("sendPingMessages() 호출 시 모든 Connection에 Ping 전송")
 	public void sendPingMessages() {
@@ -67,8 +116,8 @@ public class UpbitWebSocketServiceTest {
 		service.init();
 
 		@SuppressWarnings("unchecked")
-		Map<EnumUpbitWebSocketType, UpbitWebSocketConnection> connections =
-			(Map<EnumUpbitWebSocketType, UpbitWebSocketConnection>)
+		Map<String, UpbitWebSocketConnection> connections =
+			(Map<String, UpbitWebSocketConnection>)
 				ReflectionTestUtils.getField(service, "connections");
 
 		connections.forEach((type, conn) -> {
@@ -90,8 +139,8 @@ public class UpbitWebSocketServiceTest {
 		service.init();
 
 		@SuppressWarnings("unchecked")
-		Map<EnumUpbitWebSocketType, UpbitWebSocketConnection> connections =
-			(Map<EnumUpbitWebSocketType, UpbitWebSocketConnection>)
+		Map<String, UpbitWebSocketConnection> connections =
+			(Map<String, UpbitWebSocketConnection>)
 				ReflectionTestUtils.getField(service, "connections");
 
 		connections.forEach((type, conn) -> {
@@ -105,4 +154,106 @@ public class UpbitWebSocketServiceTest {
 		// then
 		connections.forEach((type, spyConn) -> verify(spyConn, times(1)).disconnect());
 	}
+
+	@Test
+	@DisplayName("checkStalledConnections() 시 stall 상태인 Connection만 즉시 재연결")
+	void checkStalledConnections() {
+		// given
+		service.init();
+
+		@SuppressWarnings("unchecked")
+		Map<String, UpbitWebSocketConnection> connections =
+			(Map<String, UpbitWebSocketConnection>)
+				ReflectionTestUtils.getField(service, "connections");
+
+		UpbitWebSocketConnection stalled = mock(UpbitWebSocketConnection.class);
+		UpbitWebSocketConnection healthy = mock(UpbitWebSocketConnection.class);
+		when(stalled.isStalled(anyLong(), anyLong())).thenReturn(true);
+		when(healthy.isStalled(anyLong(), anyLong())).thenReturn(false);
+		connections.clear();
+		connections.put("ORDERBOOK", stalled);
+		connections.put("TICKER", healthy);
+
+		// when
+		service.checkStalledConnections();
+
+		// then
+		verify(stalled, times(1)).forceReconnect();
+		verify(healthy, never()).forceReconnect();
+		assertEquals(1, service.getStallCount());
+	}
+
+	@Test
+	@DisplayName("init() 시 standby 설정이면 Connection마다 standby Connection 생성")
+	void initStandby() {
+		// given
+		ReflectionTestUtils.setField(service, "standby", true);
+
+		// when
+		service.init();
+
+		// then
+		@SuppressWarnings("unchecked")
+		Map<String, UpbitWebSocketConnection> connections =
+			(Map<String, UpbitWebSocketConnection>)
+				ReflectionTestUtils.getField(service, "connections");
+
+		assertEquals(6, connections.size());
+		assertTrue(connections.containsKey("ORDERBOOK-STANDBY"));
+	}
+
+	@Test
+	@DisplayName("마켓 목록 변경 시 sharded 모드면 배정 마켓이 바뀐 Shard에만 구독 재전송")
+	void onMarketListChangedSharded() {
+		// given
+		ReflectionTestUtils.setField(service, "connectionShards", 2);
+		when(upbitRequestBuilder.getMarketCodes()).thenReturn(List.of("KRW-BTC", "KRW-ETH", "KRW-XRP", "KRW-SOL"));
+		service.init();
+
+		@SuppressWarnings("unchecked")
+		Map<String, UpbitWebSocketConnection> connections =
+			(Map<String, UpbitWebSocketConnection>)
+				ReflectionTestUtils.getField(service, "connections");
+		connections.replaceAll((name, conn) -> mock(UpbitWebSocketConnection.class));
+
+		// when: 두 번째 Shard에 배정된 KRW-XRP만 상장 폐지
+		service.onMarketListChanged(new MarketListChangedEvent(List.of(), List.of("KRW-XRP")));
+
+		// then
+		verify(connections.get("ORDERBOOK-1"), times(1)).resubscribe();
+		verify(connections.get("ORDERBOOK-0"), never()).resubscribe();
+		verify(connections.get("TRADE-1"), times(1)).resubscribe();
+		verify(connections.get("TRADE-0"), never()).resubscribe();
+	}
+
+	@Test
+	@DisplayName("재분배 시 배정 마켓이 바뀐 Shard는 재연결 없이 구독만 재전송하고 standby도 연결 유지")
+	void rebalanceShardsResubscribes() {
+		// given: 초기 분배 [KRW-BTC, KRW-SOL], [KRW-ETH, KRW-XRP]
+		ReflectionTestUtils.setField(service, "connectionShards", 2);
+		ReflectionTestUtils.setField(service, "rebalanceThreshold", 1.5);
+		ReflectionTestUtils.setField(service, "standby", true);
+		when(upbitRequestBuilder.getMarketCodes()).thenReturn(List.of("KRW-BTC", "KRW-ETH", "KRW-XRP", "KRW-SOL"));
+		service.init();
+
+		@SuppressWarnings("unchecked")
+		Map<String, UpbitWebSocketConnection> connections =
+			(Map<String, UpbitWebSocketConnection>)
+				ReflectionTestUtils.getField(service, "connections");
+		connections.replaceAll((name, conn) -> mock(UpbitWebSocketConnection.class));
+
+		Map<String, Long> counts = Map.of("KRW-BTC", 1000L, "KRW-SOL", 900L, "KRW-ETH", 10L, "KRW-XRP", 10L);
+		when(upbitMarketRateTracker.drainCounts(any())).thenAnswer(invocation ->
+			invocation.getArgument(0) == EnumUpbitRequestType.ORDERBOOK ? counts : Map.of());
+
+		// when
+		service.rebalanceShards();
+
+		// then
+		verify(connections.get("ORDERBOOK-0"), times(1)).resubscribe();
+		verify(connections.get("ORDERBOOK-0-STANDBY"), times(1)).resubscribe();
+		verify(connections.get("ORDERBOOK-1"), times(1)).resubscribe();
+		connections.values().forEach(conn -> verify(conn, never()).reconnect());
+		verify(connections.get("TICKER-0"), never()).resubscribe();
+	}
 }
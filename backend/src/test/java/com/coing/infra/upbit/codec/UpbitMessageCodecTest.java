@@ -0,0 +1,51 @@
+package com.coing.infra.upbit.codec;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.coing.infra.upbit.dto.UpbitWebSocketOrderbookDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class UpbitMessageCodecTest {
+
+	private final UpbitMessageCodec codec = new UpbitMessageCodec(new ObjectMapper());
+
+	@Test
+	@DisplayName("keepalive 메시지 바이트 비교")
+	public void isKeepalive() {
+		ByteBuffer keepalive = ByteBuffer.wrap("{\"status\":\"UP\"}".getBytes(StandardCharsets.UTF_8));
+		ByteBuffer other = ByteBuffer.wrap("{\"status\":\"DN\"}".getBytes(StandardCharsets.UTF_8));
+
+		assertTrue(codec.isKeepalive(keepalive));
+		assertFalse(codec.isKeepalive(other));
+		// position이 변경되지 않아야 함
+		assertEquals(0, keepalive.position());
+	}
+
+	@Test
+	@DisplayName("ByteBuffer의 position/offset을 고려하여 파싱")
+	public void decodeFromSlicedBuffer() throws Exception {
+		// given: 앞뒤에 다른 바이트가 있는 버퍼의 일부 구간
+		String json = "{\"ty\":\"orderbook\",\"cd\":\"KRW-BTC\",\"tms\":1704867306396,\"tas\":1.0,\"tbs\":2.0,"
+			+ "\"obu\":[{\"ap\":100.0,\"bp\":90.0,\"as\":1.0,\"bs\":2.0}],\"st\":\"REALTIME\",\"lv\":0}";
+		byte[] body = json.getBytes(StandardCharsets.UTF_8);
+		byte[] framed = new byte[body.length + 8];
+		System.arraycopy(body, 0, framed, 4, body.length);
+		ByteBuffer payload = ByteBuffer.wrap(framed, 4, body.length).slice();
+
+		// when
+		UpbitWebSocketOrderbookDto dto = codec.decodeOrderbook(payload);
+
+		// then
+		assertEquals("KRW-BTC", dto.getCode());
+		assertEquals(1, dto.getOrderbookUnits().size());
+		assertEquals(100.0, dto.getOrderbookUnits().getAskPrice(0));
+		assertEquals(2.0, dto.getOrderbookUnits().getBidSize(0));
+		assertEquals(0, payload.position());
+	}
+}
@@ -1,9 +1,11 @@
 package com.coing.infra.upbit.handler;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -11,7 +13,6 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -20,6 +21,11 @@ import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.BinaryWebSocketHandler;
 
+import com.coing.infra.upbit.codec.UpbitMessageCodec;
+import com.coing.infra.upbit.enums.EnumUpbitRequestType;
+import com.coing.infra.upbit.util.UpbitRequestBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 @ExtendWith(MockitoExtension.class)
 public class UpbitWebSocketHandlerTest {
 
@@ -32,7 +38,6 @@ public class UpbitWebSocketHandlerTest {
     @Mock
     private BinaryWebSocketHandler handler2;
 
-	@InjectMocks
     private UpbitWebSocketHandler handler;
 
     @BeforeEach
@@ -103,4 +108,56 @@ public class UpbitWebSocketHandlerTest {
         verify(handler2, times(1)).afterConnectionClosed(session, status);
     }
 
+	@Test
+	@DisplayName("multiplexed 모드 - ty 필드 기준으로 라우팅")
+	public void routeByTypeWhenMultiplexed() throws Exception {
+		// given
+		UpbitMessageProcessor tickerProcessor = mock(UpbitMessageProcessor.class);
+		UpbitMessageProcessor tradeProcessor = mock(UpbitMessageProcessor.class);
+		when(tickerProcessor.getRequestType()).thenReturn(EnumUpbitRequestType.TICKER);
+		when(tradeProcessor.getRequestType()).thenReturn(EnumUpbitRequestType.TRADE);
+		UpbitWebSocketHandler multiplexed = new UpbitWebSocketHandler(
+			List.of(tickerProcessor, tradeProcessor),
+			new UpbitMessageCodec(new ObjectMapper()),
+			mock(UpbitRequestBuilder.class));
+		BinaryMessage message = new BinaryMessage(
+			ByteBuffer.wrap("{\"ty\":\"trade\",\"cd\":\"KRW-BTC\"}".getBytes(StandardCharsets.UTF_8)));
+
+		// when
+		multiplexed.handleMessage(session, message);
+
+		// then
+		verify(tradeProcessor, times(1)).processMessage(any(ByteBuffer.class));
+		verify(tickerProcessor, never()).processMessage(any(ByteBuffer.class));
+	}
+
+	@Test
+	@DisplayName("sharded 모드 - 배정된 마켓이 없으면 구독하지 않고 idle, 마켓을 배정받아 재구독하면 해제")
+	public void idleWhenShardHasNoMarkets() throws Exception {
+		// given
+		UpbitMessageProcessor tickerProcessor = mock(UpbitMessageProcessor.class);
+		when(tickerProcessor.getRequestType()).thenReturn(EnumUpbitRequestType.TICKER);
+		UpbitRequestBuilder requestBuilder = mock(UpbitRequestBuilder.class);
+		when(requestBuilder.makeRequest(anyList(), anyList())).thenReturn("[]");
+		List<String> assigned = new ArrayList<>();
+		UpbitWebSocketHandler shard = new UpbitWebSocketHandler(
+			List.of(tickerProcessor), new UpbitMessageCodec(new ObjectMapper()), requestBuilder, () -> assigned);
+
+		// when: 빈 Shard로 연결
+		shard.afterConnectionEstablished(session);
+
+		// then
+		assertTrue(shard.isIdle());
+		verify(session, never()).sendMessage(any());
+
+		// when: 마켓을 배정받아 재구독
+		assigned.add("KRW-BTC");
+		shard.resubscribe(session);
+
+		// then
+		assertFalse(shard.isIdle());
+		assertTrue(shard.getSubscribedAt() > 0);
+		verify(session, times(1)).sendMessage(any());
+	}
+
 }
@@ -12,14 +12,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.web.socket.BinaryMessage;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 
 import com.coing.infra.upbit.adapter.UpbitDataService;
+import com.coing.infra.upbit.codec.UpbitMessageCodec;
 import com.coing.infra.upbit.dto.UpbitWebSocketOrderbookDto;
+import com.coing.infra.upbit.enums.EnumUpbitRequestType;
 import com.coing.infra.upbit.util.UpbitRequestBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 @ExtendWith(MockitoExtension.class)
 public class UpbitWebSocketOrderbookHandlerTest {
@@ -33,6 +37,9 @@ public class UpbitWebSocketOrderbookHandlerTest {
 	@Mock
 	private UpbitRequestBuilder upbitRequestBuilder;
 
+	@Spy
+	private UpbitMessageCodec upbitMessageCodec = new UpbitMessageCodec(new ObjectMapper());
+
 	@InjectMocks
 	private UpbitWebSocketOrderbookHandler handler;
 
@@ -40,7 +47,7 @@ public class UpbitWebSocketOrderbookHandlerTest {
 	@DisplayName("afterConnectionEstablished() 성공")
 	public void successAfterConnectionEstablished() throws Exception {
 		// given
-		when(upbitRequestBuilder.makeRequest(any())).thenReturn("[{\"ticket\":\"orderbook\"}]");
+		when(upbitRequestBuilder.makeRequest(any(EnumUpbitRequestType.class))).thenReturn("[{\"ticket\":\"orderbook\"}]");
 
 		// when
 		handler.afterConnectionEstablished(session);
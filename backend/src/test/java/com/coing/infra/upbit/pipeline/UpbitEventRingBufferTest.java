@@ -0,0 +1,73 @@
+package com.coing.infra.upbit.pipeline;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.coing.infra.upbit.enums.EnumUpbitRequestType;
+import com.coing.infra.upbit.enums.EnumUpbitWaitStrategy;
+
+public class UpbitEventRingBufferTest {
+
+	@Test
+	@DisplayName("발행한 순서대로 consumer 스레드에서 처리")
+	public void publishAndConsumeInOrder() {
+		// given
+		List<Object> consumed = new CopyOnWriteArrayList<>();
+		UpbitEventRingBuffer ringBuffer = new UpbitEventRingBuffer("test-ring", 16, EnumUpbitWaitStrategy.BLOCKING,
+			event -> consumed.add(event.getPayload()));
+		ringBuffer.start();
+
+		// when
+		for (int i = 0; i < 100; i++) {
+			assertTrue(ringBuffer.publish(EnumUpbitRequestType.TICKER, i));
+			Awaitility.await().atMost(1, TimeUnit.SECONDS).until(() -> ringBuffer.getOccupancy() < 8);
+		}
+
+		// then
+		Awaitility.await().atMost(1, TimeUnit.SECONDS).until(() -> consumed.size() == 100);
+		for (int i = 0; i < 100; i++) {
+			assertEquals(i, consumed.get(i));
+		}
+		assertEquals(0, ringBuffer.getDroppedCount());
+		ringBuffer.stop();
+	}
+
+	@Test
+	@DisplayName("Ring이 가득 찬 경우 이벤트를 버리고 dropped 카운트 증가")
+	public void dropWhenFull() throws Exception {
+		// given: consumer가 처리하지 못하도록 대기
+		CountDownLatch release = new CountDownLatch(1);
+		UpbitEventRingBuffer ringBuffer = new UpbitEventRingBuffer("test-ring", 4, EnumUpbitWaitStrategy.SLEEPING,
+			event -> {
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+		ringBuffer.start();
+
+		// when
+		int accepted = 0;
+		for (int i = 0; i < 10; i++) {
+			if (ringBuffer.publish(EnumUpbitRequestType.TRADE, i)) {
+				accepted++;
+			}
+		}
+		release.countDown();
+
+		// then
+		assertEquals(4, ringBuffer.getCapacity());
+		assertEquals(10, accepted + ringBuffer.getDroppedCount());
+		assertTrue(ringBuffer.getDroppedCount() > 0);
+		ringBuffer.stop();
+	}
+}
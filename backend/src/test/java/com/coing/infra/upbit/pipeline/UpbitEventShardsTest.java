@@ -0,0 +1,55 @@
+package com.coing.infra.upbit.pipeline;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.coing.infra.upbit.enums.EnumUpbitRequestType;
+import com.coing.infra.upbit.enums.EnumUpbitWaitStrategy;
+
+public class UpbitEventShardsTest {
+
+	@Test
+	@DisplayName("같은 마켓 이벤트는 같은 Shard 스레드에서 순서대로 처리")
+	public void sameMarketSameThreadInOrder() {
+		// given
+		List<String> markets = List.of("KRW-BTC", "KRW-ETH", "KRW-XRP", "BTC-ETH", "USDT-BTC");
+		Map<String, List<Integer>> consumed = new ConcurrentHashMap<>();
+		Map<String, String> threads = new ConcurrentHashMap<>();
+		UpbitEventShards shards = new UpbitEventShards("test-shard", 3, 1024, EnumUpbitWaitStrategy.BLOCKING,
+			event -> {
+				String[] payload = ((String)event.getPayload()).split(":");
+				threads.merge(payload[0], Thread.currentThread().getName(),
+					(prev, cur) -> prev.equals(cur) ? prev : "mixed");
+				consumed.computeIfAbsent(payload[0], k -> new CopyOnWriteArrayList<>()).add(Integer.parseInt(payload[1]));
+			});
+		shards.start();
+
+		// when
+		for (int i = 0; i < 100; i++) {
+			for (String market : markets) {
+				assertTrue(shards.publish(EnumUpbitRequestType.TRADE, market, market + ":" + i));
+			}
+		}
+
+		// then
+		Awaitility.await().atMost(2, TimeUnit.SECONDS)
+			.until(() -> markets.stream().allMatch(m -> consumed.containsKey(m) && consumed.get(m).size() == 100));
+		for (String market : markets) {
+			List<Integer> values = consumed.get(market);
+			for (int i = 0; i < 100; i++) {
+				assertEquals(i, values.get(i));
+			}
+			assertEquals("test-shard-" + shards.shardOf(market), threads.get(market));
+		}
+		shards.stop();
+	}
+}
@@ -0,0 +1,40 @@
+package com.coing.infra.upbit.pipeline;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.coing.infra.upbit.enums.EnumUpbitRequestType;
+
+public class UpbitStreamDeduplicatorTest {
+
+	@Test
+	@DisplayName("standby 사용 시 같은 타임스탬프 이전 메시지는 중복으로 제외")
+	public void dropDuplicatedTimestamp() {
+		// given
+		UpbitStreamDeduplicator deduplicator = new UpbitStreamDeduplicator();
+		ReflectionTestUtils.setField(deduplicator, "enabled", true);
+
+		// when & then
+		assertTrue(deduplicator.isFresh(EnumUpbitRequestType.ORDERBOOK, "KRW-BTC", 1000L));
+		assertFalse(deduplicator.isFresh(EnumUpbitRequestType.ORDERBOOK, "KRW-BTC", 1000L));
+		assertFalse(deduplicator.isFresh(EnumUpbitRequestType.ORDERBOOK, "KRW-BTC", 999L));
+		assertTrue(deduplicator.isFresh(EnumUpbitRequestType.ORDERBOOK, "KRW-ETH", 1000L));
+		assertTrue(deduplicator.isFresh(EnumUpbitRequestType.TICKER, "KRW-BTC", 1000L));
+		assertTrue(deduplicator.isFresh(EnumUpbitRequestType.ORDERBOOK, "KRW-BTC", 1001L));
+		assertEquals(2, deduplicator.getDuplicateCount());
+	}
+
+	@Test
+	@DisplayName("standby 미사용 시 모든 메시지 통과")
+	public void passThroughWhenDisabled() {
+		// given
+		UpbitStreamDeduplicator deduplicator = new UpbitStreamDeduplicator();
+
+		// when & then
+		assertTrue(deduplicator.isFresh(EnumUpbitRequestType.ORDERBOOK, "KRW-BTC", 1000L));
+		assertTrue(deduplicator.isFresh(EnumUpbitRequestType.ORDERBOOK, "KRW-BTC", 1000L));
+	}
+}
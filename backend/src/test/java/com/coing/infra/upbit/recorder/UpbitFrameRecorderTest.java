@@ -0,0 +1,54 @@
+package com.coing.infra.upbit.recorder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class UpbitFrameRecorderTest {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	@DisplayName("녹화한 프레임을 Segment 순서대로 다시 읽기")
+	public void recordAndRead() throws Exception {
+		// given: 여러 Segment로 나뉘도록 작은 Segment 크기 사용
+		UpbitFrameRecorder recorder = new UpbitFrameRecorder(directory.toString(), 512);
+		recorder.start();
+
+		// when
+		int total = 40;
+		for (int i = 0; i < total; i++) {
+			ByteBuffer payload = ByteBuffer.wrap(("{\"ty\":\"trade\",\"sid\":" + i + "}").getBytes(StandardCharsets.UTF_8));
+			recorder.record(payload);
+			// payload의 position이 변경되지 않아야 함
+			assertEquals(0, payload.position());
+			Thread.sleep(5);
+		}
+		recorder.stop();
+
+		// then
+		assertEquals(total, recorder.getRecordedCount() + recorder.getDroppedCount());
+		int read = 0;
+		int lastId = -1;
+		try (UpbitFrameReader reader = UpbitFrameReader.open(directory)) {
+			while (reader.hasNext()) {
+				UpbitRecordedFrame frame = reader.next();
+				String json = StandardCharsets.UTF_8.decode(frame.getPayload()).toString();
+				int id = Integer.parseInt(json.substring(json.indexOf("\"sid\":") + 6, json.length() - 1));
+				assertTrue(id > lastId);
+				assertTrue(frame.getReceivedAt() > 0);
+				lastId = id;
+				read++;
+			}
+		}
+		assertEquals(recorder.getRecordedCount(), read);
+		assertTrue(read > 0);
+	}
+}
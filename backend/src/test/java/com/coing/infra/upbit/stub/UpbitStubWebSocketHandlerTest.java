@@ -0,0 +1,126 @@
+package com.coing.infra.upbit.stub;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import com.coing.infra.upbit.codec.UpbitMessageCodec;
+import com.coing.infra.upbit.recorder.UpbitFrameRecorder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class UpbitStubWebSocketHandlerTest {
+
+	@TempDir
+	Path directory;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final Queue<String> received = new ConcurrentLinkedQueue<>();
+	private final AtomicBoolean sending = new AtomicBoolean();
+	private final AtomicBoolean concurrentSend = new AtomicBoolean();
+	private UpbitStubWebSocketHandler handler;
+	private WebSocketSession session;
+
+	@BeforeEach
+	public void setUp() throws Exception {
+		handler = new UpbitStubWebSocketHandler(objectMapper, new UpbitMessageCodec(objectMapper));
+		ReflectionTestUtils.setField(handler, "messagesPerSecond", 5000);
+
+		// 컨테이너처럼 한 세션에 동시에 전송하면 IllegalStateException 발생
+		session = mock(WebSocketSession.class);
+		when(session.getId()).thenReturn("stub-session");
+		when(session.isOpen()).thenReturn(true);
+		doAnswer(invocation -> {
+			if (!sending.compareAndSet(false, true)) {
+				concurrentSend.set(true);
+				throw new IllegalStateException("TEXT_PARTIAL_WRITING");
+			}
+			try {
+				LockSupport.parkNanos(50_000);
+				WebSocketMessage<?> message = invocation.getArgument(0);
+				ByteBuffer payload = (ByteBuffer)message.getPayload();
+				received.add(StandardCharsets.UTF_8.decode(payload.duplicate()).toString());
+				return null;
+			} finally {
+				sending.set(false);
+			}
+		}).when(session).sendMessage(any(BinaryMessage.class));
+	}
+
+	@AfterEach
+	public void tearDown() {
+		handler.afterConnectionClosed(session, CloseStatus.NORMAL);
+	}
+
+	@Test
+	@DisplayName("열린 세션에서 다시 구독하면 이전 스트림 종료 후 새 구독 마켓의 프레임을 계속 전송")
+	public void resubscribeOnOpenSession() throws Exception {
+		// given
+		handler.handleTextMessage(session, subscribe("ticker", "KRW-BTC"));
+		Awaitility.await().atMost(2, TimeUnit.SECONDS).until(() -> !received.isEmpty());
+
+		// when
+		for (int i = 0; i < 5; i++) {
+			handler.handleTextMessage(session, subscribe("ticker", "KRW-ETH"));
+		}
+		received.clear();
+
+		// then
+		Awaitility.await().atMost(2, TimeUnit.SECONDS).until(() -> received.size() > 100);
+		assertFalse(concurrentSend.get());
+		assertTrue(received.stream().allMatch(frame -> frame.contains("KRW-ETH")));
+		assertEquals(1, handler.getSessionCount());
+	}
+
+	@Test
+	@DisplayName("녹화 재생 시 구독한 타입과 마켓의 프레임만 전송")
+	public void replayFiltersSubscribedMarkets() throws Exception {
+		// given
+		UpbitFrameRecorder recorder = new UpbitFrameRecorder(directory.toString(), 4096);
+		recorder.start();
+		for (int i = 0; i < 20; i++) {
+			for (String code : List.of("KRW-BTC", "KRW-ETH")) {
+				recorder.record(ByteBuffer.wrap(("{\"ty\":\"trade\",\"cd\":\"" + code + "\",\"sid\":" + i + "}")
+					.getBytes(StandardCharsets.UTF_8)));
+			}
+			Thread.sleep(5);
+		}
+		recorder.stop();
+		ReflectionTestUtils.setField(handler, "replayDirectory", directory.toString());
+		ReflectionTestUtils.setField(handler, "replayLimit", 1000);
+		handler.loadReplayFrames();
+
+		// when
+		handler.handleTextMessage(session, subscribe("trade", "KRW-ETH"));
+
+		// then
+		Awaitility.await().atMost(2, TimeUnit.SECONDS).until(() -> received.size() > 10);
+		assertTrue(received.stream().allMatch(frame -> frame.contains("KRW-ETH")));
+	}
+
+	private TextMessage subscribe(String type, String code) {
+		return new TextMessage("[{\"ticket\":\"test\"},{\"type\":\"" + type + "\",\"codes\":[\"" + code
+			+ "\"]},{\"format\":\"SIMPLE\"}]");
+	}
+}
@@ -0,0 +1,42 @@
+package com.coing.infra.upbit.subscription;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.coing.infra.upbit.enums.EnumUpbitRequestType;
+
+public class UpbitMarketRateTrackerTest {
+
+	@Test
+	@DisplayName("sharded 모드에서만 마켓별 수신 메시지 수 집계")
+	public void recordOnlyWhenSharded() {
+		// given
+		UpbitMarketRateTracker single = tracker(1, false);
+		UpbitMarketRateTracker multiplexed = tracker(4, true);
+		UpbitMarketRateTracker sharded = tracker(4, false);
+
+		// when
+		for (UpbitMarketRateTracker tracker : new UpbitMarketRateTracker[] {single, multiplexed, sharded}) {
+			tracker.record(EnumUpbitRequestType.TRADE, "KRW-BTC");
+			tracker.record(EnumUpbitRequestType.TRADE, "KRW-BTC");
+		}
+
+		// then
+		assertTrue(single.drainCounts(EnumUpbitRequestType.TRADE).isEmpty());
+		assertTrue(multiplexed.drainCounts(EnumUpbitRequestType.TRADE).isEmpty());
+		assertEquals(Map.of("KRW-BTC", 2L), sharded.drainCounts(EnumUpbitRequestType.TRADE));
+		assertEquals(Map.of("KRW-BTC", 0L), sharded.drainCounts(EnumUpbitRequestType.TRADE));
+	}
+
+	private static UpbitMarketRateTracker tracker(int shards, boolean multiplexed) {
+		UpbitMarketRateTracker tracker = new UpbitMarketRateTracker();
+		ReflectionTestUtils.setField(tracker, "connectionShards", shards);
+		ReflectionTestUtils.setField(tracker, "multiplexed", multiplexed);
+		return tracker;
+	}
+}
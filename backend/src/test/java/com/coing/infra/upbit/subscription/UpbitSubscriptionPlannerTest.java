@@ -0,0 +1,95 @@
+package com.coing.infra.upbit.subscription;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class UpbitSubscriptionPlannerTest {
+
+	@Test
+	@DisplayName("관측값이 없으면 마켓 수 기준으로 균등 분배")
+	public void partitionWithoutWeights() {
+		// given
+		List<String> codes = List.of("KRW-BTC", "KRW-ETH", "KRW-XRP", "KRW-SOL", "KRW-DOGE");
+
+		// when
+		List<List<String>> shards = UpbitSubscriptionPlanner.partition(codes, Map.of(), 2);
+
+		// then
+		assertEquals(2, shards.size());
+		assertEquals(5, shards.get(0).size() + shards.get(1).size());
+		assertTrue(Math.abs(shards.get(0).size() - shards.get(1).size()) <= 1);
+	}
+
+	@Test
+	@DisplayName("메시지 수가 많은 마켓은 서로 다른 Shard에 배정")
+	public void partitionByObservedRate() {
+		// given
+		List<String> codes = List.of("KRW-BTC", "KRW-ETH", "KRW-XRP", "KRW-SOL");
+		Map<String, Long> weights = Map.of("KRW-BTC", 1000L, "KRW-ETH", 900L, "KRW-XRP", 100L, "KRW-SOL", 50L);
+
+		// when
+		List<List<String>> shards = UpbitSubscriptionPlanner.partition(codes, weights, 2);
+
+		// then
+		assertFalse(shards.get(0).contains("KRW-BTC") && shards.get(0).contains("KRW-ETH"));
+		assertFalse(shards.get(1).contains("KRW-BTC") && shards.get(1).contains("KRW-ETH"));
+		assertTrue(UpbitSubscriptionPlanner.imbalance(shards, weights) < 1.1);
+	}
+
+	@Test
+	@DisplayName("한 Shard에 부하가 몰리면 불균형 값이 커짐")
+	public void imbalance() {
+		// given
+		Map<String, Long> weights = Map.of("KRW-BTC", 1000L, "KRW-ETH", 900L, "KRW-XRP", 10L);
+		List<List<String>> skewed = List.of(List.of("KRW-BTC", "KRW-ETH"), List.of("KRW-XRP"));
+
+		// when
+		double imbalance = UpbitSubscriptionPlanner.imbalance(skewed, weights);
+
+		// then
+		assertTrue(imbalance > 1.9);
+	}
+
+	@Test
+	@DisplayName("마켓 목록 변경 시 기존 분배를 유지하고 변경분만 반영")
+	public void applyChanges() {
+		// given
+		List<List<String>> current = List.of(
+			List.of("KRW-BTC", "KRW-ETH"),
+			List.of("KRW-XRP", "KRW-SOL"),
+			List.of("KRW-DOGE", "KRW-ADA")
+		);
+
+		// when: KRW-XRP 상장 폐지, KRW-NEW 신규 상장
+		List<List<String>> next = UpbitSubscriptionPlanner.applyChanges(
+			current, List.of("KRW-NEW"), List.of("KRW-XRP"));
+
+		// then: 마켓 수가 줄어든 Shard에 신규 마켓 배정, 나머지 Shard는 그대로
+		assertEquals(current.get(0), next.get(0));
+		assertEquals(List.of("KRW-SOL", "KRW-NEW"), next.get(1));
+		assertEquals(current.get(2), next.get(2));
+	}
+
+	@Test
+	@DisplayName("배정 순서만 다른 Shard는 같은 구성으로 판단")
+	public void sameMarkets() {
+		// given
+		Map<String, Long> before = Map.of("KRW-BTC", 10L, "KRW-ETH", 20L);
+		Map<String, Long> after = Map.of("KRW-BTC", 20L, "KRW-ETH", 10L);
+		List<String> codes = List.of("KRW-BTC", "KRW-ETH");
+
+		// when: 가중치 순위만 바뀌어 같은 Shard 안의 순서가 달라짐
+		List<String> current = UpbitSubscriptionPlanner.partition(codes, before, 1).get(0);
+		List<String> next = UpbitSubscriptionPlanner.partition(codes, after, 1).get(0);
+
+		// then
+		assertNotEquals(current, next);
+		assertTrue(UpbitSubscriptionPlanner.sameMarkets(current, next));
+		assertFalse(UpbitSubscriptionPlanner.sameMarkets(current, List.of("KRW-BTC", "KRW-XRP")));
+	}
+}